@@ -1,4 +1,5 @@
 require 'asciidoctor/extensions'
+require 'json'
 require 'stringio'
 require 'asciidoctor/logging'
 
@@ -9,12 +10,19 @@ require 'asciidoctor/logging'
 #
 #   operation::operation-name[snippets='snippet-name1,snippet-name2']
 #
+# When the snippets directory contains a manifest (snippets-manifest.jsonl), it
+# is read once per document and used to find the snippets of each operation.
+# Operations that are not listed in the manifest are found by listing their
+# directory. The manifest is ignored if the snippets directory has been modified
+# since it was written.
+#
 class OperationBlockMacro < Asciidoctor::Extensions::BlockMacroProcessor
   use_dsl
   named :operation
   include Asciidoctor::Logging
 
   def process(parent, operation, attributes)
+    reset_caches parent.document
     snippets_dir = parent.document.attributes['snippets'].to_s
     snippet_names = attributes.fetch 'snippets', ''
     operation = parent.sub_attributes operation
@@ -25,6 +33,15 @@ class OperationBlockMacro < Asciidoctor::Extensions::BlockMacroProcessor
     nil
   end
 
+  # Manifests and snippet contents are cached for the document that is being
+  # converted
+  def reset_caches(doc)
+    return if @document.equal? doc
+    @document = doc
+    @manifests = {}
+    @snippets = {}
+  end
+
   def read_snippets(snippets_dir, snippet_names, parent, operation,
                     snippet_titles)
     snippets = snippets_to_include(snippet_names, snippets_dir, operation)
@@ -82,6 +99,12 @@ class OperationBlockMacro < Asciidoctor::Extensions::BlockMacroProcessor
 
   def all_snippets(snippets_dir, operation)
     operation_dir = File.join snippets_dir, operation
+    listed = manifest(snippets_dir)[operation]
+    unless listed.nil?
+      return listed.keys.sort.map do |file|
+        Snippet.new(File.join(operation_dir, file), file[0..-6])
+      end
+    end
     return [] unless Dir.exist? operation_dir
     Dir.entries(operation_dir)
        .sort
@@ -95,9 +118,47 @@ class OperationBlockMacro < Asciidoctor::Extensions::BlockMacroProcessor
     write_content content, snippet, operation, parent
   end
 
+  # Returns a hash of operation name to a hash of snippet file name to manifest
+  # entry. The hash is empty if the snippets directory has no manifest
+  def manifest(snippets_dir)
+    @manifests[snippets_dir] ||= read_manifest snippets_dir
+  end
+
+  # The manifest is validated once per document. It is trusted unless the
+  # snippets directory has been modified since it was written, for example
+  # because an operation was documented by a writer that does not maintain it.
+  # The content of the snippets that it lists is always read from their files
+  def read_manifest(snippets_dir)
+    operations = {}
+    path = File.join snippets_dir, 'snippets-manifest.jsonl'
+    return operations unless File.file? path
+    return operations if File.mtime(snippets_dir) > File.mtime(path)
+    File.foreach(path, :encoding => 'UTF-8') do |line|
+      next if line.strip.empty?
+      entry = JSON.parse line
+      file = entry['file']
+      next unless file.end_with? '.adoc'
+      (operations[entry['operation']] ||= {})[file] = entry
+    end
+    operations
+  rescue SystemCallError
+    {}
+  end
+
+  # Returns the content of the snippet, or nil if it cannot be read
+  def read_snippet(snippet)
+    return @snippets[snippet.path] if @snippets.key? snippet.path
+    @snippets[snippet.path] = begin
+      File.read(snippet.path, :mode => 'r:UTF-8')
+    rescue SystemCallError
+      nil
+    end
+  end
+
   def write_content(content, snippet, operation, parent)
-    if File.file? snippet.path
-      content.puts File.readlines(snippet.path, :encoding => 'UTF-8').join
+    snippet_content = read_snippet snippet
+    if snippet_content
+      content.puts snippet_content
     else
       location = parent.document.reader.cursor_at_mark
       logger.warn message_with_context "Snippet #{snippet.name} not found at #{snippet.path} for"\
@@ -77,6 +77,7 @@ abstract class AbstractOperationBlockMacroTests {
 		File destination = new File(buildOutputLocation, "generated-snippets/some-operation");
 		destination.mkdirs();
 		FileSystemUtils.copyRecursively(new File("src/test/resources/some-operation"), destination);
+		Files.deleteIfExists(new File(buildOutputLocation, "generated-snippets/snippets-manifest.jsonl").toPath());
 	}
 
 	@Test
@@ -165,6 +166,21 @@ abstract class AbstractOperationBlockMacroTests {
 		assertThat(result).isEqualTo(getExpectedContentFromFile("all-snippets"));
 	}
 
+	@Test
+	void useMacroWithoutSnippetAttributeAddsAllSnippetsListedInManifest() throws Exception {
+		writeManifest("{\"operation\":\"some-operation\",\"name\":\"http-request\",\"file\":\"http-request.adoc\"}",
+				"{\"operation\":\"some-operation\",\"name\":\"curl-request\",\"file\":\"curl-request.adoc\"}");
+		String result = this.asciidoctor.convert("operation::some-operation[]", this.options);
+		assertThat(result).isEqualTo(getExpectedContentFromFile("multiple-snippets"));
+	}
+
+	@Test
+	void useMacroWithoutSnippetAttributeForOperationNotInManifestAddsAllSnippets() throws Exception {
+		writeManifest("{\"operation\":\"other-operation\",\"name\":\"http-request\",\"file\":\"http-request.adoc\"}");
+		String result = this.asciidoctor.convert("operation::some-operation[]", this.options);
+		assertThat(result).isEqualTo(getExpectedContentFromFile("all-snippets"));
+	}
+
 	@Test
 	void includingMissingSnippetAddsWarning() throws Exception {
 		String result = this.asciidoctor.convert("operation::some-operation[snippets='missing-snippet']", this.options);
@@ -207,6 +223,24 @@ abstract class AbstractOperationBlockMacroTests {
 		assertThat(result).isEqualTo(getExpectedContentFromFile("custom-snippet-custom-title"));
 	}
 
+	@Test
+	void useMacroWithoutSnippetAttributeWhenSnippetsDirectoryModifiedSinceManifestWasWrittenAddsAllSnippets()
+			throws Exception {
+		writeManifest("{\"operation\":\"some-operation\",\"name\":\"http-request\",\"file\":\"http-request.adoc\"}");
+		File manifest = new File(getBuildOutputLocation(), "generated-snippets/snippets-manifest.jsonl");
+		File snippetsDirectory = new File(getBuildOutputLocation(), "generated-snippets");
+		assertThat(manifest.setLastModified(snippetsDirectory.lastModified() - 60000)).isTrue();
+		String result = this.asciidoctor.convert("operation::some-operation[]", this.options);
+		assertThat(result).isEqualTo(getExpectedContentFromFile("all-snippets"));
+	}
+
+	private void writeManifest(String... entries) throws IOException {
+		File manifest = new File(getBuildOutputLocation(), "generated-snippets/snippets-manifest.jsonl");
+		Files.write(manifest.toPath(), List.of(entries));
+		File snippetsDirectory = new File(getBuildOutputLocation(), "generated-snippets");
+		assertThat(manifest.setLastModified(snippetsDirectory.lastModified() + 60000)).isTrue();
+	}
+
 	private String getExpectedContentFromFile(String fileName) throws URISyntaxException, IOException {
 		Path filePath = Paths.get(this.getClass().getResource("/operations/" + fileName + ".html").toURI());
 		String content = new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
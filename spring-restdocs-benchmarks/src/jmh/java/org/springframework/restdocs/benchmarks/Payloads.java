@@ -0,0 +1,93 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Factory for the JSON and XML payloads that are used by the benchmarks. Each payload
+ * describes a page of items, with the number of items controlling its size.
+ *
+ * @author Andy Wilkinson
+ */
+public final class Payloads {
+
+	private static final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+	private Payloads() {
+
+	}
+
+	/**
+	 * Creates a JSON payload containing the given number of items.
+	 * @param items the number of items
+	 * @return the payload
+	 */
+	public static byte[] json(int items) {
+		List<Map<String, Object>> content = new ArrayList<>();
+		for (int i = 0; i < items; i++) {
+			Map<String, Object> details = new LinkedHashMap<>();
+			details.put("description", "Description of item " + i);
+			details.put("price", i * 1.5);
+			Map<String, Object> item = new LinkedHashMap<>();
+			item.put("id", i);
+			item.put("name", "item-" + i);
+			item.put("active", i % 2 == 0);
+			item.put("tags", Arrays.asList("alpha", "bravo", "charlie"));
+			item.put("details", details);
+			content.add(item);
+		}
+		Map<String, Object> page = new LinkedHashMap<>();
+		page.put("size", items);
+		page.put("number", 0);
+		Map<String, Object> payload = new LinkedHashMap<>();
+		payload.put("items", content);
+		payload.put("page", page);
+		return objectMapper.writeValueAsBytes(payload);
+	}
+
+	/**
+	 * Creates an XML payload containing the given number of items.
+	 * @param items the number of items
+	 * @return the payload
+	 */
+	public static byte[] xml(int items) {
+		StringBuilder payload = new StringBuilder("<page><items>");
+		for (int i = 0; i < items; i++) {
+			payload.append("<item id=\"").append(i).append("\">");
+			payload.append("<name>item-").append(i).append("</name>");
+			payload.append("<active>").append(i % 2 == 0).append("</active>");
+			payload.append("<details><description>Description of item ")
+				.append(i)
+				.append("</description><price>")
+				.append(i * 1.5)
+				.append("</price></details>");
+			payload.append("</item>");
+		}
+		payload.append("</items><size>").append(items).append("</size></page>");
+		return payload.toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+}
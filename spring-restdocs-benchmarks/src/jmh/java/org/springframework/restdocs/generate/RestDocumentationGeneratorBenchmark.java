@@ -0,0 +1,135 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.generate;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.samskivert.mustache.Mustache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.ManualRestDocumentation;
+import org.springframework.restdocs.RestDocumentationContext;
+import org.springframework.restdocs.benchmarks.Payloads;
+import org.springframework.restdocs.cli.CliDocumentation;
+import org.springframework.restdocs.http.HttpDocumentation;
+import org.springframework.restdocs.operation.OperationRequest;
+import org.springframework.restdocs.operation.OperationRequestFactory;
+import org.springframework.restdocs.operation.OperationResponse;
+import org.springframework.restdocs.operation.OperationResponseFactory;
+import org.springframework.restdocs.payload.PayloadDocumentation;
+import org.springframework.restdocs.snippet.RestDocumentationContextPlaceholderResolverFactory;
+import org.springframework.restdocs.snippet.StandardWriterResolver;
+import org.springframework.restdocs.snippet.WriterResolver;
+import org.springframework.restdocs.templates.StandardTemplateResourceResolver;
+import org.springframework.restdocs.templates.TemplateEngine;
+import org.springframework.restdocs.templates.TemplateFormats;
+import org.springframework.restdocs.templates.mustache.AsciidoctorTableCellContentLambda;
+import org.springframework.restdocs.templates.mustache.MustacheTemplateEngine;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * End-to-end benchmarks for {@link RestDocumentationGenerator}, converting, documenting,
+ * and writing the snippets for a JSON request and response.
+ *
+ * @author Andy Wilkinson
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RestDocumentationGeneratorBenchmark {
+
+	@Param({ "10", "100", "1000" })
+	private int items;
+
+	private File outputDirectory;
+
+	private OperationRequest request;
+
+	private OperationResponse response;
+
+	private Map<String, Object> configuration;
+
+	private RestDocumentationGenerator<OperationRequest, OperationResponse> generator;
+
+	@Setup
+	public void setUp() throws IOException {
+		this.outputDirectory = Files.createTempDirectory("restdocs-benchmarks").toFile();
+		byte[] content = Payloads.json(this.items);
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.APPLICATION_JSON);
+		this.request = new OperationRequestFactory().create(URI.create("http://localhost:8080/items"),
+				HttpMethod.POST, content, headers, Collections.emptyList());
+		this.response = new OperationResponseFactory().create(HttpStatus.OK, headers, content);
+		ManualRestDocumentation restDocumentation = new ManualRestDocumentation(
+				this.outputDirectory.getAbsolutePath());
+		restDocumentation.beforeTest(getClass(), "handle");
+		RestDocumentationContext context = restDocumentation.beforeOperation();
+		this.configuration = new HashMap<>();
+		this.configuration.put(RestDocumentationContext.class.getName(), context);
+		this.configuration.put(TemplateEngine.class.getName(), new MustacheTemplateEngine(
+				new StandardTemplateResourceResolver(TemplateFormats.asciidoctor()), StandardCharsets.UTF_8,
+				Mustache.compiler().escapeHTML(false),
+				Collections.singletonMap("tableCellContent", new AsciidoctorTableCellContentLambda())));
+		this.configuration.put(WriterResolver.class.getName(),
+				new StandardWriterResolver(new RestDocumentationContextPlaceholderResolverFactory(), "UTF-8",
+						TemplateFormats.asciidoctor()));
+		this.configuration.put(RestDocumentationGenerator.ATTRIBUTE_NAME_DEFAULT_SNIPPETS,
+				Arrays.asList(CliDocumentation.curlRequest(), CliDocumentation.httpieRequest(),
+						HttpDocumentation.httpRequest(), HttpDocumentation.httpResponse(),
+						PayloadDocumentation.requestBody(), PayloadDocumentation.responseBody()));
+		this.generator = new RestDocumentationGenerator<>("{method-name}", (request) -> request,
+				(response) -> response, PayloadDocumentation.responseFields(
+						PayloadDocumentation.fieldWithPath("items[].id").description("ID"),
+						PayloadDocumentation.fieldWithPath("items[].name").description("Name"),
+						PayloadDocumentation.fieldWithPath("items[].active").description("Active"),
+						PayloadDocumentation.fieldWithPath("items[].tags[]").description("Tags"),
+						PayloadDocumentation.subsectionWithPath("items[].details").description("Details"),
+						PayloadDocumentation.subsectionWithPath("page").description("Page")));
+	}
+
+	@TearDown
+	public void tearDown() {
+		FileSystemUtils.deleteRecursively(this.outputDirectory);
+	}
+
+	@Benchmark
+	public void handle() {
+		this.generator.handle(this.request, this.response, this.configuration);
+	}
+
+}
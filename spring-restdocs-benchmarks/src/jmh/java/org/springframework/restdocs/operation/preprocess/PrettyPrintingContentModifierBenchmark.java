@@ -0,0 +1,73 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.operation.preprocess;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.benchmarks.Payloads;
+
+/**
+ * Benchmarks for {@link PrettyPrintingContentModifier}.
+ *
+ * @author Andy Wilkinson
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PrettyPrintingContentModifierBenchmark {
+
+	private final PrettyPrintingContentModifier contentModifier = new PrettyPrintingContentModifier();
+
+	@Param({ "10", "100", "1000" })
+	private int items;
+
+	private byte[] json;
+
+	private byte[] xml;
+
+	@Setup
+	public void setUp() {
+		this.json = Payloads.json(this.items);
+		this.xml = Payloads.xml(this.items);
+	}
+
+	@Benchmark
+	public byte[] prettyPrintJson() {
+		return this.contentModifier.modifyContent(this.json, MediaType.APPLICATION_JSON);
+	}
+
+	@Benchmark
+	public byte[] prettyPrintXml() {
+		return this.contentModifier.modifyContent(this.xml, MediaType.APPLICATION_XML);
+	}
+
+	@Benchmark
+	public byte[] prettyPrintJsonWithoutContentType() {
+		return this.contentModifier.modifyContent(this.json, null);
+	}
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.payload;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.restdocs.benchmarks.Payloads;
+
+/**
+ * Benchmarks for {@link JsonContentHandler}.
+ *
+ * @author Andy Wilkinson
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonContentHandlerBenchmark {
+
+	private static final List<FieldDescriptor> fieldDescriptors = Arrays.asList(
+			PayloadDocumentation.fieldWithPath("items[].id").description("ID"),
+			PayloadDocumentation.fieldWithPath("items[].name").description("Name"),
+			PayloadDocumentation.fieldWithPath("items[].active").description("Active"),
+			PayloadDocumentation.fieldWithPath("items[].tags[]").description("Tags"),
+			PayloadDocumentation.fieldWithPath("items[].details.description").description("Description"),
+			PayloadDocumentation.fieldWithPath("items[].details.price").description("Price"),
+			PayloadDocumentation.fieldWithPath("items[].discount").description("Discount").optional(),
+			PayloadDocumentation.fieldWithPath("items[].discount.amount").description("Discount amount"),
+			PayloadDocumentation.subsectionWithPath("page").description("Page"));
+
+	@Param({ "10", "100", "1000" })
+	private int items;
+
+	private byte[] content;
+
+	@Setup
+	public void setUp() {
+		this.content = Payloads.json(this.items);
+	}
+
+	@Benchmark
+	public List<FieldDescriptor> findMissingFields() {
+		return new JsonContentHandler(this.content, fieldDescriptors).findMissingFields();
+	}
+
+	@Benchmark
+	public String getUndocumentedContent() {
+		return new JsonContentHandler(this.content, fieldDescriptors.subList(0, 4)).getUndocumentedContent();
+	}
+
+	@Benchmark
+	public Object resolveFieldTypes() {
+		JsonContentHandler contentHandler = new JsonContentHandler(this.content, fieldDescriptors);
+		Object type = null;
+		for (FieldDescriptor fieldDescriptor : fieldDescriptors.subList(0, 6)) {
+			type = contentHandler.resolveFieldType(fieldDescriptor);
+		}
+		return type;
+	}
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.payload;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.restdocs.benchmarks.Payloads;
+import org.springframework.restdocs.payload.JsonFieldProcessor.ExtractedField;
+
+/**
+ * Benchmarks for {@link JsonFieldProcessor}.
+ *
+ * @author Andy Wilkinson
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonFieldProcessorBenchmark {
+
+	private final JsonFieldProcessor fieldProcessor = new JsonFieldProcessor();
+
+	@Param({ "10", "100", "1000" })
+	private int items;
+
+	private JsonPayload payload;
+
+	@Setup
+	public void setUp() {
+		this.payload = JsonPayload.parse(Payloads.json(this.items));
+	}
+
+	@Benchmark
+	public ExtractedField extractTopLevelField() {
+		return this.fieldProcessor.extract("page.size", this.payload.getContent());
+	}
+
+	@Benchmark
+	public ExtractedField extractFieldBeneathArray() {
+		return this.fieldProcessor.extract("items[].details.price", this.payload.getContent());
+	}
+
+	@Benchmark
+	public boolean hasFieldBeneathArray() {
+		return this.fieldProcessor.hasField("items[].details.price", this.payload.getContent());
+	}
+
+	@Benchmark
+	public Object mutableCopy() {
+		return this.payload.mutableCopy();
+	}
+
+	@Benchmark
+	public Object removeFieldBeneathArray() {
+		Object content = this.payload.mutableCopy();
+		this.fieldProcessor.remove("items[].details.price", content);
+		return content;
+	}
+
+	@Benchmark
+	public Object removeSubsection() {
+		Object content = this.payload.mutableCopy();
+		this.fieldProcessor.removeSubsection("items[].details", content);
+		return content;
+	}
+
+}
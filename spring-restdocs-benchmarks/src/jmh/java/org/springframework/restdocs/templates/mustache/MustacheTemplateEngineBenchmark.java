@@ -0,0 +1,96 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.templates.mustache;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.samskivert.mustache.Mustache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.restdocs.templates.StandardTemplateResourceResolver;
+import org.springframework.restdocs.templates.Template;
+import org.springframework.restdocs.templates.TemplateCacheMode;
+import org.springframework.restdocs.templates.TemplateFormats;
+
+/**
+ * Benchmarks for {@link MustacheTemplateEngine}.
+ *
+ * @author Andy Wilkinson
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MustacheTemplateEngineBenchmark {
+
+	private final MustacheTemplateEngine uncachedTemplateEngine = createTemplateEngine(TemplateCacheMode.DISABLED);
+
+	private final MustacheTemplateEngine cachedTemplateEngine = createTemplateEngine(TemplateCacheMode.ENABLED);
+
+	@Param({ "10", "100", "1000" })
+	private int fields;
+
+	private Map<String, Object> model;
+
+	@Setup
+	public void setUp() {
+		List<Map<String, Object>> descriptors = new ArrayList<>();
+		for (int i = 0; i < this.fields; i++) {
+			Map<String, Object> field = new HashMap<>();
+			field.put("path", "items[].field" + i);
+			field.put("type", "String");
+			field.put("description", "Description of field | " + i);
+			descriptors.add(field);
+		}
+		this.model = Collections.singletonMap("fields", descriptors);
+	}
+
+	@Benchmark
+	public Template compileTemplate() throws IOException {
+		return this.uncachedTemplateEngine.compileTemplate("response-fields");
+	}
+
+	@Benchmark
+	public Template compileCachedTemplate() throws IOException {
+		return this.cachedTemplateEngine.compileTemplate("response-fields");
+	}
+
+	@Benchmark
+	public String render() throws IOException {
+		return this.cachedTemplateEngine.compileTemplate("response-fields").render(this.model);
+	}
+
+	private static MustacheTemplateEngine createTemplateEngine(TemplateCacheMode cacheMode) {
+		return new MustacheTemplateEngine(new StandardTemplateResourceResolver(TemplateFormats.asciidoctor()),
+				StandardCharsets.UTF_8, Mustache.compiler().escapeHTML(false),
+				Collections.singletonMap("tableCellContent", new AsciidoctorTableCellContentLambda()), cacheMode);
+	}
+
+}
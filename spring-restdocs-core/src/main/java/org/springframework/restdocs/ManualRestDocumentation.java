@@ -17,6 +17,9 @@
 package org.springframework.restdocs;
 
 import java.io.File;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.extension.Extension;
@@ -30,6 +33,14 @@ import org.springframework.util.Assert;
  * <p>
  * Users of JUnit should use {@link RestDocumentationExtension} and take advantage of its
  * {@link Extension}-based support for automatic management of the context.
+ * <p>
+ * Contexts are tracked per thread so that a single instance can be shared by tests that
+ * are run in parallel, each on its own thread, for example when using TestNG's
+ * {@code parallel="methods"}. Each test's context has its own step count. When only a
+ * single test is running, its context is available on any thread. When several tests
+ * are running, {@link #afterTest()} must be called on the thread that called
+ * {@link #beforeTest(Class, String)}. The context of a test whose thread terminated
+ * without calling {@link #afterTest()} is cleared when the next test begins.
  *
  * @author Andy Wilkinson
  * @since 1.1.0
@@ -38,7 +49,7 @@ public final class ManualRestDocumentation implements RestDocumentationContextPr
 
 	private final File outputDirectory;
 
-	private @Nullable StandardRestDocumentationContext context;
+	private final Map<Thread, StandardRestDocumentationContext> contexts = new ConcurrentHashMap<>();
 
 	/**
 	 * Creates a new {@code ManualRestDocumentation} instance that will generate snippets
@@ -64,30 +75,75 @@ public final class ManualRestDocumentation implements RestDocumentationContextPr
 	/**
 	 * Notification that a test is about to begin. Creates a
 	 * {@link RestDocumentationContext} for the test on the given {@code testClass} with
-	 * the given {@code testMethodName}. Must be followed by a call to
-	 * {@link #afterTest()} once the test has completed.
+	 * the given {@code testMethodName} and associates it with the current thread. Must be
+	 * followed by a call to {@link #afterTest()} once the test has completed.
 	 * @param testClass the test class
 	 * @param testMethodName the name of the test method
 	 * @throws IllegalStateException if a context has already be created
 	 */
 	public void beforeTest(Class<?> testClass, String testMethodName) {
-		Assert.isNull(this.context, () -> "Context already exists. Did you forget to call afterTest()?");
-		this.context = new StandardRestDocumentationContext(testClass, testMethodName, this.outputDirectory);
+		clearLeakedContexts();
+		StandardRestDocumentationContext existing = this.contexts.putIfAbsent(Thread.currentThread(),
+				new StandardRestDocumentationContext(testClass, testMethodName, this.outputDirectory));
+		Assert.isNull(existing, () -> "Context already exists. Did you forget to call afterTest()?");
+	}
+
+	private void clearLeakedContexts() {
+		Iterator<Map.Entry<Thread, StandardRestDocumentationContext>> entries = this.contexts.entrySet().iterator();
+		while (entries.hasNext()) {
+			Map.Entry<Thread, StandardRestDocumentationContext> entry = entries.next();
+			if (!entry.getKey().isAlive()) {
+				entries.remove();
+				entry.getValue().testCompleted();
+			}
+		}
 	}
 
 	/**
 	 * Notification that a test has completed. Clears the {@link RestDocumentationContext}
 	 * that was previously established by a call to {@link #beforeTest(Class, String)}.
+	 * @throws IllegalStateException if several tests are running and no context exists
+	 * for the current thread
 	 */
 	public void afterTest() {
-		this.context = null;
+		StandardRestDocumentationContext context = this.contexts.remove(Thread.currentThread());
+		if (context == null) {
+			Assert.state(this.contexts.size() <= 1,
+					() -> "Tests are running in parallel and no context exists for the current thread. "
+							+ "Did you call afterTest() on a thread other than the one that called "
+							+ "beforeTest(Class, String)?");
+			Iterator<StandardRestDocumentationContext> candidates = this.contexts.values().iterator();
+			if (candidates.hasNext()) {
+				context = candidates.next();
+				candidates.remove();
+			}
+		}
+		if (context != null) {
+			context.testCompleted();
+		}
 	}
 
 	@Override
 	public RestDocumentationContext beforeOperation() {
-		Assert.notNull(this.context, () -> "Context is null. Did you forget to call beforeTest(Class, String)?");
-		this.context.getAndIncrementStepCount();
-		return this.context;
+		StandardRestDocumentationContext context = getContext();
+		Assert.notNull(context, () -> "Context is null. Did you forget to call beforeTest(Class, String)?");
+		context.getAndIncrementStepCount();
+		return context;
+	}
+
+	@Nullable StandardRestDocumentationContext getContext() {
+		StandardRestDocumentationContext context = this.contexts.get(Thread.currentThread());
+		if (context != null) {
+			return context;
+		}
+		Assert.state(this.contexts.size() <= 1,
+				() -> "Tests are running in parallel and no context exists for the current thread. "
+						+ "Did you call beforeOperation() on a thread other than the test's?");
+		Iterator<StandardRestDocumentationContext> candidates = this.contexts.values().iterator();
+		if (candidates.hasNext()) {
+			return candidates.next();
+		}
+		return null;
 	}
 
 	private static File getDefaultOutputDirectory() {
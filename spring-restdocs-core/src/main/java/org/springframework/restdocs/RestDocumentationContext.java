@@ -50,4 +50,17 @@ public interface RestDocumentationContext {
 	 */
 	File getOutputDirectory();
 
+	/**
+	 * Returns whether the test to which this context belongs is still running. While a
+	 * test is running, the directories to which its snippets are written belong to it,
+	 * allowing tests that are run in parallel and would write snippets to the same
+	 * directory to be detected. The default implementation returns {@code false},
+	 * indicating that the test's lifecycle is not tracked.
+	 * @return {@code true} if the test is running, otherwise {@code false}
+	 * @since 4.1.0
+	 */
+	default boolean isTestRunning() {
+		return false;
+	}
+
 }
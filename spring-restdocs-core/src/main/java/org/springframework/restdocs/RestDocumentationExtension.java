@@ -16,6 +16,8 @@
 
 package org.springframework.restdocs;
 
+import java.io.IOException;
+
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.extension.AfterEachCallback;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
@@ -25,14 +27,29 @@ import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
 import org.junit.jupiter.api.extension.ParameterContext;
 import org.junit.jupiter.api.extension.ParameterResolver;
 
+import org.springframework.restdocs.snippet.AsynchronousWriterResolver;
+import org.springframework.restdocs.snippet.SnippetManifest;
+
 /**
  * A JUnit Jupiter {@link Extension} used to automatically manage the
  * {@link RestDocumentationContext}.
+ * <p>
+ * Each test invocation is given its own context, with its own step count, that is held
+ * in the invocation's extension context. The extension can therefore be used with
+ * JUnit's parallel test execution ({@code junit.jupiter.execution.parallel.enabled}).
+ * <p>
+ * When snippets are written using an {@link AsynchronousWriterResolver}, a test fails if
+ * a failure to write one of its snippets has been detected by the time that it
+ * completes. Failures to write the snippets of other tests do not cause it to fail.
+ * Every open {@code AsynchronousWriterResolver} is closed once all of the tests have
+ * completed, and any failure to write the remaining snippets is then reported.
  *
  * @author Andy Wilkinson
  */
 public class RestDocumentationExtension implements BeforeEachCallback, AfterEachCallback, ParameterResolver {
 
+	private static final Namespace NAMESPACE = Namespace.create(RestDocumentationExtension.class);
+
 	private final @Nullable String outputDirectory;
 
 	/**
@@ -55,12 +72,21 @@ public class RestDocumentationExtension implements BeforeEachCallback, AfterEach
 
 	@Override
 	public void beforeEach(ExtensionContext context) throws Exception {
+		context.getRoot()
+			.getStore(NAMESPACE)
+			.computeIfAbsent(PendingSnippetWrites.class, (key) -> new PendingSnippetWrites(),
+					PendingSnippetWrites.class);
 		this.getDelegate(context).beforeTest(context.getRequiredTestClass(), context.getRequiredTestMethod().getName());
 	}
 
 	@Override
 	public void afterEach(ExtensionContext context) throws Exception {
-		this.getDelegate(context).afterTest();
+		ManualRestDocumentation delegate = this.getDelegate(context);
+		RestDocumentationContext testContext = delegate.getContext();
+		delegate.afterTest();
+		if (testContext != null) {
+			AsynchronousWriterResolver.throwIfAnyFailed(testContext);
+		}
 	}
 
 	@Override
@@ -96,4 +122,23 @@ public class RestDocumentationExtension implements BeforeEachCallback, AfterEach
 		}
 	}
 
+	/**
+	 * Closes every open {@link AsynchronousWriterResolver} and flushes every
+	 * {@link SnippetManifest} when the root extension context is closed at the end of
+	 * the test run.
+	 */
+	private static final class PendingSnippetWrites implements AutoCloseable {
+
+		@Override
+		public void close() throws IOException {
+			try {
+				AsynchronousWriterResolver.closeAll();
+			}
+			finally {
+				SnippetManifest.flushAll();
+			}
+		}
+
+	}
+
 }
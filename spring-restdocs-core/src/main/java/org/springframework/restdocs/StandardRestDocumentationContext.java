@@ -34,6 +34,8 @@ final class StandardRestDocumentationContext implements RestDocumentationContext
 
 	private final File outputDirectory;
 
+	private volatile boolean testRunning = true;
+
 	StandardRestDocumentationContext(Class<?> testClass, String testMethodName, File outputDirectory) {
 		this.testClass = testClass;
 		this.testMethodName = testMethodName;
@@ -64,4 +66,13 @@ final class StandardRestDocumentationContext implements RestDocumentationContext
 		return this.outputDirectory;
 	}
 
+	@Override
+	public boolean isTestRunning() {
+		return this.testRunning;
+	}
+
+	void testCompleted() {
+		this.testRunning = false;
+	}
+
 }
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.capture;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import com.samskivert.mustache.Mustache;
+
+import org.springframework.restdocs.RestDocumentationContext;
+import org.springframework.restdocs.capture.OperationCapture.SnippetCapture;
+import org.springframework.restdocs.snippet.StandardWriterResolver;
+import org.springframework.restdocs.snippet.WriterResolver;
+import org.springframework.restdocs.templates.StandardTemplateResourceResolver;
+import org.springframework.restdocs.templates.TemplateEngine;
+import org.springframework.restdocs.templates.TemplateFormat;
+import org.springframework.restdocs.templates.TemplateFormats;
+import org.springframework.restdocs.templates.mustache.AsciidoctorTableCellContentLambda;
+import org.springframework.restdocs.templates.mustache.MustacheTemplateEngine;
+import org.springframework.util.Assert;
+
+/**
+ * Generates documentation snippets from the {@link OperationCapture OperationCaptures}
+ * in an {@link OperationCaptureStore}. Each captured snippet's model is rendered using
+ * the current templates, allowing the snippets to be generated again, for example after
+ * a template has changed, without running the tests. Operations are rendered in
+ * parallel and a snippet's file is only written when its content has changed.
+ * <p>
+ * The generator can be run outside of the tests using
+ * {@link BatchDocumentationGeneratorCommand}.
+ *
+ * @author Andy Wilkinson
+ * @since 4.1.0
+ */
+public final class BatchDocumentationGenerator {
+
+	private final OperationCaptureStore captureStore;
+
+	private final RestDocumentationContext context;
+
+	private final WriterResolver writerResolver;
+
+	private final TemplateEngine templateEngine;
+
+	/**
+	 * Creates a new {@code BatchDocumentationGenerator} that will generate Asciidoctor
+	 * snippets encoded using UTF-8 from the captures in the given {@code captureStore}
+	 * into the given {@code outputDirectory}.
+	 * @param captureStore the capture store
+	 * @param outputDirectory the output directory
+	 */
+	public BatchDocumentationGenerator(OperationCaptureStore captureStore, File outputDirectory) {
+		this(captureStore, outputDirectory, "UTF-8", TemplateFormats.asciidoctor());
+	}
+
+	/**
+	 * Creates a new {@code BatchDocumentationGenerator} that will generate snippets in
+	 * the given {@code templateFormat} and {@code encoding} from the captures in the
+	 * given {@code captureStore} into the given {@code outputDirectory}. The snippets are
+	 * rendered using the default templates or any custom templates on the classpath.
+	 * @param captureStore the capture store
+	 * @param outputDirectory the output directory
+	 * @param encoding the encoding of the snippets
+	 * @param templateFormat the template format
+	 */
+	public BatchDocumentationGenerator(OperationCaptureStore captureStore, File outputDirectory, String encoding,
+			TemplateFormat templateFormat) {
+		this(captureStore, outputDirectory, encoding, templateFormat,
+				createTemplateEngine(encoding, templateFormat));
+	}
+
+	/**
+	 * Creates a new {@code BatchDocumentationGenerator} that will generate snippets in
+	 * the given {@code templateFormat} and {@code encoding} from the captures in the
+	 * given {@code captureStore} into the given {@code outputDirectory}. The snippets are
+	 * rendered using the given {@code templateEngine}.
+	 * @param captureStore the capture store
+	 * @param outputDirectory the output directory
+	 * @param encoding the encoding of the snippets
+	 * @param templateFormat the template format
+	 * @param templateEngine the template engine
+	 */
+	public BatchDocumentationGenerator(OperationCaptureStore captureStore, File outputDirectory, String encoding,
+			TemplateFormat templateFormat, TemplateEngine templateEngine) {
+		Assert.notNull(captureStore, "captureStore must not be null");
+		Assert.notNull(outputDirectory, "outputDirectory must not be null");
+		Assert.notNull(encoding, "encoding must not be null");
+		Assert.notNull(templateFormat, "templateFormat must not be null");
+		Assert.notNull(templateEngine, "templateEngine must not be null");
+		this.captureStore = captureStore;
+		this.context = new GenerationContext(outputDirectory);
+		// Operation names were resolved when they were captured so there are no
+		// placeholders left to resolve
+		this.writerResolver = new StandardWriterResolver((generationContext) -> (placeholder) -> null, encoding,
+				templateFormat, true);
+		this.templateEngine = templateEngine;
+	}
+
+	private static TemplateEngine createTemplateEngine(String encoding, TemplateFormat templateFormat) {
+		Map<String, Object> templateContext = new HashMap<>();
+		if (templateFormat.getId().equals(TemplateFormats.asciidoctor().getId())) {
+			templateContext.put("tableCellContent", new AsciidoctorTableCellContentLambda());
+		}
+		return new MustacheTemplateEngine(new StandardTemplateResourceResolver(templateFormat),
+				Charset.forName(encoding), Mustache.compiler().escapeHTML(false), templateContext);
+	}
+
+	/**
+	 * Generates the snippets of all of the captured operations using the
+	 * {@link ForkJoinPool#commonPool() common pool}.
+	 * @return the number of snippets that were generated
+	 * @throws IOException if the captures cannot be loaded or a snippet cannot be
+	 * written
+	 */
+	public int generate() throws IOException {
+		return generate(ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Generates the snippets of all of the captured operations using the given
+	 * {@code executor}. If the generation of one or more operations fails, the failure
+	 * of the first of them is thrown with any other failures added to it as suppressed
+	 * exceptions.
+	 * @param executor the executor used to generate the operations' snippets
+	 * @return the number of snippets that were generated
+	 * @throws IOException if the captures cannot be loaded or a snippet cannot be
+	 * written
+	 */
+	public int generate(Executor executor) throws IOException {
+		List<OperationCapture> captures = this.captureStore.load();
+		List<CompletableFuture<Integer>> generations = new ArrayList<>(captures.size());
+		for (OperationCapture capture : captures) {
+			generations.add(CompletableFuture.supplyAsync(() -> generate(capture), executor));
+		}
+		int generated = 0;
+		Throwable failure = null;
+		for (CompletableFuture<Integer> generation : generations) {
+			try {
+				generated += generation.join();
+			}
+			catch (CompletionException ex) {
+				Throwable generationFailure = unwrap(ex);
+				if (failure == null) {
+					failure = generationFailure;
+				}
+				else if (generationFailure != failure) {
+					failure.addSuppressed(generationFailure);
+				}
+			}
+		}
+		if (failure instanceof Error) {
+			throw (Error) failure;
+		}
+		if (failure instanceof RuntimeException) {
+			throw (RuntimeException) failure;
+		}
+		if (failure != null) {
+			throw (IOException) failure;
+		}
+		return generated;
+	}
+
+	private int generate(OperationCapture capture) {
+		List<SnippetCapture> snippets = capture.getSnippets();
+		for (SnippetCapture snippet : snippets) {
+			try {
+				String content = this.templateEngine.compileTemplate(snippet.getTemplateName())
+					.render(snippet.getModel());
+				try (Writer writer = this.writerResolver.resolve(capture.getOperationName(),
+						snippet.getSnippetName(), this.context)) {
+					writer.append(content);
+				}
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		}
+		return snippets.size();
+	}
+
+	private Throwable unwrap(CompletionException ex) {
+		Throwable cause = ex.getCause();
+		if (cause instanceof UncheckedIOException) {
+			return ((UncheckedIOException) cause).getCause();
+		}
+		if (cause instanceof RuntimeException || cause instanceof Error) {
+			return cause;
+		}
+		return new IOException((cause != null) ? cause : ex);
+	}
+
+	/**
+	 * The {@link RestDocumentationContext} in which snippets are generated, providing
+	 * the output directory to which they are written.
+	 */
+	private static final class GenerationContext implements RestDocumentationContext {
+
+		private final File outputDirectory;
+
+		private GenerationContext(File outputDirectory) {
+			this.outputDirectory = outputDirectory;
+		}
+
+		@Override
+		public Class<?> getTestClass() {
+			return BatchDocumentationGenerator.class;
+		}
+
+		@Override
+		public String getTestMethodName() {
+			return "generate";
+		}
+
+		@Override
+		public int getStepCount() {
+			return 0;
+		}
+
+		@Override
+		public File getOutputDirectory() {
+			return this.outputDirectory;
+		}
+
+	}
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.restdocs.capture;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+
+import org.springframework.restdocs.templates.TemplateFormat;
+import org.springframework.restdocs.templates.TemplateFormats;
+
+/**
+ * A command-line entry point for running a {@link BatchDocumentationGenerator} outside of
+ * the tests. The arguments are the capture directory, the output directory and,
+ * optionally, the ID of the template format and the snippets' encoding.
+ *
+ * @author Andy Wilkinson
+ * @since 4.1.0
+ */
+public final class BatchDocumentationGeneratorCommand {
+
+	private BatchDocumentationGeneratorCommand() {
+
+	}
+
+	/**
+	 * Generates the snippets of the captured operations, exiting with a non-zero status
+	 * if the arguments are invalid or the snippets cannot be generated.
+	 * @param args the arguments
+	 */
+	public static void main(String[] args) {
+		int status = run(args, System.out, System.err);
+		if (status != 0) {
+			System.exit(status);
+		}
+	}
+
+	/**
+	 * Generates the snippets of the captured operations described by the given
+	 * {@code args}, reporting the outcome to the given {@code out} and {@code err}
+	 * streams.
+	 * @param args the arguments
+	 * @param out the stream to which the outcome is reported
+	 * @param err the stream to which usage and failures are reported
+	 * @return the exit status, {@code 0} if the snippets were generated
+	 */
+	static int run(String[] args, PrintStream out, PrintStream err) {
+		if (args.length < 2 || args.length > 4) {
+			err.println("Usage: BatchDocumentationGeneratorCommand <capture directory> <output directory> "
+					+ "[asciidoctor|markdown] [encoding]");
+			return 1;
+		}
+		TemplateFormat templateFormat = (args.length > 2 && args[2].equals(TemplateFormats.markdown().getId()))
+				? TemplateFormats.markdown() : TemplateFormats.asciidoctor();
+		String encoding = (args.length > 3) ? args[3] : "UTF-8";
+		try {
+			int generated = new BatchDocumentationGenerator(new OperationCaptureStore(new File(args[0])),
+					new File(args[1]), encoding, templateFormat)
+				.generate();
+			out.println("Generated " + generated + " snippets");
+			return 0;
+		}
+		catch (IOException ex) {
+			err.println("Failed to generate snippets: " + ex.getMessage());
+			return 1;
+		}
+	}
+
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.capture;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.restdocs.operation.Operation;
+import org.springframework.restdocs.operation.OperationRequest;
+import org.springframework.restdocs.operation.OperationResponse;
+import org.springframework.util.function.SingletonSupplier;
+
+/**
+ * A capture of a documented operation. A capture holds the operation's request and
+ * response, after preprocessing, and the model of each of the operation's templated
+ * snippets. The captured models allow the snippets to be rendered again, for example
+ * after their templates have changed, without running the tests.
+ * <p>
+ * Models are captured using values that can be serialized. {@code Maps},
+ * {@code Collections}, arrays, {@code Strings}, {@code Numbers}, and {@code Booleans} are
+ * captured as-is. Any other value is captured as its {@code String} form, which is what
+ * a template renders when it refers to the value.
+ *
+ * @author Andy Wilkinson
+ * @since 4.1.0
+ * @see OperationCaptureStore
+ * @see BatchDocumentationGenerator
+ */
+public final class OperationCapture {
+
+	private final String operationName;
+
+	private final Supplier<OperationRequest> request;
+
+	private final Supplier<OperationResponse> response;
+
+	private final Queue<SnippetCapture> snippets = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * Creates a new {@code OperationCapture} for the operation with the given
+	 * {@code operationName} and the given {@code request} and {@code response}.
+	 * @param operationName the name of the operation
+	 * @param request the request
+	 * @param response the response
+	 */
+	public OperationCapture(String operationName, OperationRequest request, OperationResponse response) {
+		this(operationName, () -> request, () -> response);
+	}
+
+	/**
+	 * Creates a new {@code OperationCapture} for the operation with the given
+	 * {@code operationName} whose request and response are obtained from the given
+	 * suppliers when they are first needed, typically when the capture is saved.
+	 * @param operationName the name of the operation
+	 * @param request the supplier of the request
+	 * @param response the supplier of the response
+	 */
+	public OperationCapture(String operationName, Supplier<OperationRequest> request,
+			Supplier<OperationResponse> response) {
+		this.operationName = operationName;
+		this.request = SingletonSupplier.of(request);
+		this.response = SingletonSupplier.of(response);
+	}
+
+	/**
+	 * Returns the name of the operation.
+	 * @return the operation name
+	 */
+	public String getOperationName() {
+		return this.operationName;
+	}
+
+	/**
+	 * Returns the operation's request.
+	 * @return the request
+	 */
+	public OperationRequest getRequest() {
+		return this.request.get();
+	}
+
+	/**
+	 * Returns the operation's response.
+	 * @return the response
+	 */
+	public OperationResponse getResponse() {
+		return this.response.get();
+	}
+
+	/**
+	 * Returns the captured snippets.
+	 * @return the snippets
+	 */
+	public List<SnippetCapture> getSnippets() {
+		return Collections.unmodifiableList(new ArrayList<>(this.snippets));
+	}
+
+	/**
+	 * Captures the model of the snippet with the given {@code snippetName} that is
+	 * rendered using the template with the given {@code templateName}.
+	 * @param snippetName the name of the snippet
+	 * @param templateName the name of the template
+	 * @param model the model
+	 */
+	public void captureSnippet(String snippetName, String templateName, Map<String, Object> model) {
+		this.snippets.add(new SnippetCapture(snippetName, templateName, captureMap(model)));
+	}
+
+	private static Map<String, Object> captureMap(Map<?, ?> map) {
+		Map<String, Object> captured = new LinkedHashMap<>();
+		for (Map.Entry<?, ?> entry : map.entrySet()) {
+			captured.put(String.valueOf(entry.getKey()), captureValue(entry.getValue()));
+		}
+		return captured;
+	}
+
+	private static @Nullable Object captureValue(@Nullable Object value) {
+		if (value == null || value instanceof String || value instanceof Number || value instanceof Boolean) {
+			return value;
+		}
+		if (value instanceof Map) {
+			return captureMap((Map<?, ?>) value);
+		}
+		if (value instanceof Collection) {
+			List<@Nullable Object> captured = new ArrayList<>();
+			for (Object item : (Collection<?>) value) {
+				captured.add(captureValue(item));
+			}
+			return captured;
+		}
+		if (value.getClass().isArray()) {
+			List<@Nullable Object> captured = new ArrayList<>();
+			for (int i = 0; i < Array.getLength(value); i++) {
+				captured.add(captureValue(Array.get(value, i)));
+			}
+			return captured;
+		}
+		return value.toString();
+	}
+
+	/**
+	 * Returns the capture that is recording the given {@code operation}, if any.
+	 * @param operation the operation
+	 * @return the capture or {@code null} if the operation is not being captured
+	 */
+	public static @Nullable OperationCapture of(Operation operation) {
+		return (OperationCapture) operation.getAttributes().get(OperationCapture.class.getName());
+	}
+
+	/**
+	 * A capture of a templated snippet.
+	 */
+	public static final class SnippetCapture {
+
+		private final String snippetName;
+
+		private final String templateName;
+
+		private final Map<String, Object> model;
+
+		SnippetCapture(String snippetName, String templateName, Map<String, Object> model) {
+			this.snippetName = snippetName;
+			this.templateName = templateName;
+			this.model = model;
+		}
+
+		/**
+		 * Returns the name of the snippet.
+		 * @return the snippet name
+		 */
+		public String getSnippetName() {
+			return this.snippetName;
+		}
+
+		/**
+		 * Returns the name of the template used to render the snippet.
+		 * @return the template name
+		 */
+		public String getTemplateName() {
+			return this.templateName;
+		}
+
+		/**
+		 * Returns the model used to render the snippet.
+		 * @return the model
+		 */
+		public Map<String, Object> getModel() {
+			return this.model;
+		}
+
+	}
+
+}
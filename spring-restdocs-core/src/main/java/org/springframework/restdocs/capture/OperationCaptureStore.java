@@ -0,0 +1,289 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.capture;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.restdocs.RestDocumentationContext;
+import org.springframework.restdocs.capture.OperationCapture.SnippetCapture;
+import org.springframework.restdocs.operation.Operation;
+import org.springframework.restdocs.operation.OperationRequest;
+import org.springframework.restdocs.operation.OperationRequestFactory;
+import org.springframework.restdocs.operation.OperationRequestPart;
+import org.springframework.restdocs.operation.OperationRequestPartFactory;
+import org.springframework.restdocs.operation.OperationResponse;
+import org.springframework.restdocs.operation.OperationResponseFactory;
+import org.springframework.restdocs.operation.RequestCookie;
+import org.springframework.restdocs.operation.ResponseCookie;
+import org.springframework.restdocs.snippet.RestDocumentationContextPlaceholderResolverFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.PropertyPlaceholderHelper;
+
+/**
+ * A directory in which {@link OperationCapture OperationCaptures} are stored. Each
+ * capture is stored as a JSON file named after its operation, with any placeholders in
+ * the operation's name resolved.
+ *
+ * @author Andy Wilkinson
+ * @since 4.1.0
+ */
+public final class OperationCaptureStore {
+
+	private static final int FORMAT_VERSION = 1;
+
+	private static final String FILE_EXTENSION = ".json";
+
+	private static final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+	private final PropertyPlaceholderHelper propertyPlaceholderHelper = new PropertyPlaceholderHelper("{", "}");
+
+	private final File directory;
+
+	/**
+	 * Creates a new {@code OperationCaptureStore} that stores captures in the given
+	 * {@code directory}.
+	 * @param directory the directory
+	 */
+	public OperationCaptureStore(File directory) {
+		Assert.notNull(directory, "directory must not be null");
+		this.directory = directory;
+	}
+
+	/**
+	 * Returns the directory in which captures are stored.
+	 * @return the directory
+	 */
+	public File getDirectory() {
+		return this.directory;
+	}
+
+	/**
+	 * Creates a new capture of the given {@code operation}. Any placeholders in the
+	 * operation's name are resolved using the operation's
+	 * {@link RestDocumentationContext}. The operation's request and response are not
+	 * accessed until the capture needs them, typically when it is saved.
+	 * @param operation the operation
+	 * @return the capture
+	 */
+	public OperationCapture createCapture(Operation operation) {
+		String operationName = operation.getName();
+		RestDocumentationContext context = (RestDocumentationContext) operation.getAttributes()
+			.get(RestDocumentationContext.class.getName());
+		if (context != null) {
+			operationName = this.propertyPlaceholderHelper.replacePlaceholders(operationName,
+					new RestDocumentationContextPlaceholderResolverFactory().create(context));
+		}
+		return new OperationCapture(operationName, operation::getRequest, operation::getResponse);
+	}
+
+	/**
+	 * Saves the given {@code capture}, replacing any existing capture of the same
+	 * operation.
+	 * @param capture the capture
+	 * @throws IOException if the capture cannot be saved
+	 */
+	public void save(OperationCapture capture) throws IOException {
+		File file = new File(this.directory, capture.getOperationName() + FILE_EXTENSION);
+		File parent = file.getParentFile();
+		if (!parent.isDirectory() && !parent.mkdirs() && !parent.isDirectory()) {
+			throw new IOException("Failed to create directory '" + parent + "'");
+		}
+		Map<String, Object> json = new LinkedHashMap<>();
+		json.put("version", FORMAT_VERSION);
+		json.put("operation", capture.getOperationName());
+		json.put("request", toJson(capture.getRequest()));
+		json.put("response", toJson(capture.getResponse()));
+		List<Map<String, Object>> snippets = new ArrayList<>();
+		for (SnippetCapture snippet : capture.getSnippets()) {
+			Map<String, Object> snippetJson = new LinkedHashMap<>();
+			snippetJson.put("name", snippet.getSnippetName());
+			snippetJson.put("template", snippet.getTemplateName());
+			snippetJson.put("model", snippet.getModel());
+			snippets.add(snippetJson);
+		}
+		json.put("snippets", snippets);
+		try {
+			objectMapper.writeValue(file, json);
+		}
+		catch (JacksonException ex) {
+			throw new IOException("Failed to save capture of '" + capture.getOperationName() + "'", ex);
+		}
+	}
+
+	/**
+	 * Loads all of the captures in the store.
+	 * @return the captures
+	 * @throws IOException if the captures cannot be loaded
+	 */
+	public List<OperationCapture> load() throws IOException {
+		List<OperationCapture> captures = new ArrayList<>();
+		if (!this.directory.isDirectory()) {
+			return captures;
+		}
+		List<Path> files;
+		try (Stream<Path> paths = Files.walk(this.directory.toPath())) {
+			files = paths.filter((path) -> path.toString().endsWith(FILE_EXTENSION))
+				.filter(Files::isRegularFile)
+				.sorted()
+				.toList();
+		}
+		for (Path file : files) {
+			captures.add(load(file));
+		}
+		return captures;
+	}
+
+	@SuppressWarnings("unchecked")
+	private OperationCapture load(Path file) throws IOException {
+		Map<String, Object> json;
+		try {
+			json = objectMapper.readValue(file.toFile(), Map.class);
+		}
+		catch (JacksonException ex) {
+			throw new IOException("Failed to load capture '" + file + "'", ex);
+		}
+		Object version = json.get("version");
+		if (!Integer.valueOf(FORMAT_VERSION).equals(version)) {
+			throw new IOException("Capture '" + file + "' has unsupported version " + version);
+		}
+		OperationCapture capture = new OperationCapture((String) json.get("operation"),
+				toRequest((Map<String, Object>) json.get("request")),
+				toResponse((Map<String, Object>) json.get("response")));
+		for (Map<String, Object> snippet : (List<Map<String, Object>>) json.get("snippets")) {
+			capture.captureSnippet((String) snippet.get("name"), (String) snippet.get("template"),
+					(Map<String, Object>) snippet.get("model"));
+		}
+		return capture;
+	}
+
+	private Map<String, Object> toJson(OperationRequest request) {
+		Map<String, Object> json = new LinkedHashMap<>();
+		json.put("uri", request.getUri().toString());
+		json.put("method", request.getMethod().name());
+		json.put("headers", toJson(request.getHeaders()));
+		json.put("content", encode(request.getContent()));
+		List<Map<String, Object>> parts = new ArrayList<>();
+		for (OperationRequestPart part : request.getParts()) {
+			Map<String, Object> partJson = new LinkedHashMap<>();
+			partJson.put("name", part.getName());
+			partJson.put("submittedFileName", part.getSubmittedFileName());
+			partJson.put("headers", toJson(part.getHeaders()));
+			partJson.put("content", encode(part.getContent()));
+			parts.add(partJson);
+		}
+		json.put("parts", parts);
+		List<Map<String, Object>> cookies = new ArrayList<>();
+		for (RequestCookie cookie : request.getCookies()) {
+			cookies.add(toJson(cookie.getName(), cookie.getValue()));
+		}
+		json.put("cookies", cookies);
+		return json;
+	}
+
+	private Map<String, Object> toJson(OperationResponse response) {
+		Map<String, Object> json = new LinkedHashMap<>();
+		json.put("status", response.getStatus().value());
+		json.put("headers", toJson(response.getHeaders()));
+		json.put("content", encode(response.getContent()));
+		List<Map<String, Object>> cookies = new ArrayList<>();
+		for (ResponseCookie cookie : response.getCookies()) {
+			cookies.add(toJson(cookie.getName(), cookie.getValue()));
+		}
+		json.put("cookies", cookies);
+		return json;
+	}
+
+	private Map<String, List<String>> toJson(HttpHeaders headers) {
+		Map<String, List<String>> json = new LinkedHashMap<>();
+		headers.forEach(json::put);
+		return json;
+	}
+
+	private Map<String, Object> toJson(String name, String value) {
+		Map<String, Object> json = new LinkedHashMap<>();
+		json.put("name", name);
+		json.put("value", value);
+		return json;
+	}
+
+	@SuppressWarnings("unchecked")
+	private OperationRequest toRequest(Map<String, Object> json) {
+		List<OperationRequestPart> parts = new ArrayList<>();
+		for (Map<String, Object> part : (List<Map<String, Object>>) json.get("parts")) {
+			parts.add(new OperationRequestPartFactory().create((String) part.get("name"),
+					(String) part.get("submittedFileName"), decode(part.get("content")),
+					toHeaders(part.get("headers"))));
+		}
+		List<RequestCookie> cookies = new ArrayList<>();
+		for (Map<String, Object> cookie : (List<Map<String, Object>>) json.get("cookies")) {
+			cookies.add(new RequestCookie((String) cookie.get("name"), (String) cookie.get("value")));
+		}
+		return new OperationRequestFactory().create(URI.create((String) json.get("uri")),
+				HttpMethod.valueOf((String) json.get("method")), decode(json.get("content")),
+				toHeaders(json.get("headers")), parts, cookies);
+	}
+
+	@SuppressWarnings("unchecked")
+	private OperationResponse toResponse(Map<String, Object> json) {
+		List<ResponseCookie> cookies = new ArrayList<>();
+		for (Map<String, Object> cookie : (List<Map<String, Object>>) json.get("cookies")) {
+			cookies.add(new ResponseCookie((String) cookie.get("name"), (String) cookie.get("value")));
+		}
+		return new OperationResponseFactory().create(HttpStatusCode.valueOf((Integer) json.get("status")),
+				toHeaders(json.get("headers")), decode(json.get("content")), cookies);
+	}
+
+	@SuppressWarnings("unchecked")
+	private HttpHeaders toHeaders(@Nullable Object json) {
+		HttpHeaders headers = new HttpHeaders();
+		if (json != null) {
+			Map<String, Collection<String>> headersJson = (Map<String, Collection<String>>) json;
+			for (Map.Entry<String, Collection<String>> header : headersJson.entrySet()) {
+				headers.put(header.getKey(), new ArrayList<>(header.getValue()));
+			}
+		}
+		return headers;
+	}
+
+	private String encode(byte[] content) {
+		return Base64.getEncoder().encodeToString(content);
+	}
+
+	private byte[] decode(@Nullable Object content) {
+		return (content != null) ? Base64.getDecoder().decode((String) content) : new byte[0];
+	}
+
+}
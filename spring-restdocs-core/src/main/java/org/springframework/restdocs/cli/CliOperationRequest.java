@@ -17,6 +17,7 @@
 package org.springframework.restdocs.cli;
 
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collection;
@@ -71,6 +72,11 @@ final class CliOperationRequest implements OperationRequest {
 		return this.delegate.getContent();
 	}
 
+	@Override
+	public ByteBuffer getContentAsByteBuffer() {
+		return this.delegate.getContentAsByteBuffer();
+	}
+
 	@Override
 	public String getContentAsString() {
 		return this.delegate.getContentAsString();
@@ -16,7 +16,9 @@
 
 package org.springframework.restdocs.config;
 
+import java.io.File;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -26,6 +28,10 @@ import com.samskivert.mustache.Mustache;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.restdocs.RestDocumentationContext;
+import org.springframework.restdocs.capture.BatchDocumentationGenerator;
+import org.springframework.restdocs.capture.OperationCaptureStore;
+import org.springframework.restdocs.metrics.OperationMetricsListener;
+import org.springframework.restdocs.snippet.AsynchronousWriterResolver;
 import org.springframework.restdocs.snippet.RestDocumentationContextPlaceholderResolverFactory;
 import org.springframework.restdocs.snippet.StandardWriterResolver;
 import org.springframework.restdocs.snippet.WriterResolver;
@@ -53,6 +59,10 @@ public abstract class RestDocumentationConfigurer<S extends AbstractConfigurer,
 
 	private final TemplateEngineConfigurer templateEngineConfigurer = new TemplateEngineConfigurer();
 
+	private final MetricsListenerConfigurer metricsListenerConfigurer = new MetricsListenerConfigurer();
+
+	private @Nullable OperationCaptureStore captureStore;
+
 	/**
 	 * Returns a {@link SnippetConfigurer} that can be used to configure the snippets that
 	 * will be generated.
@@ -90,6 +100,35 @@ public abstract class RestDocumentationConfigurer<S extends AbstractConfigurer,
 		return (T) this;
 	}
 
+	/**
+	 * Adds an {@link OperationMetricsListener} that will be notified with the metrics of
+	 * each documented operation. Metrics are only recorded when at least one listener
+	 * has been added.
+	 * @param metricsListener the metrics listener to add
+	 * @return {@code this}
+	 * @since 4.1.0
+	 */
+	@SuppressWarnings("unchecked")
+	public final T metricsListener(OperationMetricsListener metricsListener) {
+		this.metricsListenerConfigurer.addMetricsListener(metricsListener);
+		return (T) this;
+	}
+
+	/**
+	 * Configures the capture of each documented operation in the given
+	 * {@code captureDirectory}. The captures can then be used by a
+	 * {@link BatchDocumentationGenerator} to generate the snippets again without running
+	 * the tests.
+	 * @param captureDirectory the directory in which captures are saved
+	 * @return {@code this}
+	 * @since 4.1.0
+	 */
+	@SuppressWarnings("unchecked")
+	public final T captureOperations(File captureDirectory) {
+		this.captureStore = new OperationCaptureStore(captureDirectory);
+		return (T) this;
+	}
+
 	/**
 	 * Applies this configurer to the given {@code configuration} within the given
 	 * {@code context}.
@@ -98,16 +137,22 @@ public abstract class RestDocumentationConfigurer<S extends AbstractConfigurer,
 	 */
 	protected final void apply(Map<String, Object> configuration, RestDocumentationContext context) {
 		List<AbstractConfigurer> configurers = Arrays.asList(snippets(), operationPreprocessors(),
-				this.templateEngineConfigurer, this.writerResolverConfigurer);
+				this.templateEngineConfigurer, this.writerResolverConfigurer, this.metricsListenerConfigurer);
 		for (AbstractConfigurer configurer : configurers) {
 			configurer.apply(configuration, context);
 		}
+		OperationCaptureStore captureStore = this.captureStore;
+		if (captureStore != null) {
+			configuration.put(OperationCaptureStore.class.getName(), captureStore);
+		}
 	}
 
 	private static final class TemplateEngineConfigurer extends AbstractConfigurer {
 
 		private @Nullable TemplateEngine templateEngine;
 
+		private volatile @Nullable ConfiguredInstance<TemplateEngine> defaultTemplateEngine;
+
 		@Override
 		public void apply(Map<String, Object> configuration, RestDocumentationContext context) {
 			TemplateEngine engineToUse = this.templateEngine;
@@ -115,18 +160,27 @@ public abstract class RestDocumentationConfigurer<S extends AbstractConfigurer,
 				SnippetConfiguration snippetConfiguration = (SnippetConfiguration) configuration
 					.get(SnippetConfiguration.class.getName());
 				Assert.notNull(snippetConfiguration, () -> "Snippet configuration unavailable");
-				Map<String, Object> templateContext = new HashMap<>();
-				if (snippetConfiguration.getTemplateFormat().getId().equals(TemplateFormats.asciidoctor().getId())) {
-					templateContext.put("tableCellContent", new AsciidoctorTableCellContentLambda());
+				ConfiguredInstance<TemplateEngine> cached = this.defaultTemplateEngine;
+				if (cached == null || !cached.isFor(snippetConfiguration)) {
+					cached = new ConfiguredInstance<>(snippetConfiguration, createTemplateEngine(snippetConfiguration));
+					this.defaultTemplateEngine = cached;
 				}
-				engineToUse = new MustacheTemplateEngine(
-						new StandardTemplateResourceResolver(snippetConfiguration.getTemplateFormat()),
-						Charset.forName(snippetConfiguration.getEncoding()), Mustache.compiler().escapeHTML(false),
-						templateContext);
+				engineToUse = cached.instance;
 			}
 			configuration.put(TemplateEngine.class.getName(), engineToUse);
 		}
 
+		private TemplateEngine createTemplateEngine(SnippetConfiguration snippetConfiguration) {
+			Map<String, Object> templateContext = new HashMap<>();
+			if (snippetConfiguration.getTemplateFormat().getId().equals(TemplateFormats.asciidoctor().getId())) {
+				templateContext.put("tableCellContent", new AsciidoctorTableCellContentLambda());
+			}
+			return new MustacheTemplateEngine(
+					new StandardTemplateResourceResolver(snippetConfiguration.getTemplateFormat()),
+					Charset.forName(snippetConfiguration.getEncoding()), Mustache.compiler().escapeHTML(false),
+					templateContext);
+		}
+
 		private void setTemplateEngine(TemplateEngine templateEngine) {
 			this.templateEngine = templateEngine;
 		}
@@ -137,6 +191,8 @@ public abstract class RestDocumentationConfigurer<S extends AbstractConfigurer,
 
 		private @Nullable WriterResolver writerResolver;
 
+		private volatile @Nullable ConfiguredInstance<WriterResolver> defaultWriterResolver;
+
 		@Override
 		public void apply(Map<String, Object> configuration, RestDocumentationContext context) {
 			WriterResolver resolverToUse = this.writerResolver;
@@ -144,16 +200,79 @@ public abstract class RestDocumentationConfigurer<S extends AbstractConfigurer,
 				SnippetConfiguration snippetConfiguration = (SnippetConfiguration) configuration
 					.get(SnippetConfiguration.class.getName());
 				Assert.notNull(snippetConfiguration, () -> "Snippet configuration unavailable");
-				resolverToUse = new StandardWriterResolver(new RestDocumentationContextPlaceholderResolverFactory(),
-						snippetConfiguration.getEncoding(), snippetConfiguration.getTemplateFormat());
+				ConfiguredInstance<WriterResolver> cached = this.defaultWriterResolver;
+				if (cached == null || !cached.isFor(snippetConfiguration)) {
+					cached = new ConfiguredInstance<>(snippetConfiguration, createWriterResolver(snippetConfiguration));
+					this.defaultWriterResolver = cached;
+				}
+				resolverToUse = cached.instance;
 			}
 			configuration.put(WriterResolver.class.getName(), resolverToUse);
 		}
 
+		private WriterResolver createWriterResolver(SnippetConfiguration snippetConfiguration) {
+			if (snippetConfiguration.isAsynchronousWritingEnabled()) {
+				return new AsynchronousWriterResolver(new RestDocumentationContextPlaceholderResolverFactory(),
+						snippetConfiguration.getEncoding(), snippetConfiguration.getTemplateFormat(),
+						snippetConfiguration.isSkipUnchangedEnabled(), snippetConfiguration.isManifestEnabled());
+			}
+			return new StandardWriterResolver(new RestDocumentationContextPlaceholderResolverFactory(),
+					snippetConfiguration.getEncoding(), snippetConfiguration.getTemplateFormat(),
+					snippetConfiguration.isSkipUnchangedEnabled(), snippetConfiguration.isManifestEnabled());
+		}
+
 		private void setWriterResolver(WriterResolver writerResolver) {
 			this.writerResolver = writerResolver;
 		}
 
 	}
 
+	private static final class MetricsListenerConfigurer extends AbstractConfigurer {
+
+		private final List<OperationMetricsListener> metricsListeners = new ArrayList<>();
+
+		@Override
+		public void apply(Map<String, Object> configuration, RestDocumentationContext context) {
+			if (this.metricsListeners.size() == 1) {
+				configuration.put(OperationMetricsListener.class.getName(), this.metricsListeners.get(0));
+			}
+			else if (!this.metricsListeners.isEmpty()) {
+				OperationMetricsListener compositeListener = (operation, metrics) -> {
+					for (OperationMetricsListener metricsListener : this.metricsListeners) {
+						metricsListener.operationDocumented(operation, metrics);
+					}
+				};
+				configuration.put(OperationMetricsListener.class.getName(), compositeListener);
+			}
+		}
+
+		private void addMetricsListener(OperationMetricsListener metricsListener) {
+			this.metricsListeners.add(metricsListener);
+		}
+
+	}
+
+	/**
+	 * An instance that was created for a particular {@link SnippetConfiguration} and that
+	 * can be reused for as long as the snippet configuration is unchanged.
+	 *
+	 * @param <I> the type of the instance
+	 */
+	private static final class ConfiguredInstance<I> {
+
+		private final SnippetConfiguration snippetConfiguration;
+
+		private final I instance;
+
+		private ConfiguredInstance(SnippetConfiguration snippetConfiguration, I instance) {
+			this.snippetConfiguration = snippetConfiguration;
+			this.instance = instance;
+		}
+
+		private boolean isFor(SnippetConfiguration snippetConfiguration) {
+			return this.snippetConfiguration.hasSameSettingsAs(snippetConfiguration);
+		}
+
+	}
+
 }
@@ -30,9 +30,23 @@ class SnippetConfiguration {
 
 	private final TemplateFormat format;
 
+	private final boolean skipUnchanged;
+
+	private final boolean manifest;
+
+	private final boolean asynchronousWriting;
+
 	SnippetConfiguration(String encoding, TemplateFormat templateFormat) {
+		this(encoding, templateFormat, false, false, false);
+	}
+
+	SnippetConfiguration(String encoding, TemplateFormat templateFormat, boolean skipUnchanged, boolean manifest,
+			boolean asynchronousWriting) {
 		this.encoding = encoding;
 		this.format = templateFormat;
+		this.skipUnchanged = skipUnchanged;
+		this.manifest = manifest;
+		this.asynchronousWriting = asynchronousWriting;
 	}
 
 	String getEncoding() {
@@ -43,4 +57,30 @@ class SnippetConfiguration {
 		return this.format;
 	}
 
+	boolean isSkipUnchangedEnabled() {
+		return this.skipUnchanged;
+	}
+
+	boolean isManifestEnabled() {
+		return this.manifest;
+	}
+
+	boolean isAsynchronousWritingEnabled() {
+		return this.asynchronousWriting;
+	}
+
+	/**
+	 * Returns whether this configuration has the same settings as the given
+	 * {@code other} configuration. Template formats are compared using their ID and file
+	 * extension.
+	 * @param other the other configuration
+	 * @return {@code true} if the settings are the same, otherwise {@code false}
+	 */
+	boolean hasSameSettingsAs(SnippetConfiguration other) {
+		return this.encoding.equals(other.encoding) && this.format.getId().equals(other.format.getId())
+				&& this.format.getFileExtension().equals(other.format.getFileExtension())
+				&& this.skipUnchanged == other.skipUnchanged && this.manifest == other.manifest
+				&& this.asynchronousWriting == other.asynchronousWriting;
+	}
+
 }
@@ -20,6 +20,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+
+import org.jspecify.annotations.Nullable;
 
 import org.springframework.restdocs.RestDocumentationContext;
 import org.springframework.restdocs.cli.CliDocumentation;
@@ -62,6 +65,14 @@ public abstract class SnippetConfigurer<PARENT, TYPE> extends AbstractNestedConf
 
 	private TemplateFormat templateFormat = DEFAULT_TEMPLATE_FORMAT;
 
+	private @Nullable Executor executor;
+
+	private boolean skipUnchanged;
+
+	private boolean manifest;
+
+	private boolean asynchronousWriting;
+
 	/**
 	 * Creates a new {@code SnippetConfigurer} with the given {@code parent}.
 	 * @param parent the parent
@@ -73,8 +84,12 @@ public abstract class SnippetConfigurer<PARENT, TYPE> extends AbstractNestedConf
 	@Override
 	public void apply(Map<String, Object> configuration, RestDocumentationContext context) {
 		configuration.put(SnippetConfiguration.class.getName(),
-				new SnippetConfiguration(this.snippetEncoding, this.templateFormat));
+				new SnippetConfiguration(this.snippetEncoding, this.templateFormat, this.skipUnchanged, this.manifest,
+						this.asynchronousWriting));
 		configuration.put(RestDocumentationGenerator.ATTRIBUTE_NAME_DEFAULT_SNIPPETS, this.defaultSnippets);
+		if (this.executor != null) {
+			configuration.put(RestDocumentationGenerator.ATTRIBUTE_NAME_SNIPPET_EXECUTOR, this.executor);
+		}
 	}
 
 	/**
@@ -124,4 +139,65 @@ public abstract class SnippetConfigurer<PARENT, TYPE> extends AbstractNestedConf
 		return (TYPE) this;
 	}
 
+	/**
+	 * Configures the {@link Executor} that will be used to document the snippets of each
+	 * operation concurrently. Any executor can be used, for example one that runs each
+	 * task on a new virtual thread. By default, snippets are documented one after another
+	 * on the thread that performed the operation.
+	 * @param executor the executor
+	 * @return {@code this}
+	 * @since 4.1.0
+	 * @see RestDocumentationGenerator#ATTRIBUTE_NAME_SNIPPET_EXECUTOR
+	 */
+	@SuppressWarnings("unchecked")
+	public TYPE withExecutor(Executor executor) {
+		this.executor = executor;
+		return (TYPE) this;
+	}
+
+	/**
+	 * Configures snippets to only be written when their content has changed. A snippet
+	 * whose file already has the same content is left untouched, preserving its last
+	 * modified time so that tasks that consume the snippets can remain up-to-date. Only
+	 * applies when the default writer resolver is used.
+	 * @return {@code this}
+	 * @since 4.1.0
+	 */
+	@SuppressWarnings("unchecked")
+	public TYPE withSkipUnchanged() {
+		this.skipUnchanged = true;
+		return (TYPE) this;
+	}
+
+	/**
+	 * Configures a {@link org.springframework.restdocs.snippet.SnippetManifest manifest}
+	 * of the snippets that are written to be maintained in the output directory. The
+	 * manifest lists the snippets of each operation, allowing the Asciidoctor extension's
+	 * {@code operation} macro to find them without listing the operation's directory. The
+	 * manifest is only written when the default writer resolver is used.
+	 * @return {@code this}
+	 * @since 4.1.0
+	 */
+	@SuppressWarnings("unchecked")
+	public TYPE withManifest() {
+		this.manifest = true;
+		return (TYPE) this;
+	}
+
+	/**
+	 * Configures snippets to be written to disk asynchronously by an
+	 * {@link org.springframework.restdocs.snippet.AsynchronousWriterResolver}. Snippets
+	 * are rendered on the thread that documents them and written by a background thread.
+	 * Unchanged snippets are still skipped and written snippets are still recorded in the
+	 * manifest when configured to do so. Only applies when the default writer resolver is
+	 * used.
+	 * @return {@code this}
+	 * @since 4.1.0
+	 */
+	@SuppressWarnings("unchecked")
+	public TYPE withAsynchronousWriting() {
+		this.asynchronousWriting = true;
+		return (TYPE) this;
+	}
+
 }
@@ -17,23 +17,36 @@
 package org.springframework.restdocs.generate;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
+import java.util.function.Supplier;
 
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.restdocs.capture.OperationCapture;
+import org.springframework.restdocs.capture.OperationCaptureStore;
+import org.springframework.restdocs.metrics.OperationMetrics.Phase;
+import org.springframework.restdocs.metrics.OperationMetricsListener;
+import org.springframework.restdocs.metrics.OperationMetricsRecorder;
 import org.springframework.restdocs.operation.Operation;
 import org.springframework.restdocs.operation.OperationRequest;
 import org.springframework.restdocs.operation.OperationResponse;
 import org.springframework.restdocs.operation.RequestConverter;
 import org.springframework.restdocs.operation.ResponseConverter;
-import org.springframework.restdocs.operation.StandardOperation;
 import org.springframework.restdocs.operation.preprocess.OperationRequestPreprocessor;
 import org.springframework.restdocs.operation.preprocess.OperationResponsePreprocessor;
 import org.springframework.restdocs.snippet.Snippet;
 import org.springframework.util.Assert;
+import org.springframework.util.function.SingletonSupplier;
 
 /**
  * A {@code RestDocumentationGenerator} is used to generate documentation snippets from
@@ -69,6 +82,14 @@ public final class RestDocumentationGenerator<REQ, RESP> {
 	 */
 	public static final String ATTRIBUTE_NAME_DEFAULT_OPERATION_RESPONSE_PREPROCESSOR = "org.springframework.restdocs.defaultOperationResponsePreprocessor";
 
+	/**
+	 * Name of the operation attribute used to hold the {@link Executor} that is used to
+	 * document an operation's snippets concurrently. When the attribute is absent, the
+	 * snippets are documented one after another on the calling thread.
+	 * @since 4.1.0
+	 */
+	public static final String ATTRIBUTE_NAME_SNIPPET_EXECUTOR = "org.springframework.restdocs.snippetExecutor";
+
 	private final String identifier;
 
 	private final OperationRequestPreprocessor requestPreprocessor;
@@ -174,7 +195,19 @@ public final class RestDocumentationGenerator<REQ, RESP> {
 
 	/**
 	 * Handles the given {@code request} and {@code response}, producing documentation
-	 * snippets for them using the given {@code configuration}.
+	 * snippets for them using the given {@code configuration}. The request and response
+	 * are converted and preprocessed when a snippet first accesses them, so a request or
+	 * response that no snippet uses is never converted. If the configuration contains an
+	 * {@link #ATTRIBUTE_NAME_SNIPPET_EXECUTOR executor}, the snippets are documented
+	 * concurrently using that executor. Handling then waits for every snippet to
+	 * complete, even if one of them fails with an {@link Error}. If one or more snippets
+	 * fail, the failure of the first of them, in the order in which the snippets were
+	 * configured, is thrown with any other failures added to it as suppressed
+	 * exceptions. If the configuration contains an {@link OperationMetricsListener}, the
+	 * time taken by each phase of the handling is recorded and the listener is notified
+	 * once the snippets have been documented. If the configuration contains an
+	 * {@link OperationCaptureStore}, the operation and the models of its templated
+	 * snippets are captured and saved in the store.
 	 * @param request the request
 	 * @param response the request
 	 * @param configuration the configuration
@@ -182,17 +215,114 @@ public final class RestDocumentationGenerator<REQ, RESP> {
 	 */
 	public void handle(REQ request, RESP response, Map<String, Object> configuration) {
 		Map<String, Object> attributes = new HashMap<>(configuration);
-		OperationRequest operationRequest = preprocessRequest(this.requestConverter.convert(request), attributes);
-		OperationResponse operationResponse = preprocessResponse(this.responseConverter.convert(response), attributes);
-		Operation operation = new StandardOperation(this.identifier, operationRequest, operationResponse, attributes);
-		try {
-			for (Snippet snippet : getSnippets(attributes)) {
-				snippet.document(operation);
+		OperationMetricsListener metricsListener = (OperationMetricsListener) attributes
+			.get(OperationMetricsListener.class.getName());
+		OperationMetricsRecorder metricsRecorder = (metricsListener != null) ? new OperationMetricsRecorder() : null;
+		if (metricsRecorder != null) {
+			attributes.put(OperationMetricsRecorder.class.getName(), metricsRecorder);
+		}
+		Operation operation = new LazyOperation(this.identifier,
+				() -> createOperationRequest(request, attributes, metricsRecorder),
+				() -> createOperationResponse(response, attributes, metricsRecorder), attributes);
+		OperationCaptureStore captureStore = (OperationCaptureStore) attributes
+			.get(OperationCaptureStore.class.getName());
+		OperationCapture capture = null;
+		if (captureStore != null) {
+			capture = captureStore.createCapture(operation);
+			attributes.put(OperationCapture.class.getName(), capture);
+		}
+		List<Snippet> snippets = getSnippets(attributes);
+		Executor executor = (Executor) attributes.get(ATTRIBUTE_NAME_SNIPPET_EXECUTOR);
+		if (executor != null && snippets.size() > 1) {
+			documentConcurrently(snippets, operation, executor, metricsRecorder);
+		}
+		else {
+			try {
+				for (Snippet snippet : snippets) {
+					long startTime = System.nanoTime();
+					snippet.document(operation);
+					record(metricsRecorder, Phase.SNIPPET, getName(snippet), startTime);
+				}
+			}
+			catch (IOException ex) {
+				throw new RestDocumentationGenerationException(ex);
+			}
+		}
+		if (captureStore != null && capture != null) {
+			try {
+				captureStore.save(capture);
+			}
+			catch (IOException ex) {
+				throw new RestDocumentationGenerationException(ex);
+			}
+		}
+		if (metricsListener != null && metricsRecorder != null) {
+			metricsListener.operationDocumented(operation, metricsRecorder.complete(operation));
+		}
+	}
+
+	private void documentConcurrently(List<Snippet> snippets, Operation operation, Executor executor,
+			@Nullable OperationMetricsRecorder metricsRecorder) {
+		List<CompletableFuture<Void>> documentations = new ArrayList<>(snippets.size());
+		for (Snippet snippet : snippets) {
+			documentations
+				.add(CompletableFuture.runAsync(() -> document(snippet, operation, metricsRecorder), executor));
+		}
+		Throwable failure = null;
+		for (CompletableFuture<Void> documentation : documentations) {
+			try {
+				documentation.join();
+			}
+			catch (CompletionException ex) {
+				Throwable snippetFailure = unwrap(ex);
+				if (failure == null) {
+					failure = snippetFailure;
+				}
+				else if (snippetFailure != failure) {
+					failure.addSuppressed(snippetFailure);
+				}
 			}
 		}
+		if (failure instanceof Error) {
+			throw (Error) failure;
+		}
+		if (failure != null) {
+			throw (RuntimeException) failure;
+		}
+	}
+
+	private void document(Snippet snippet, Operation operation, @Nullable OperationMetricsRecorder metricsRecorder) {
+		long startTime = System.nanoTime();
+		try {
+			snippet.document(operation);
+		}
 		catch (IOException ex) {
-			throw new RestDocumentationGenerationException(ex);
+			throw new UncheckedIOException(ex);
+		}
+		record(metricsRecorder, Phase.SNIPPET, getName(snippet), startTime);
+	}
+
+	private String getName(Snippet snippet) {
+		String name = snippet.getClass().getSimpleName();
+		return (!name.isEmpty()) ? name : snippet.getClass().getName();
+	}
+
+	private void record(@Nullable OperationMetricsRecorder metricsRecorder, Phase phase, String name,
+			long startTime) {
+		if (metricsRecorder != null) {
+			metricsRecorder.record(phase, name, startTime);
+		}
+	}
+
+	private Throwable unwrap(CompletionException ex) {
+		Throwable cause = ex.getCause();
+		if (cause instanceof UncheckedIOException) {
+			return new RestDocumentationGenerationException(((UncheckedIOException) cause).getCause());
+		}
+		if (cause instanceof RuntimeException || cause instanceof Error) {
+			return cause;
 		}
+		return new RestDocumentationGenerationException((cause != null) ? cause : ex);
 	}
 
 	/**
@@ -218,52 +348,139 @@ public final class RestDocumentationGenerator<REQ, RESP> {
 		return combinedSnippets;
 	}
 
-	private OperationRequest preprocessRequest(OperationRequest request, Map<String, Object> configuration) {
-		return preprocess(getRequestPreprocessors(configuration), request, this::preprocess);
+	private OperationRequest createOperationRequest(REQ request, Map<String, Object> attributes,
+			@Nullable OperationMetricsRecorder metricsRecorder) {
+		OperationRequest operationRequest = preprocessRequest(convertRequest(request, metricsRecorder), attributes,
+				metricsRecorder);
+		if (metricsRecorder != null) {
+			metricsRecorder.recordRequestContentLength(operationRequest.getContentAsByteBuffer().remaining());
+		}
+		return operationRequest;
+	}
+
+	private OperationResponse createOperationResponse(RESP response, Map<String, Object> attributes,
+			@Nullable OperationMetricsRecorder metricsRecorder) {
+		OperationResponse operationResponse = preprocessResponse(convertResponse(response, metricsRecorder),
+				attributes, metricsRecorder);
+		if (metricsRecorder != null) {
+			metricsRecorder.recordResponseContentLength(operationResponse.getContentAsByteBuffer().remaining());
+		}
+		return operationResponse;
+	}
+
+	private OperationRequest convertRequest(REQ request, @Nullable OperationMetricsRecorder metricsRecorder) {
+		long startTime = System.nanoTime();
+		OperationRequest convertedRequest = this.requestConverter.convert(request);
+		record(metricsRecorder, Phase.REQUEST_CONVERSION, "request", startTime);
+		return convertedRequest;
+	}
+
+	private OperationResponse convertResponse(RESP response, @Nullable OperationMetricsRecorder metricsRecorder) {
+		long startTime = System.nanoTime();
+		OperationResponse convertedResponse = this.responseConverter.convert(response);
+		record(metricsRecorder, Phase.RESPONSE_CONVERSION, "response", startTime);
+		return convertedResponse;
+	}
+
+	private OperationRequest preprocessRequest(OperationRequest request, Map<String, Object> configuration,
+			@Nullable OperationMetricsRecorder metricsRecorder) {
+		return preprocess(getRequestPreprocessors(configuration), request, this::preprocess,
+				Phase.REQUEST_PREPROCESSING, metricsRecorder);
 	}
 
 	private OperationRequest preprocess(OperationRequestPreprocessor preprocessor, OperationRequest request) {
 		return preprocessor.preprocess(request);
 	}
 
-	private List<OperationRequestPreprocessor> getRequestPreprocessors(Map<String, Object> configuration) {
+	private Map<String, OperationRequestPreprocessor> getRequestPreprocessors(Map<String, Object> configuration) {
 		return getPreprocessors(this.requestPreprocessor,
 				RestDocumentationGenerator.ATTRIBUTE_NAME_DEFAULT_OPERATION_REQUEST_PREPROCESSOR, configuration);
 	}
 
-	private OperationResponse preprocessResponse(OperationResponse response, Map<String, Object> configuration) {
-		return preprocess(getResponsePreprocessors(configuration), response, this::preprocess);
+	private OperationResponse preprocessResponse(OperationResponse response, Map<String, Object> configuration,
+			@Nullable OperationMetricsRecorder metricsRecorder) {
+		return preprocess(getResponsePreprocessors(configuration), response, this::preprocess,
+				Phase.RESPONSE_PREPROCESSING, metricsRecorder);
 	}
 
 	private OperationResponse preprocess(OperationResponsePreprocessor preprocessor, OperationResponse response) {
 		return preprocessor.preprocess(response);
 	}
 
-	private List<OperationResponsePreprocessor> getResponsePreprocessors(Map<String, Object> configuration) {
+	private Map<String, OperationResponsePreprocessor> getResponsePreprocessors(Map<String, Object> configuration) {
 		return getPreprocessors(this.responsePreprocessor,
 				RestDocumentationGenerator.ATTRIBUTE_NAME_DEFAULT_OPERATION_RESPONSE_PREPROCESSOR, configuration);
 	}
 
-	private <P, T> T preprocess(List<P> preprocessors, T target, BiFunction<P, T, T> function) {
+	private <P, T> T preprocess(Map<String, P> preprocessors, T target, BiFunction<P, T, T> function, Phase phase,
+			@Nullable OperationMetricsRecorder metricsRecorder) {
 		T processed = target;
-		for (P preprocessor : preprocessors) {
-			processed = function.apply(preprocessor, processed);
+		for (Map.Entry<String, P> preprocessor : preprocessors.entrySet()) {
+			long startTime = System.nanoTime();
+			processed = function.apply(preprocessor.getValue(), processed);
+			record(metricsRecorder, phase, preprocessor.getKey(), startTime);
 		}
 		return processed;
 	}
 
 	@SuppressWarnings("unchecked")
-	private <T> List<T> getPreprocessors(T preprocessor, String preprocessorAttribute,
+	private <T> Map<String, T> getPreprocessors(T preprocessor, String preprocessorAttribute,
 			Map<String, Object> configuration) {
-		List<T> preprocessors = new ArrayList<>(2);
-		preprocessors.add(preprocessor);
+		Map<String, T> preprocessors = new LinkedHashMap<>(4);
+		preprocessors.put("operation", preprocessor);
 		T defaultResponsePreprocessor = (T) configuration.get(preprocessorAttribute);
 		if (defaultResponsePreprocessor != null) {
-			preprocessors.add(defaultResponsePreprocessor);
+			preprocessors.put("default", defaultResponsePreprocessor);
 		}
 		return preprocessors;
 	}
 
+	/**
+	 * An {@link Operation} that converts and preprocesses its request and response when
+	 * they are first accessed. Snippets that only use one of them, or neither, do not pay
+	 * for the conversion and preprocessing of the other. The results are memoized so
+	 * that snippets that are documented concurrently share a single conversion.
+	 */
+	private static final class LazyOperation implements Operation {
+
+		private final String name;
+
+		private final SingletonSupplier<OperationRequest> request;
+
+		private final SingletonSupplier<OperationResponse> response;
+
+		private final Map<String, Object> attributes;
+
+		private LazyOperation(String name, Supplier<OperationRequest> request, Supplier<OperationResponse> response,
+				Map<String, Object> attributes) {
+			this.name = name;
+			this.request = SingletonSupplier.of(request);
+			this.response = SingletonSupplier.of(response);
+			this.attributes = attributes;
+		}
+
+		@Override
+		public Map<String, Object> getAttributes() {
+			return this.attributes;
+		}
+
+		@Override
+		public String getName() {
+			return this.name;
+		}
+
+		@Override
+		public OperationRequest getRequest() {
+			return this.request.obtain();
+		}
+
+		@Override
+		public OperationResponse getResponse() {
+			return this.response.obtain();
+		}
+
+	}
+
 	private static final class IdentityOperationRequestPreprocessor implements OperationRequestPreprocessor {
 
 		@Override
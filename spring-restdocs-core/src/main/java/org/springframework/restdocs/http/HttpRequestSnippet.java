@@ -85,9 +85,10 @@ public class HttpRequestSnippet extends TemplatedSnippet {
 
 	private boolean includeParametersInUri(OperationRequest request) {
 		HttpMethod method = request.getMethod();
+		MediaType contentType = request.getHeaders().getContentType();
 		return (method != HttpMethod.PUT && method != HttpMethod.POST && method != HttpMethod.PATCH)
-				|| (request.getContent().length > 0 && !MediaType.APPLICATION_FORM_URLENCODED
-					.isCompatibleWith(request.getHeaders().getContentType()));
+				|| (request.getContentAsByteBuffer().hasRemaining()
+						&& !MediaType.APPLICATION_FORM_URLENCODED.isCompatibleWith(contentType));
 	}
 
 	private List<Map<String, String>> getHeaders(OperationRequest request) {
@@ -178,7 +179,7 @@ public class HttpRequestSnippet extends TemplatedSnippet {
 
 	private boolean requiresFormEncodingContentTypeHeader(OperationRequest request) {
 		return request.getHeaders().get(HttpHeaders.CONTENT_TYPE) == null && isPutPostOrPatch(request)
-				&& request.getContent().length > 0 && !includeParametersInUri(request);
+				&& request.getContentAsByteBuffer().hasRemaining() && !includeParametersInUri(request);
 	}
 
 	private Map<String, String> header(String name, String value) {
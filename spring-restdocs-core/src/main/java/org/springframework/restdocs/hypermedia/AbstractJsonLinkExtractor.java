@@ -22,6 +22,7 @@ import java.util.Map;
 
 import tools.jackson.databind.ObjectMapper;
 
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.restdocs.operation.OperationResponse;
 
 /**
@@ -36,7 +37,9 @@ abstract class AbstractJsonLinkExtractor implements LinkExtractor {
 	@Override
 	@SuppressWarnings("unchecked")
 	public Map<String, List<Link>> extractLinks(OperationResponse response) throws IOException {
-		Map<String, Object> jsonContent = this.objectMapper.readValue(response.getContent(), Map.class);
+		Map<String, Object> jsonContent = this.objectMapper.readValue(
+				DefaultDataBufferFactory.sharedInstance.wrap(response.getContentAsByteBuffer()).asInputStream(),
+				Map.class);
 		return extractLinks(jsonContent);
 	}
 
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.metrics;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import org.springframework.restdocs.RestDocumentationContext;
+import org.springframework.restdocs.metrics.OperationMetrics.Timing;
+import org.springframework.restdocs.operation.Operation;
+
+/**
+ * An {@link OperationMetricsListener} that writes a JSON summary of the metrics of all
+ * of the operations that have been documented. The summary aggregates the timings of
+ * each phase by preprocessor or snippet name and lists the slowest operations. The
+ * metrics are aggregated in memory and the summary is written when the listener is
+ * {@link #close() closed} or, if it is still open, when the JVM shuts down.
+ * <p>
+ * Unless a file is specified, the summary is written next to the snippets' output
+ * directory, in a file named after that directory and the ID of the JVM's process with
+ * a {@code -metrics.json} suffix. For example,
+ * {@code build/generated-snippets-12345-metrics.json}. This allows tests that are run
+ * in several JVMs to write a summary each.
+ *
+ * @author Andy Wilkinson
+ * @since 4.1.0
+ */
+public class JsonSummaryOperationMetricsListener implements OperationMetricsListener, AutoCloseable {
+
+	private static final int SLOWEST_OPERATIONS = 10;
+
+	private static final ObjectMapper objectMapper = JsonMapper.builder()
+		.enable(SerializationFeature.INDENT_OUTPUT)
+		.build();
+
+	private final Map<String, PhaseSummary> phases = new LinkedHashMap<>();
+
+	private final List<OperationMetrics> slowestOperations = new ArrayList<>();
+
+	private final Thread shutdownHook = new Thread(this::writeSummary, "spring-restdocs-metrics-summary");
+
+	private @Nullable File summaryFile;
+
+	private int operations;
+
+	private long totalTime;
+
+	private long requestContentLength;
+
+	private long responseContentLength;
+
+	private long charactersWritten;
+
+	private boolean shutdownHookRegistered;
+
+	private boolean unwritten;
+
+	/**
+	 * Creates a new {@code JsonSummaryOperationMetricsListener} that will write the
+	 * summary next to the snippets' output directory.
+	 */
+	public JsonSummaryOperationMetricsListener() {
+	}
+
+	/**
+	 * Creates a new {@code JsonSummaryOperationMetricsListener} that will write the
+	 * summary to the given {@code summaryFile}.
+	 * @param summaryFile the summary file
+	 */
+	public JsonSummaryOperationMetricsListener(File summaryFile) {
+		this.summaryFile = summaryFile;
+	}
+
+	@Override
+	public synchronized void operationDocumented(Operation operation, OperationMetrics metrics) {
+		this.operations++;
+		this.totalTime += metrics.getTotalTime().toNanos();
+		this.requestContentLength += Math.max(metrics.getRequestContentLength(), 0);
+		this.responseContentLength += Math.max(metrics.getResponseContentLength(), 0);
+		this.charactersWritten += metrics.getCharactersWritten();
+		for (Timing timing : metrics.getTimings()) {
+			this.phases.computeIfAbsent(timing.getPhase() + " " + timing.getName(), (key) -> new PhaseSummary(timing))
+				.add(timing.getDuration());
+		}
+		this.slowestOperations.add(metrics);
+		this.slowestOperations.sort(Comparator.comparing(OperationMetrics::getTotalTime).reversed());
+		if (this.slowestOperations.size() > SLOWEST_OPERATIONS) {
+			this.slowestOperations.remove(SLOWEST_OPERATIONS);
+		}
+		if (this.summaryFile == null) {
+			this.summaryFile = getDefaultSummaryFile(operation);
+		}
+		this.unwritten = true;
+		if (!this.shutdownHookRegistered) {
+			Runtime.getRuntime().addShutdownHook(this.shutdownHook);
+			this.shutdownHookRegistered = true;
+		}
+	}
+
+	/**
+	 * Writes the summary of the operations that have been documented, if it has changed
+	 * since it was last written, and deregisters the JVM shutdown hook that would
+	 * otherwise write it.
+	 */
+	@Override
+	public synchronized void close() {
+		if (this.shutdownHookRegistered) {
+			this.shutdownHookRegistered = false;
+			try {
+				Runtime.getRuntime().removeShutdownHook(this.shutdownHook);
+			}
+			catch (IllegalStateException ex) {
+				// JVM is shutting down and the hook will write the summary
+			}
+		}
+		writeSummary();
+	}
+
+	private synchronized void writeSummary() {
+		File file = this.summaryFile;
+		if (!this.unwritten || file == null) {
+			return;
+		}
+		File parent = file.getParentFile();
+		if (parent != null) {
+			parent.mkdirs();
+		}
+		objectMapper.writeValue(file, createSummary());
+		this.unwritten = false;
+	}
+
+	private File getDefaultSummaryFile(Operation operation) {
+		RestDocumentationContext context = (RestDocumentationContext) operation.getAttributes()
+			.get(RestDocumentationContext.class.getName());
+		File outputDirectory = (context != null) ? context.getOutputDirectory().getAbsoluteFile()
+				: new File("generated-snippets").getAbsoluteFile();
+		return new File(outputDirectory.getParentFile(),
+				outputDirectory.getName() + "-" + ProcessHandle.current().pid() + "-metrics.json");
+	}
+
+	private Map<String, Object> createSummary() {
+		Map<String, Object> summary = new LinkedHashMap<>();
+		summary.put("operations", this.operations);
+		summary.put("totalTimeMillis", toMillis(this.totalTime));
+		summary.put("requestContentBytes", this.requestContentLength);
+		summary.put("responseContentBytes", this.responseContentLength);
+		summary.put("charactersWritten", this.charactersWritten);
+		List<PhaseSummary> phases = new ArrayList<>(this.phases.values());
+		phases.sort(Comparator.comparingLong((PhaseSummary phase) -> phase.totalTime).reversed());
+		List<Map<String, Object>> phaseSummaries = new ArrayList<>();
+		for (PhaseSummary phase : phases) {
+			phaseSummaries.add(phase.toMap());
+		}
+		summary.put("phases", phaseSummaries);
+		List<Map<String, Object>> operationSummaries = new ArrayList<>();
+		for (OperationMetrics metrics : this.slowestOperations) {
+			Map<String, Object> operationSummary = new LinkedHashMap<>();
+			operationSummary.put("name", metrics.getOperationName());
+			operationSummary.put("totalTimeMillis", toMillis(metrics.getTotalTime().toNanos()));
+			putContentLength(operationSummary, "requestContentBytes", metrics.getRequestContentLength());
+			putContentLength(operationSummary, "responseContentBytes", metrics.getResponseContentLength());
+			operationSummaries.add(operationSummary);
+		}
+		summary.put("slowestOperations", operationSummaries);
+		return summary;
+	}
+
+	private static void putContentLength(Map<String, Object> summary, String key, long length) {
+		if (length >= 0) {
+			summary.put(key, length);
+		}
+	}
+
+	private static double toMillis(long nanos) {
+		return nanos / 1_000_000.0;
+	}
+
+	private static final class PhaseSummary {
+
+		private final String phase;
+
+		private final String name;
+
+		private int count;
+
+		private long totalTime;
+
+		private long maxTime;
+
+		private PhaseSummary(Timing timing) {
+			this.phase = timing.getPhase().name().toLowerCase(Locale.ROOT);
+			this.name = timing.getName();
+		}
+
+		private void add(Duration duration) {
+			long nanos = duration.toNanos();
+			this.count++;
+			this.totalTime += nanos;
+			this.maxTime = Math.max(this.maxTime, nanos);
+		}
+
+		private Map<String, Object> toMap() {
+			Map<String, Object> map = new LinkedHashMap<>();
+			map.put("phase", this.phase);
+			map.put("name", this.name);
+			map.put("count", this.count);
+			map.put("totalTimeMillis", toMillis(this.totalTime));
+			map.put("maxTimeMillis", toMillis(this.maxTime));
+			return map;
+		}
+
+	}
+
+}
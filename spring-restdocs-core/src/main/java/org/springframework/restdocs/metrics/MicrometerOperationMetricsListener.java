@@ -0,0 +1,111 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.metrics;
+
+import java.util.Locale;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.springframework.restdocs.metrics.OperationMetrics.Timing;
+import org.springframework.restdocs.operation.Operation;
+import org.springframework.util.Assert;
+
+/**
+ * An {@link OperationMetricsListener} that records metrics in a Micrometer
+ * {@link MeterRegistry}. The following meters are used:
+ * <ul>
+ * <li>{@code restdocs.operation}: a timer of each operation's total documentation time,
+ * optionally tagged with the name of the {@code operation}</li>
+ * <li>{@code restdocs.operation.phase}: a timer of each phase, tagged with the
+ * {@code phase} and the {@code name} of the preprocessor or snippet</li>
+ * <li>{@code restdocs.operation.content}: a summary of the request and response content
+ * lengths in bytes, tagged with the {@code message}</li>
+ * <li>{@code restdocs.snippets.written}: a summary of the number of characters written
+ * to snippets for each operation</li>
+ * </ul>
+ *
+ * @author Andy Wilkinson
+ * @since 4.1.0
+ */
+public class MicrometerOperationMetricsListener implements OperationMetricsListener {
+
+	private final MeterRegistry meterRegistry;
+
+	private final boolean tagOperationName;
+
+	/**
+	 * Creates a new {@code MicrometerOperationMetricsListener} that will record metrics
+	 * in the given {@code meterRegistry}. The {@code restdocs.operation} timer is not
+	 * tagged with the name of the operation.
+	 * @param meterRegistry the meter registry
+	 */
+	public MicrometerOperationMetricsListener(MeterRegistry meterRegistry) {
+		this(meterRegistry, false);
+	}
+
+	/**
+	 * Creates a new {@code MicrometerOperationMetricsListener} that will record metrics
+	 * in the given {@code meterRegistry}. When {@code tagOperationName} is {@code true},
+	 * the {@code restdocs.operation} timer is tagged with the name of the operation.
+	 * Every documented operation then has its own timer so this should only be enabled
+	 * when the number of operations is modest.
+	 * @param meterRegistry the meter registry
+	 * @param tagOperationName whether to tag the operation timer with the operation's
+	 * name
+	 */
+	public MicrometerOperationMetricsListener(MeterRegistry meterRegistry, boolean tagOperationName) {
+		Assert.notNull(meterRegistry, "meterRegistry must not be null");
+		this.meterRegistry = meterRegistry;
+		this.tagOperationName = tagOperationName;
+	}
+
+	@Override
+	public void operationDocumented(Operation operation, OperationMetrics metrics) {
+		Timer.Builder operationTimer = Timer.builder("restdocs.operation");
+		if (this.tagOperationName) {
+			operationTimer.tag("operation", metrics.getOperationName());
+		}
+		operationTimer.register(this.meterRegistry).record(metrics.getTotalTime());
+		for (Timing timing : metrics.getTimings()) {
+			Timer.builder("restdocs.operation.phase")
+				.tag("phase", timing.getPhase().name().toLowerCase(Locale.ROOT))
+				.tag("name", timing.getName())
+				.register(this.meterRegistry)
+				.record(timing.getDuration());
+		}
+		recordContentLength("request", metrics.getRequestContentLength());
+		recordContentLength("response", metrics.getResponseContentLength());
+		DistributionSummary.builder("restdocs.snippets.written")
+			.baseUnit("characters")
+			.register(this.meterRegistry)
+			.record(metrics.getCharactersWritten());
+	}
+
+	private void recordContentLength(String message, long length) {
+		if (length < 0) {
+			return;
+		}
+		DistributionSummary.builder("restdocs.operation.content")
+			.baseUnit("bytes")
+			.tag("message", message)
+			.register(this.meterRegistry)
+			.record(length);
+	}
+
+}
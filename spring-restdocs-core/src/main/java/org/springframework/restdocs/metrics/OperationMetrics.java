@@ -0,0 +1,206 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.metrics;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+/**
+ * Metrics describing the documentation of a single operation.
+ *
+ * @author Andy Wilkinson
+ * @since 4.1.0
+ * @see OperationMetricsListener
+ */
+public final class OperationMetrics {
+
+	private final String operationName;
+
+	private final Duration totalTime;
+
+	private final List<Timing> timings;
+
+	private final long requestContentLength;
+
+	private final long responseContentLength;
+
+	private final long charactersWritten;
+
+	OperationMetrics(String operationName, Duration totalTime, List<Timing> timings, long requestContentLength,
+			long responseContentLength, long charactersWritten) {
+		this.operationName = operationName;
+		this.totalTime = totalTime;
+		this.timings = Collections.unmodifiableList(timings);
+		this.requestContentLength = requestContentLength;
+		this.responseContentLength = responseContentLength;
+		this.charactersWritten = charactersWritten;
+	}
+
+	/**
+	 * Returns the name of the operation.
+	 * @return the operation name
+	 */
+	public String getOperationName() {
+		return this.operationName;
+	}
+
+	/**
+	 * Returns the total time taken to document the operation.
+	 * @return the total time
+	 */
+	public Duration getTotalTime() {
+		return this.totalTime;
+	}
+
+	/**
+	 * Returns the timings of the phases of the operation's documentation in the order
+	 * in which they completed.
+	 * @return the timings
+	 */
+	public List<Timing> getTimings() {
+		return this.timings;
+	}
+
+	/**
+	 * Returns the length, in bytes, of the content of the documented request. The length is
+	 * only known when a snippet used the request, causing it to be converted.
+	 * @return the request content length or {@code -1} if the request was not used
+	 */
+	public long getRequestContentLength() {
+		return this.requestContentLength;
+	}
+
+	/**
+	 * Returns the length, in bytes, of the content of the documented response. The length is
+	 * only known when a snippet used the response, causing it to be converted.
+	 * @return the response content length or {@code -1} if the response was not used
+	 */
+	public long getResponseContentLength() {
+		return this.responseContentLength;
+	}
+
+	/**
+	 * Returns the number of characters written to templated snippets.
+	 * @return the number of characters written
+	 */
+	public long getCharactersWritten() {
+		return this.charactersWritten;
+	}
+
+	/**
+	 * A phase in the documentation of an operation.
+	 */
+	public enum Phase {
+
+		/**
+		 * Conversion of the request into an {@code OperationRequest}.
+		 */
+		REQUEST_CONVERSION,
+
+		/**
+		 * Conversion of the response into an {@code OperationResponse}.
+		 */
+		RESPONSE_CONVERSION,
+
+		/**
+		 * Preprocessing of the request.
+		 */
+		REQUEST_PREPROCESSING,
+
+		/**
+		 * Preprocessing of the response.
+		 */
+		RESPONSE_PREPROCESSING,
+
+		/**
+		 * Documentation of a snippet, including its model creation, template rendering,
+		 * and writing.
+		 */
+		SNIPPET,
+
+		/**
+		 * Creation of a templated snippet's model.
+		 */
+		MODEL_CREATION,
+
+		/**
+		 * Rendering of a templated snippet's template.
+		 */
+		TEMPLATE_RENDERING,
+
+		/**
+		 * Writing of a templated snippet's rendered content.
+		 */
+		WRITING
+
+	}
+
+	/**
+	 * The time taken by a {@link Phase} of an operation's documentation.
+	 */
+	public static final class Timing {
+
+		private final Phase phase;
+
+		private final String name;
+
+		private final Duration duration;
+
+		Timing(Phase phase, String name, Duration duration) {
+			Assert.notNull(phase, "phase must not be null");
+			Assert.notNull(name, "name must not be null");
+			this.phase = phase;
+			this.name = name;
+			this.duration = duration;
+		}
+
+		/**
+		 * Returns the phase.
+		 * @return the phase
+		 */
+		public Phase getPhase() {
+			return this.phase;
+		}
+
+		/**
+		 * Returns the name of the preprocessor or snippet to which the timing applies,
+		 * or the name of the message for conversion phases.
+		 * @return the name
+		 */
+		public String getName() {
+			return this.name;
+		}
+
+		/**
+		 * Returns the duration of the phase.
+		 * @return the duration
+		 */
+		public Duration getDuration() {
+			return this.duration;
+		}
+
+		@Override
+		public String toString() {
+			return this.phase + " " + this.name + " " + this.duration;
+		}
+
+	}
+
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.metrics;
+
+import org.springframework.restdocs.operation.Operation;
+
+/**
+ * A listener that is notified with the {@link OperationMetrics metrics} of each
+ * documented operation. Listeners may be notified concurrently and must be thread-safe.
+ *
+ * @author Andy Wilkinson
+ * @since 4.1.0
+ * @see MicrometerOperationMetricsListener
+ * @see JsonSummaryOperationMetricsListener
+ */
+@FunctionalInterface
+public interface OperationMetricsListener {
+
+	/**
+	 * Called when the given {@code operation} has been documented.
+	 * @param operation the operation
+	 * @param metrics the metrics of the operation's documentation
+	 */
+	void operationDocumented(Operation operation, OperationMetrics metrics);
+
+}
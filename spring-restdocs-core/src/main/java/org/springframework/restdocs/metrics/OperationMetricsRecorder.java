@@ -0,0 +1,115 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.metrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.restdocs.metrics.OperationMetrics.Phase;
+import org.springframework.restdocs.metrics.OperationMetrics.Timing;
+import org.springframework.restdocs.operation.Operation;
+
+/**
+ * Records the metrics of an operation's documentation. A recorder is made available to
+ * snippets as an operation attribute when one or more {@link OperationMetricsListener
+ * listeners} have been configured. Recording is thread-safe so that snippets that are
+ * documented concurrently can share a recorder.
+ *
+ * @author Andy Wilkinson
+ * @since 4.1.0
+ */
+public final class OperationMetricsRecorder {
+
+	private final long startTime = System.nanoTime();
+
+	private final Queue<Timing> timings = new ConcurrentLinkedQueue<>();
+
+	private final AtomicLong charactersWritten = new AtomicLong();
+
+	private final AtomicLong requestContentLength = new AtomicLong(-1);
+
+	private final AtomicLong responseContentLength = new AtomicLong(-1);
+
+	/**
+	 * Records the time taken by the given {@code phase} for the item with the given
+	 * {@code name}. The phase is considered to have started at the given
+	 * {@code startTime}, as returned by {@link System#nanoTime()}, and to have ended
+	 * now.
+	 * @param phase the phase
+	 * @param name the name of the item to which the timing applies
+	 * @param startTime the start time of the phase
+	 */
+	public void record(Phase phase, String name, long startTime) {
+		this.timings.add(new Timing(phase, name, Duration.ofNanos(System.nanoTime() - startTime)));
+	}
+
+	/**
+	 * Records that the given number of {@code characters} have been written to a
+	 * snippet.
+	 * @param characters the number of characters
+	 */
+	public void recordCharactersWritten(long characters) {
+		this.charactersWritten.addAndGet(characters);
+	}
+
+	/**
+	 * Records the length, in bytes, of the content of the request once it has been
+	 * converted and preprocessed.
+	 * @param length the length of the request's content
+	 */
+	public void recordRequestContentLength(long length) {
+		this.requestContentLength.set(length);
+	}
+
+	/**
+	 * Records the length, in bytes, of the content of the response once it has been
+	 * converted and preprocessed.
+	 * @param length the length of the response's content
+	 */
+	public void recordResponseContentLength(long length) {
+		this.responseContentLength.set(length);
+	}
+
+	/**
+	 * Completes the recording, producing the metrics for the given {@code operation}.
+	 * The request and response are not accessed so that one that has not been used by
+	 * any snippet is not converted just to be measured.
+	 * @param operation the operation
+	 * @return the metrics
+	 */
+	public OperationMetrics complete(Operation operation) {
+		return new OperationMetrics(operation.getName(), Duration.ofNanos(System.nanoTime() - this.startTime),
+				new ArrayList<>(this.timings), this.requestContentLength.get(), this.responseContentLength.get(),
+				this.charactersWritten.get());
+	}
+
+	/**
+	 * Returns the recorder for the given {@code operation}, if any.
+	 * @param operation the operation
+	 * @return the recorder or {@code null} if the operation's metrics are not being
+	 * recorded
+	 */
+	public static @Nullable OperationMetricsRecorder of(Operation operation) {
+		return (OperationMetricsRecorder) operation.getAttributes().get(OperationMetricsRecorder.class.getName());
+	}
+
+}
@@ -16,14 +16,17 @@
 
 package org.springframework.restdocs.operation;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.function.Supplier;
 
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.util.function.SingletonSupplier;
 
 /**
  * Abstract base class for operation requests, request parts, and responses.
@@ -32,18 +35,47 @@ import org.springframework.http.MediaType;
  */
 abstract class AbstractOperationMessage implements OperationMessage {
 
-	private final byte[] content;
+	private final Supplier<byte[]> content;
 
 	private final HttpHeaders headers;
 
 	AbstractOperationMessage(byte @Nullable [] content, HttpHeaders headers) {
-		this.content = (content != null) ? content : new byte[0];
+		byte[] resolved = (content != null) ? content : new byte[0];
+		this.content = () -> resolved;
+		this.headers = headers;
+	}
+
+	/**
+	 * Creates a new message whose content is retrieved from the given {@code content}
+	 * supplier the first time that it is needed.
+	 * @param content the supplier of the content
+	 * @param headers the headers
+	 */
+	AbstractOperationMessage(Supplier<byte[]> content, HttpHeaders headers) {
+		this.content = SingletonSupplier.of(() -> {
+			byte[] resolved = content.get();
+			return (resolved != null) ? resolved : new byte[0];
+		});
 		this.headers = headers;
 	}
 
 	@Override
 	public byte[] getContent() {
-		return Arrays.copyOf(this.content, this.content.length);
+		byte[] bytes = getSharedContent();
+		return Arrays.copyOf(bytes, bytes.length);
+	}
+
+	@Override
+	public ByteBuffer getContentAsByteBuffer() {
+		return ByteBuffer.wrap(getSharedContent()).asReadOnlyBuffer();
+	}
+
+	/**
+	 * Returns the content without copying it. The returned array must not be modified.
+	 * @return the content
+	 */
+	final byte[] getSharedContent() {
+		return this.content.get();
 	}
 
 	@Override
@@ -53,12 +85,13 @@ abstract class AbstractOperationMessage implements OperationMessage {
 
 	@Override
 	public String getContentAsString() {
-		if (this.content.length > 0) {
+		byte[] bytes = getSharedContent();
+		if (bytes.length > 0) {
 			Charset charset = extractCharsetFromContentTypeHeader();
 			if (charset == null) {
 				charset = StandardCharsets.UTF_8;
 			}
-			return new String(this.content, charset);
+			return new String(bytes, charset);
 		}
 		return "";
 	}
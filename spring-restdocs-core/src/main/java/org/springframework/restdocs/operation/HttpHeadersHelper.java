@@ -52,11 +52,15 @@ class HttpHeadersHelper {
 	}
 
 	HttpHeadersHelper setContentLengthHeader(byte @Nullable [] content) {
-		if (content == null || content.length == 0) {
+		return setContentLengthHeader((content != null) ? content.length : 0);
+	}
+
+	HttpHeadersHelper setContentLengthHeader(long contentLength) {
+		if (contentLength <= 0) {
 			this.httpHeaders.remove(HttpHeaders.CONTENT_LENGTH);
 		}
 		else {
-			this.httpHeaders.setContentLength(content.length);
+			this.httpHeaders.setContentLength(contentLength);
 		}
 		return this;
 	}
@@ -16,6 +16,8 @@
 
 package org.springframework.restdocs.operation;
 
+import java.nio.ByteBuffer;
+
 import org.springframework.http.HttpHeaders;
 
 /**
@@ -27,6 +29,8 @@ interface OperationMessage {
 
 	byte[] getContent();
 
+	ByteBuffer getContentAsByteBuffer();
+
 	String getContentAsString();
 
 	HttpHeaders getHeaders();
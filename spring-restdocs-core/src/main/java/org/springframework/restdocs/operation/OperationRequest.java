@@ -17,6 +17,7 @@
 package org.springframework.restdocs.operation;
 
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.util.Collection;
 
 import org.springframework.http.HttpHeaders;
@@ -37,6 +38,16 @@ public interface OperationRequest {
 	 */
 	byte[] getContent();
 
+	/**
+	 * Returns a read-only view of the content of the request. Unlike {@link #getContent()},
+	 * the content is not copied. If the request has no content an empty buffer is returned.
+	 * @return the read-only content, never {@code null}
+	 * @since 4.1.0
+	 */
+	default ByteBuffer getContentAsByteBuffer() {
+		return ByteBuffer.wrap(getContent()).asReadOnlyBuffer();
+	}
+
 	/**
 	 * Returns the content of the request as a {@link String}. If the request has no
 	 * content an empty string is returned. If the request has a {@code Content-Type}
@@ -89,10 +89,15 @@ public class OperationRequestFactory {
 	 * @return the new request with the new headers
 	 */
 	public OperationRequest createFrom(OperationRequest original, HttpHeaders newHeaders) {
-		return new StandardOperationRequest(original.getUri(), original.getMethod(), original.getContent(), newHeaders,
+		return new StandardOperationRequest(original.getUri(), original.getMethod(), getContent(original), newHeaders,
 				original.getParts(), original.getCookies());
 	}
 
+	private byte[] getContent(OperationRequest request) {
+		return (request instanceof AbstractOperationMessage) ? ((AbstractOperationMessage) request).getSharedContent()
+				: request.getContent();
+	}
+
 	private HttpHeaders augmentHeaders(HttpHeaders originalHeaders, URI uri, byte @Nullable [] content) {
 		return new HttpHeadersHelper(originalHeaders).addIfAbsent(HttpHeaders.HOST, createHostHeader(uri))
 			.setContentLengthHeader(content)
@@ -16,6 +16,8 @@
 
 package org.springframework.restdocs.operation;
 
+import java.nio.ByteBuffer;
+
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.http.HttpHeaders;
@@ -46,6 +48,16 @@ public interface OperationRequestPart {
 	 */
 	byte[] getContent();
 
+	/**
+	 * Returns a read-only view of the content of the part. Unlike {@link #getContent()},
+	 * the content is not copied. If the part has no content an empty buffer is returned.
+	 * @return the read-only content, never {@code null}
+	 * @since 4.1.0
+	 */
+	default ByteBuffer getContentAsByteBuffer() {
+		return ByteBuffer.wrap(getContent()).asReadOnlyBuffer();
+	}
+
 	/**
 	 * Returns the content of the part as a {@link String}. If the part has no content an
 	 * empty string is returned. If the part has a {@code Content-Type} header that
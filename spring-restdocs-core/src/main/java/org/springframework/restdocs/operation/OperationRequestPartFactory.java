@@ -16,6 +16,8 @@
 
 package org.springframework.restdocs.operation;
 
+import java.util.function.Supplier;
+
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.http.HttpHeaders;
@@ -42,6 +44,26 @@ public class OperationRequestPartFactory {
 		return new StandardOperationRequestPart(name, submittedFileName, content, augmentHeaders(headers, content));
 	}
 
+	/**
+	 * Creates a new {@link OperationRequestPart} whose content is retrieved from the
+	 * given {@code content} supplier the first time that it is needed, rather than when
+	 * the part is created. The supplier is called at most once. The given
+	 * {@code headers} will be augmented to ensure that they always include a
+	 * {@code Content-Length} header if the part has any content.
+	 * @param name the name of the part
+	 * @param submittedFileName the name of the file being submitted by the part
+	 * @param content the supplier of the content of the part
+	 * @param contentLength the length of the content that the supplier will provide
+	 * @param headers the headers of the part
+	 * @return the {@code OperationRequestPart}
+	 * @since 4.1.0
+	 */
+	public OperationRequestPart create(String name, @Nullable String submittedFileName, Supplier<byte[]> content,
+			long contentLength, HttpHeaders headers) {
+		return new StandardOperationRequestPart(name, submittedFileName, content,
+				new HttpHeadersHelper(headers).setContentLengthHeader(contentLength).getHeaders());
+	}
+
 	private HttpHeaders augmentHeaders(HttpHeaders input, byte[] content) {
 		return new HttpHeadersHelper(input).setContentLengthHeader(content).getHeaders();
 	}
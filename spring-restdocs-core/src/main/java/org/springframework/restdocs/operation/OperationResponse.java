@@ -16,6 +16,7 @@
 
 package org.springframework.restdocs.operation;
 
+import java.nio.ByteBuffer;
 import java.util.Collection;
 
 import org.springframework.http.HttpHeaders;
@@ -50,6 +51,16 @@ public interface OperationResponse {
 	 */
 	byte[] getContent();
 
+	/**
+	 * Returns a read-only view of the content of the response. Unlike {@link #getContent()},
+	 * the content is not copied. If the response has no content an empty buffer is returned.
+	 * @return the read-only content, never {@code null}
+	 * @since 4.1.0
+	 */
+	default ByteBuffer getContentAsByteBuffer() {
+		return ByteBuffer.wrap(getContent()).asReadOnlyBuffer();
+	}
+
 	/**
 	 * Returns the content of the response as a {@link String}. If the response has no
 	 * content an empty string is returned. If the response has a {@code Content-Type}
@@ -85,10 +85,15 @@ public class OperationResponseFactory {
 	 * @return the new response with the new headers
 	 */
 	public OperationResponse createFrom(OperationResponse original, HttpHeaders newHeaders) {
-		return new StandardOperationResponse(original.getStatus(), newHeaders, original.getContent(),
+		return new StandardOperationResponse(original.getStatus(), newHeaders, getContent(original),
 				original.getCookies());
 	}
 
+	private byte[] getContent(OperationResponse response) {
+		return (response instanceof AbstractOperationMessage)
+				? ((AbstractOperationMessage) response).getSharedContent() : response.getContent();
+	}
+
 	private HttpHeaders augmentHeaders(HttpHeaders originalHeaders, byte @Nullable [] content) {
 		return new HttpHeadersHelper(originalHeaders).setContentLengthHeader(content).getHeaders();
 	}
@@ -16,6 +16,8 @@
 
 package org.springframework.restdocs.operation;
 
+import java.util.function.Supplier;
+
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.http.HttpHeaders;
@@ -44,6 +46,22 @@ class StandardOperationRequestPart extends AbstractOperationMessage implements O
 		this.submittedFileName = submittedFileName;
 	}
 
+	/**
+	 * Creates a new {@code StandardOperationRequestPart} with the given {@code name}
+	 * whose content is retrieved from the given {@code content} supplier the first time
+	 * that it is needed.
+	 * @param name the name of the part
+	 * @param submittedFileName the name of the file being uploaded by this part
+	 * @param content the supplier of the contents of the part
+	 * @param headers the headers of the part
+	 */
+	StandardOperationRequestPart(String name, @Nullable String submittedFileName, Supplier<byte[]> content,
+			HttpHeaders headers) {
+		super(content, headers);
+		this.name = name;
+		this.submittedFileName = submittedFileName;
+	}
+
 	@Override
 	public String getName() {
 		return this.name;
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.operation.preprocess;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.http.MediaType;
+
+/**
+ * A {@link ContentModifier} that applies a chain of {@link ContentModifier
+ * ContentModifiers} in a single pass. Consecutive {@link TextContentModifier
+ * TextContentModifiers} that use the same charset share the decoded content, which is
+ * only encoded again when a modifier that works with bytes is reached or the chain is
+ * complete.
+ *
+ * @author Andy Wilkinson
+ */
+class ContentModifierChain implements ContentModifier {
+
+	private final List<ContentModifier> contentModifiers;
+
+	ContentModifierChain(List<ContentModifier> contentModifiers) {
+		this.contentModifiers = new ArrayList<>(contentModifiers);
+	}
+
+	@Override
+	public byte[] modifyContent(byte[] originalContent, @Nullable MediaType contentType) {
+		byte[] content = originalContent;
+		String text = null;
+		Charset textCharset = null;
+		for (ContentModifier contentModifier : this.contentModifiers) {
+			if (contentModifier instanceof TextContentModifier) {
+				TextContentModifier textContentModifier = (TextContentModifier) contentModifier;
+				Charset charset = textContentModifier.getCharset(contentType);
+				if (text == null || !charset.equals(textCharset)) {
+					if (text != null && textCharset != null) {
+						content = text.getBytes(textCharset);
+					}
+					text = new String(content, charset);
+					textCharset = charset;
+				}
+				text = textContentModifier.modifyText(text, contentType);
+			}
+			else {
+				if (text != null && textCharset != null) {
+					content = text.getBytes(textCharset);
+					text = null;
+				}
+				content = contentModifier.modifyContent(content, contentType);
+			}
+		}
+		return (text != null && textCharset != null) ? text.getBytes(textCharset) : content;
+	}
+
+	/**
+	 * Fuses each run of consecutive {@link ContentModifyingOperationPreprocessor
+	 * ContentModifyingOperationPreprocessors} in the given {@code preprocessors} into a
+	 * single preprocessor that applies their {@link ContentModifier ContentModifiers} as
+	 * a chain. The content is then only read once and the request or response is only
+	 * recreated once for each run. Subclasses of
+	 * {@code ContentModifyingOperationPreprocessor} are not fused as they may customize
+	 * its behavior.
+	 * @param preprocessors the preprocessors
+	 * @return the fused preprocessors
+	 */
+	static List<OperationPreprocessor> fuse(List<OperationPreprocessor> preprocessors) {
+		List<OperationPreprocessor> fused = new ArrayList<>(preprocessors.size());
+		List<ContentModifier> run = new ArrayList<>();
+		for (OperationPreprocessor preprocessor : preprocessors) {
+			if (preprocessor.getClass() == ContentModifyingOperationPreprocessor.class) {
+				run.add(((ContentModifyingOperationPreprocessor) preprocessor).getContentModifier());
+			}
+			else {
+				addRun(run, fused);
+				fused.add(preprocessor);
+			}
+		}
+		addRun(run, fused);
+		return fused;
+	}
+
+	private static void addRun(List<ContentModifier> run, List<OperationPreprocessor> fused) {
+		if (run.size() == 1) {
+			fused.add(new ContentModifyingOperationPreprocessor(run.get(0)));
+		}
+		else if (run.size() > 1) {
+			fused.add(new ContentModifyingOperationPreprocessor(new ContentModifierChain(run)));
+		}
+		run.clear();
+	}
+
+}
@@ -58,4 +58,8 @@ public class ContentModifyingOperationPreprocessor implements OperationPreproces
 		return this.responseFactory.createFrom(response, modifiedContent);
 	}
 
+	ContentModifier getContentModifier() {
+		return this.contentModifier;
+	}
+
 }
@@ -41,7 +41,7 @@ class DelegatingOperationRequestPreprocessor implements OperationRequestPreproce
 	 */
 	DelegatingOperationRequestPreprocessor(List<OperationPreprocessor> delegates) {
 		Assert.notNull(delegates, "delegates must be non-null");
-		this.delegates = delegates;
+		this.delegates = ContentModifierChain.fuse(delegates);
 	}
 
 	@Override
@@ -40,7 +40,7 @@ class DelegatingOperationResponsePreprocessor implements OperationResponsePrepro
 	 */
 	DelegatingOperationResponsePreprocessor(List<OperationPreprocessor> delegates) {
 		Assert.notNull(delegates, "delegates must be non-null");
-		this.delegates = delegates;
+		this.delegates = ContentModifierChain.fuse(delegates);
 	}
 
 	@Override
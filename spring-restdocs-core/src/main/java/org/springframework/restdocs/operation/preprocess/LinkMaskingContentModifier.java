@@ -16,8 +16,10 @@
 
 package org.springframework.restdocs.operation.preprocess;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.util.regex.Pattern;
+import java.util.function.IntUnaryOperator;
 
 import org.jspecify.annotations.Nullable;
 
@@ -25,28 +27,166 @@ import org.springframework.http.MediaType;
 
 /**
  * A content modifier the masks the {@code href} of any hypermedia links.
+ * <p>
+ * The content is scanned once and only the string values of {@code href} fields are
+ * replaced. Everything else, including the content's formatting, is copied unchanged.
+ * Escaped quotes are honored so string values that merely contain {@code "href"} are not
+ * modified. When the content's charset is ASCII-compatible, the scan works directly on
+ * the content's bytes without decoding them.
  *
  * @author Andy Wilkinson
  */
-class LinkMaskingContentModifier implements ContentModifier {
+class LinkMaskingContentModifier implements TextContentModifier {
 
 	private static final String DEFAULT_MASK = "...";
 
-	private static final Pattern LINK_HREF = Pattern.compile("\"href\"\\s*:\\s*\"(.*?)\"", Pattern.DOTALL);
-
-	private final ContentModifier contentModifier;
+	private final String mask;
 
 	LinkMaskingContentModifier() {
 		this(DEFAULT_MASK);
 	}
 
 	LinkMaskingContentModifier(String mask) {
-		this.contentModifier = new PatternReplacingContentModifier(LINK_HREF, mask, StandardCharsets.UTF_8);
+		this.mask = mask;
+	}
+
+	@Override
+	public Charset getCharset(@Nullable MediaType contentType) {
+		Charset charset = (contentType != null) ? contentType.getCharset() : null;
+		return (charset != null) ? charset : StandardCharsets.UTF_8;
 	}
 
 	@Override
 	public byte[] modifyContent(byte[] originalContent, @Nullable MediaType contentType) {
-		return this.contentModifier.modifyContent(originalContent, contentType);
+		Charset charset = getCharset(contentType);
+		if (!isAsciiCompatible(charset)) {
+			return TextContentModifier.super.modifyContent(originalContent, contentType);
+		}
+		HrefValueScanner scanner = new HrefValueScanner(originalContent.length, (index) -> originalContent[index]);
+		if (!scanner.next()) {
+			return originalContent;
+		}
+		byte[] mask = this.mask.getBytes(charset);
+		ByteArrayOutputStream modified = new ByteArrayOutputStream(originalContent.length);
+		int copied = 0;
+		do {
+			modified.write(originalContent, copied, scanner.valueStart - copied);
+			modified.write(mask, 0, mask.length);
+			copied = scanner.valueEnd;
+		}
+		while (scanner.next());
+		modified.write(originalContent, copied, originalContent.length - copied);
+		return modified.toByteArray();
+	}
+
+	@Override
+	public String modifyText(String content, @Nullable MediaType contentType) {
+		HrefValueScanner scanner = new HrefValueScanner(content.length(), content::charAt);
+		if (!scanner.next()) {
+			return content;
+		}
+		StringBuilder modified = new StringBuilder(content.length());
+		int copied = 0;
+		do {
+			modified.append(content, copied, scanner.valueStart).append(this.mask);
+			copied = scanner.valueEnd;
+		}
+		while (scanner.next());
+		return modified.append(content, copied, content.length()).toString();
+	}
+
+	private boolean isAsciiCompatible(Charset charset) {
+		return StandardCharsets.UTF_8.equals(charset) || StandardCharsets.US_ASCII.equals(charset)
+				|| StandardCharsets.ISO_8859_1.equals(charset);
+	}
+
+	/**
+	 * Scans content for the string values of {@code href} fields. Only ASCII characters
+	 * are of interest so the content may be either chars or the bytes of an
+	 * ASCII-compatible encoding.
+	 */
+	private static final class HrefValueScanner {
+
+		private final int length;
+
+		private final IntUnaryOperator content;
+
+		private int position;
+
+		private int valueStart;
+
+		private int valueEnd;
+
+		private HrefValueScanner(int length, IntUnaryOperator content) {
+			this.length = length;
+			this.content = content;
+		}
+
+		/**
+		 * Moves to the next {@code href} value, the contents of which will be from
+		 * {@code valueStart} (inclusive) to {@code valueEnd} (exclusive).
+		 * @return {@code true} if a value was found, otherwise {@code false}
+		 */
+		private boolean next() {
+			while (this.position < this.length) {
+				if (this.content.applyAsInt(this.position) != '"') {
+					this.position++;
+					continue;
+				}
+				int nameEnd = endOfString(this.position);
+				if (nameEnd == -1) {
+					break;
+				}
+				boolean href = isHref(this.position + 1, nameEnd);
+				this.position = nameEnd + 1;
+				if (href) {
+					int index = skipWhitespace(this.position);
+					if (index < this.length && this.content.applyAsInt(index) == ':') {
+						index = skipWhitespace(index + 1);
+						if (index < this.length && this.content.applyAsInt(index) == '"') {
+							int end = endOfString(index);
+							if (end == -1) {
+								break;
+							}
+							this.valueStart = index + 1;
+							this.valueEnd = end;
+							this.position = end + 1;
+							return true;
+						}
+					}
+				}
+			}
+			this.position = this.length;
+			return false;
+		}
+
+		private int endOfString(int start) {
+			for (int i = start + 1; i < this.length; i++) {
+				int c = this.content.applyAsInt(i);
+				if (c == '\\') {
+					i++;
+				}
+				else if (c == '"') {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		private boolean isHref(int start, int end) {
+			return end - start == 4 && this.content.applyAsInt(start) == 'h'
+					&& this.content.applyAsInt(start + 1) == 'r' && this.content.applyAsInt(start + 2) == 'e'
+					&& this.content.applyAsInt(start + 3) == 'f';
+		}
+
+		private int skipWhitespace(int start) {
+			int i = start;
+			while (i < this.length && Character.isWhitespace(this.content.applyAsInt(i))) {
+				i++;
+			}
+			return i;
+		}
+
 	}
 
 }
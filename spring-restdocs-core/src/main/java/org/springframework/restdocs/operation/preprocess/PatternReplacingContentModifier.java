@@ -16,7 +16,13 @@
 
 package org.springframework.restdocs.operation.preprocess;
 
+import java.io.ByteArrayOutputStream;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -25,17 +31,24 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.http.MediaType;
 
 /**
- * A {@link ContentModifier} that modifies the content by replacing occurrences of a
- * regular expression {@link Pattern}.
+ * A {@link ContentModifier} that modifies the content by replacing occurrences of one or
+ * more regular expression {@link Pattern Patterns}.
+ * <p>
+ * All of the patterns are applied in a single pass over the content. At each position,
+ * the pattern whose next match starts earliest wins, with ties going to the pattern that
+ * was registered first. Matches of other patterns that overlap a replaced match are
+ * ignored. When a pattern has a capturing group, only the first group is replaced.
+ * <p>
+ * When the content's charset is ISO-8859-1, or it is UTF-8 or US-ASCII and the content
+ * is pure ASCII, the patterns are matched against the content's bytes without decoding
+ * them.
  *
  * @author Andy Wilkinson
  * @author Dewet Diener
  */
-class PatternReplacingContentModifier implements ContentModifier {
+class PatternReplacingContentModifier implements TextContentModifier {
 
-	private final Pattern pattern;
-
-	private final String replacement;
+	private final List<Rule> rules;
 
 	private final Charset fallbackCharset;
 
@@ -61,36 +74,210 @@ class PatternReplacingContentModifier implements ContentModifier {
 	 * @param fallbackCharset the charset to use as a fallback
 	 */
 	PatternReplacingContentModifier(Pattern pattern, String replacement, Charset fallbackCharset) {
-		this.pattern = pattern;
-		this.replacement = replacement;
+		this(Collections.singletonMap(pattern, replacement), fallbackCharset);
+	}
+
+	/**
+	 * Creates a new {@link PatternReplacingContentModifier} that will replace occurrences
+	 * of each of the given {@code replacements} keys with the corresponding value. The
+	 * content is handled using the charset from its content type. When no content type
+	 * is specified the given {@code fallbackCharset} is used.
+	 * @param replacements the replacements, keyed by the pattern to replace, in order of
+	 * precedence
+	 * @param fallbackCharset the charset to use as a fallback
+	 */
+	PatternReplacingContentModifier(Map<Pattern, String> replacements, Charset fallbackCharset) {
+		List<Rule> rules = new ArrayList<>(replacements.size());
+		for (Map.Entry<Pattern, String> entry : replacements.entrySet()) {
+			rules.add(new Rule(entry.getKey(), entry.getValue()));
+		}
+		this.rules = rules;
 		this.fallbackCharset = fallbackCharset;
 	}
 
 	@Override
-	public byte[] modifyContent(byte[] content, @Nullable MediaType contentType) {
-		Charset charset = (contentType != null && contentType.getCharset() != null) ? contentType.getCharset()
-				: this.fallbackCharset;
-		String original = new String(content, charset);
-		Matcher matcher = this.pattern.matcher(original);
-		StringBuilder builder = new StringBuilder();
-		int previous = 0;
-		while (matcher.find()) {
-			String prefix;
-			if (matcher.groupCount() > 0) {
-				prefix = original.substring(previous, matcher.start(1));
-				previous = matcher.end(1);
+	public Charset getCharset(@Nullable MediaType contentType) {
+		Charset charset = (contentType != null) ? contentType.getCharset() : null;
+		return (charset != null) ? charset : this.fallbackCharset;
+	}
+
+	@Override
+	public byte[] modifyContent(byte[] originalContent, @Nullable MediaType contentType) {
+		Charset charset = getCharset(contentType);
+		if (!canMatchBytes(originalContent, charset)) {
+			return TextContentModifier.super.modifyContent(originalContent, contentType);
+		}
+		Scanner scanner = new Scanner(new ByteSequence(originalContent));
+		if (!scanner.next()) {
+			return originalContent;
+		}
+		byte[][] replacements = new byte[this.rules.size()][];
+		ByteArrayOutputStream modified = new ByteArrayOutputStream(originalContent.length);
+		int copied = 0;
+		do {
+			byte[] replacement = replacements[scanner.rule];
+			if (replacement == null) {
+				replacement = this.rules.get(scanner.rule).replacement.getBytes(charset);
+				replacements[scanner.rule] = replacement;
+			}
+			modified.write(originalContent, copied, scanner.replaceStart - copied);
+			modified.write(replacement, 0, replacement.length);
+			copied = scanner.replaceEnd;
+		}
+		while (scanner.next());
+		modified.write(originalContent, copied, originalContent.length - copied);
+		return modified.toByteArray();
+	}
+
+	@Override
+	public String modifyText(String original, @Nullable MediaType contentType) {
+		Scanner scanner = new Scanner(original);
+		if (!scanner.next()) {
+			return original;
+		}
+		StringBuilder modified = new StringBuilder(original.length());
+		int copied = 0;
+		do {
+			modified.append(original, copied, scanner.replaceStart)
+				.append(this.rules.get(scanner.rule).replacement);
+			copied = scanner.replaceEnd;
+		}
+		while (scanner.next());
+		return modified.append(original, copied, original.length()).toString();
+	}
+
+	private boolean canMatchBytes(byte[] content, Charset charset) {
+		if (StandardCharsets.ISO_8859_1.equals(charset)) {
+			return true;
+		}
+		if (StandardCharsets.UTF_8.equals(charset) || StandardCharsets.US_ASCII.equals(charset)) {
+			for (byte b : content) {
+				if (b < 0) {
+					return false;
+				}
+			}
+			return true;
+		}
+		return false;
+	}
+
+	private static final class Rule {
+
+		private final Pattern pattern;
+
+		private final String replacement;
+
+		private Rule(Pattern pattern, String replacement) {
+			this.pattern = pattern;
+			this.replacement = replacement;
+		}
+
+	}
+
+	/**
+	 * Scans content for the matches of all of the rules in a single pass, producing the
+	 * regions that should be replaced in the order in which they appear.
+	 */
+	private final class Scanner {
+
+		private final Matcher[] matchers;
+
+		private final boolean[] found;
+
+		private int position;
+
+		private int rule;
+
+		private int replaceStart;
+
+		private int replaceEnd;
+
+		private Scanner(CharSequence content) {
+			List<Rule> rules = PatternReplacingContentModifier.this.rules;
+			this.matchers = new Matcher[rules.size()];
+			this.found = new boolean[rules.size()];
+			for (int i = 0; i < this.matchers.length; i++) {
+				this.matchers[i] = rules.get(i).pattern.matcher(content)
+					.useTransparentBounds(true)
+					.useAnchoringBounds(false);
+				this.found[i] = this.matchers[i].find();
+			}
+		}
+
+		private boolean next() {
+			int earliest = -1;
+			for (int i = 0; i < this.matchers.length; i++) {
+				if (this.found[i] && this.matchers[i].start() < this.position) {
+					// Unlike find(int), a region keeps the transparent, non-anchoring bounds
+					Matcher matcher = this.matchers[i];
+					this.found[i] = matcher.region(this.position, matcher.regionEnd()).find();
+				}
+				if (this.found[i]
+						&& (earliest == -1 || this.matchers[i].start() < this.matchers[earliest].start())) {
+					earliest = i;
+				}
+			}
+			if (earliest == -1) {
+				return false;
+			}
+			Matcher matcher = this.matchers[earliest];
+			if (matcher.groupCount() > 0 && matcher.start(1) != -1) {
+				this.replaceStart = matcher.start(1);
+				this.replaceEnd = matcher.end(1);
 			}
 			else {
-				prefix = original.substring(previous, matcher.start());
-				previous = matcher.end();
+				this.replaceStart = matcher.start();
+				this.replaceEnd = matcher.end();
 			}
-			builder.append(prefix);
-			builder.append(this.replacement);
+			this.rule = earliest;
+			this.position = matcher.end();
+			this.found[earliest] = matcher.find();
+			return true;
+		}
+
+	}
+
+	/**
+	 * A {@link CharSequence} view of content whose bytes each encode a single character.
+	 */
+	private static final class ByteSequence implements CharSequence {
+
+		private final byte[] bytes;
+
+		private final int offset;
+
+		private final int length;
+
+		private ByteSequence(byte[] bytes) {
+			this(bytes, 0, bytes.length);
 		}
-		if (previous < original.length()) {
-			builder.append(original.substring(previous));
+
+		private ByteSequence(byte[] bytes, int offset, int length) {
+			this.bytes = bytes;
+			this.offset = offset;
+			this.length = length;
 		}
-		return builder.toString().getBytes(charset);
+
+		@Override
+		public int length() {
+			return this.length;
+		}
+
+		@Override
+		public char charAt(int index) {
+			return (char) (this.bytes[this.offset + index] & 0xFF);
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			return new ByteSequence(this.bytes, this.offset + start, end - start);
+		}
+
+		@Override
+		public String toString() {
+			return new String(this.bytes, this.offset, this.length, StandardCharsets.ISO_8859_1);
+		}
+
 	}
 
 }
@@ -16,9 +16,12 @@
 
 package org.springframework.restdocs.operation.preprocess;
 
+import java.nio.charset.Charset;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.regex.Pattern;
 
+import org.springframework.http.MediaType;
 import org.springframework.restdocs.operation.Operation;
 import org.springframework.restdocs.operation.OperationRequest;
 import org.springframework.restdocs.operation.OperationResponse;
@@ -68,6 +71,19 @@ public final class Preprocessors {
 		return new ContentModifyingOperationPreprocessor(new PrettyPrintingContentModifier());
 	}
 
+	/**
+	 * Returns an {@code OperationPreprocessor} that will pretty print the content of the
+	 * request or response using the given {@code prettyPrinters}, keyed by the type of
+	 * content that they can pretty print, in preference to the default JSON and XML
+	 * pretty printers.
+	 * @param prettyPrinters the additional pretty printers
+	 * @return the preprocessor
+	 * @since 4.1.0
+	 */
+	public static OperationPreprocessor prettyPrint(Map<MediaType, ContentModifier> prettyPrinters) {
+		return new ContentModifyingOperationPreprocessor(new PrettyPrintingContentModifier(prettyPrinters));
+	}
+
 	/**
 	 * Returns an {@code OperationPreprocessor} that will mask the href of hypermedia
 	 * links in the request or response.
@@ -99,6 +115,22 @@ public final class Preprocessors {
 		return new ContentModifyingOperationPreprocessor(new PatternReplacingContentModifier(pattern, replacement));
 	}
 
+	/**
+	 * Returns an {@code OperationPreprocessor} that will modify the content of the
+	 * request or response by replacing occurrences of each of the given
+	 * {@code replacements} keys with the corresponding value. All of the patterns are
+	 * applied in a single pass over the content. When the matches of two or more
+	 * patterns overlap, the match that starts first is replaced. Matches that start at
+	 * the same position are resolved using the iteration order of the given map.
+	 * @param replacements the replacements, keyed by the pattern to replace
+	 * @return the preprocessor
+	 * @since 4.1.0
+	 */
+	public static OperationPreprocessor replacePatterns(Map<Pattern, String> replacements) {
+		return new ContentModifyingOperationPreprocessor(
+				new PatternReplacingContentModifier(replacements, Charset.defaultCharset()));
+	}
+
 	/**
 	 * Returns a {@code HeadersModifyingOperationPreprocessor} that can then be configured
 	 * to modify the headers of the request or response.
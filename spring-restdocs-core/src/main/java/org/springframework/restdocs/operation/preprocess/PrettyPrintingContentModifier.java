@@ -19,9 +19,10 @@ package org.springframework.restdocs.operation.preprocess;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.util.Arrays;
 import java.util.Collections;
-import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
 
 import javax.xml.XMLConstants;
 import javax.xml.parsers.ParserConfigurationException;
@@ -30,6 +31,7 @@ import javax.xml.parsers.SAXParserFactory;
 import javax.xml.transform.ErrorListener;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.sax.SAXSource;
@@ -41,6 +43,8 @@ import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 import org.xml.sax.SAXParseException;
 import org.xml.sax.XMLReader;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.SerializationFeature;
 import tools.jackson.databind.json.JsonMapper;
@@ -48,44 +52,115 @@ import tools.jackson.databind.json.JsonMapper;
 import org.springframework.http.MediaType;
 
 /**
- * A {@link ContentModifier} that modifies the content by pretty printing it.
+ * A {@link ContentModifier} that modifies the content by pretty printing it. The pretty
+ * printer that is used is selected using the content's type. JSON and XML content is
+ * pretty printed by default. Content of any other type is left unchanged without any
+ * attempt being made to parse it. When the type of the content is unknown, the start of
+ * the content is examined to determine whether it may be JSON or XML.
  *
  * @author Andy Wilkinson
  */
 public class PrettyPrintingContentModifier implements ContentModifier {
 
-	private static final List<PrettyPrinter> PRETTY_PRINTERS = Collections
-		.unmodifiableList(Arrays.asList(new JsonPrettyPrinter(), new XmlPrettyPrinter()));
+	private static final PrettyPrinter JSON_PRETTY_PRINTER = new JsonPrettyPrinter();
+
+	private static final PrettyPrinter XML_PRETTY_PRINTER = new XmlPrettyPrinter();
+
+	private final Map<MediaType, ContentModifier> prettyPrinters = new LinkedHashMap<>();
+
+	/**
+	 * Creates a new {@code PrettyPrintingContentModifier} that will pretty print JSON and
+	 * XML content.
+	 */
+	public PrettyPrintingContentModifier() {
+		this(Collections.emptyMap());
+	}
+
+	/**
+	 * Creates a new {@code PrettyPrintingContentModifier} that will use the given
+	 * {@code prettyPrinters}, keyed by the type of content that they can pretty print,
+	 * in preference to the default JSON and XML pretty printers. A pretty printer should
+	 * return the original content if it cannot be pretty printed.
+	 * @param prettyPrinters the additional pretty printers
+	 * @since 4.1.0
+	 */
+	public PrettyPrintingContentModifier(Map<MediaType, ContentModifier> prettyPrinters) {
+		this.prettyPrinters.putAll(prettyPrinters);
+		this.prettyPrinters.putIfAbsent(MediaType.APPLICATION_JSON, JSON_PRETTY_PRINTER);
+		this.prettyPrinters.putIfAbsent(new MediaType("application", "*+json"), JSON_PRETTY_PRINTER);
+		this.prettyPrinters.putIfAbsent(MediaType.APPLICATION_XML, XML_PRETTY_PRINTER);
+		this.prettyPrinters.putIfAbsent(MediaType.TEXT_XML, XML_PRETTY_PRINTER);
+		this.prettyPrinters.putIfAbsent(new MediaType("application", "*+xml"), XML_PRETTY_PRINTER);
+	}
 
 	@Override
 	public byte[] modifyContent(byte[] originalContent, @Nullable MediaType contentType) {
 		if (originalContent.length > 0) {
-			for (PrettyPrinter prettyPrinter : PRETTY_PRINTERS) {
-				try {
-					return prettyPrinter.prettyPrint(originalContent);
-				}
-				catch (Exception ex) {
-					// Continue
-				}
+			ContentModifier prettyPrinter = (contentType != null) ? getPrettyPrinter(contentType)
+					: getPrettyPrinter(originalContent);
+			if (prettyPrinter != null) {
+				return prettyPrinter.modifyContent(originalContent, contentType);
 			}
 		}
 		return originalContent;
 	}
 
-	private interface PrettyPrinter {
+	private @Nullable ContentModifier getPrettyPrinter(MediaType contentType) {
+		for (Entry<MediaType, ContentModifier> entry : this.prettyPrinters.entrySet()) {
+			if (contentType.isCompatibleWith(entry.getKey())) {
+				return entry.getValue();
+			}
+		}
+		return null;
+	}
+
+	private @Nullable ContentModifier getPrettyPrinter(byte[] content) {
+		int i = 0;
+		if (content.length >= 3 && (content[0] & 0xFF) == 0xEF && (content[1] & 0xFF) == 0xBB
+				&& (content[2] & 0xFF) == 0xBF) {
+			i = 3;
+		}
+		while (i < content.length && Character.isWhitespace(content[i])) {
+			i++;
+		}
+		if (i < content.length) {
+			if (content[i] == '<') {
+				return XML_PRETTY_PRINTER;
+			}
+			return JSON_PRETTY_PRINTER;
+		}
+		return null;
+	}
+
+	/**
+	 * Base class for the default pretty printers. Content that cannot be pretty printed is
+	 * left unchanged.
+	 */
+	private abstract static class PrettyPrinter implements ContentModifier {
+
+		@Override
+		public byte[] modifyContent(byte[] originalContent, @Nullable MediaType contentType) {
+			try {
+				return prettyPrint(originalContent);
+			}
+			catch (Exception ex) {
+				return originalContent;
+			}
+		}
 
-		byte[] prettyPrint(byte[] content) throws Exception;
+		abstract byte[] prettyPrint(byte[] content) throws Exception;
 
 	}
 
-	private static final class XmlPrettyPrinter implements PrettyPrinter {
+	private static final class XmlPrettyPrinter extends PrettyPrinter {
+
+		private static final TransformerFactory transformerFactory = createTransformerFactory();
+
+		private static final SAXParserFactory parserFactory = createParserFactory();
 
 		@Override
-		public byte[] prettyPrint(byte[] original) throws Exception {
-			TransformerFactory transformerFactory = TransformerFactory.newInstance();
-			transformerFactory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "");
-			transformerFactory.setAttribute(XMLConstants.ACCESS_EXTERNAL_STYLESHEET, "");
-			Transformer transformer = transformerFactory.newTransformer();
+		byte[] prettyPrint(byte[] original) throws Exception {
+			Transformer transformer = newTransformer();
 			transformer.setOutputProperty(OutputKeys.INDENT, "yes");
 			transformer.setOutputProperty("{http://xml.apache.org/xslt}indent-amount", "4");
 			transformer.setOutputProperty(OutputKeys.DOCTYPE_PUBLIC, "yes");
@@ -97,16 +172,45 @@ public class PrettyPrintingContentModifier implements ContentModifier {
 		}
 
 		private SAXSource createSaxSource(byte[] original) throws ParserConfigurationException, SAXException {
-			SAXParserFactory parserFactory = SAXParserFactory.newInstance();
-			parserFactory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
-			parserFactory.setFeature("http://xml.org/sax/features/external-general-entities", false);
-			parserFactory.setXIncludeAware(false);
-			SAXParser parser = parserFactory.newSAXParser();
+			SAXParser parser = newSaxParser();
 			XMLReader xmlReader = parser.getXMLReader();
 			xmlReader.setErrorHandler(new SilentErrorHandler());
 			return new SAXSource(xmlReader, new InputSource(new ByteArrayInputStream(original)));
 		}
 
+		private static Transformer newTransformer() throws TransformerConfigurationException {
+			// JAXP factories are not guaranteed to be thread-safe
+			synchronized (transformerFactory) {
+				return transformerFactory.newTransformer();
+			}
+		}
+
+		private static SAXParser newSaxParser() throws ParserConfigurationException, SAXException {
+			synchronized (parserFactory) {
+				return parserFactory.newSAXParser();
+			}
+		}
+
+		private static TransformerFactory createTransformerFactory() {
+			TransformerFactory factory = TransformerFactory.newInstance();
+			factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+			factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_STYLESHEET, "");
+			return factory;
+		}
+
+		private static SAXParserFactory createParserFactory() {
+			try {
+				SAXParserFactory factory = SAXParserFactory.newInstance();
+				factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+				factory.setFeature("http://xml.org/sax/features/external-general-entities", false);
+				factory.setXIncludeAware(false);
+				return factory;
+			}
+			catch (Exception ex) {
+				throw new IllegalStateException("Failed to create SAX parser factory", ex);
+			}
+		}
+
 		private static final class SilentErrorListener implements ErrorListener {
 
 			@Override
@@ -147,15 +251,32 @@ public class PrettyPrintingContentModifier implements ContentModifier {
 
 	}
 
-	private static final class JsonPrettyPrinter implements PrettyPrinter {
+	/**
+	 * A {@link PrettyPrinter} for JSON that copies the tokens of the original content to
+	 * an indenting generator. No tree of the content is created so, beyond the input and
+	 * output buffers, the memory that is required is bounded by the content's nesting
+	 * depth rather than its size.
+	 */
+	private static final class JsonPrettyPrinter extends PrettyPrinter {
 
 		private final ObjectMapper objectMapper = JsonMapper.builder()
 			.enable(SerializationFeature.INDENT_OUTPUT)
 			.build();
 
 		@Override
-		public byte[] prettyPrint(byte[] original) throws IOException {
-			return this.objectMapper.writeValueAsBytes(this.objectMapper.readTree(original));
+		byte[] prettyPrint(byte[] original) throws IOException {
+			ByteArrayOutputStream prettyPrinted = new ByteArrayOutputStream(original.length + (original.length >> 2));
+			try (JsonParser parser = this.objectMapper.createParser(original);
+					JsonGenerator generator = this.objectMapper.createGenerator(prettyPrinted)) {
+				if (parser.nextToken() == null) {
+					throw new IOException("Content is empty");
+				}
+				generator.copyCurrentStructure(parser);
+				if (parser.nextToken() != null) {
+					throw new IOException("Content has trailing tokens");
+				}
+			}
+			return prettyPrinted.toByteArray();
 		}
 
 	}
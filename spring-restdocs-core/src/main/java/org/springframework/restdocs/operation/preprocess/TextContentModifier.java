@@ -0,0 +1,57 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.operation.preprocess;
+
+import java.nio.charset.Charset;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.http.MediaType;
+
+/**
+ * A {@link ContentModifier} that modifies content as text. When consecutive
+ * {@code TextContentModifiers} use the same charset, they can be applied by a
+ * {@link ContentModifierChain} without the content being encoded and decoded between
+ * each modification.
+ *
+ * @author Andy Wilkinson
+ */
+interface TextContentModifier extends ContentModifier {
+
+	/**
+	 * Returns the charset that is used to decode and encode content with the given
+	 * {@code contentType}.
+	 * @param contentType the type of the content, may be {@code null}
+	 * @return the charset
+	 */
+	Charset getCharset(@Nullable MediaType contentType);
+
+	/**
+	 * Modifies the given decoded {@code content}.
+	 * @param content the decoded content
+	 * @param contentType the type of the content, may be {@code null}
+	 * @return the modified content
+	 */
+	String modifyText(String content, @Nullable MediaType contentType);
+
+	@Override
+	default byte[] modifyContent(byte[] originalContent, @Nullable MediaType contentType) {
+		Charset charset = getCharset(contentType);
+		return modifyText(new String(originalContent, charset), contentType).getBytes(charset);
+	}
+
+}
@@ -17,6 +17,8 @@
 package org.springframework.restdocs.payload;
 
 import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.util.HashMap;
 import java.util.Map;
@@ -27,6 +29,7 @@ import org.springframework.http.MediaType;
 import org.springframework.restdocs.operation.Operation;
 import org.springframework.restdocs.snippet.ModelCreationException;
 import org.springframework.restdocs.snippet.TemplatedSnippet;
+import org.springframework.util.ReflectionUtils;
 
 /**
  * Abstract {@link TemplatedSnippet} subclass that provides a base for snippets that
@@ -39,6 +42,8 @@ public abstract class AbstractBodySnippet extends TemplatedSnippet {
 
 	private final @Nullable PayloadSubsectionExtractor<?> subsectionExtractor;
 
+	private final boolean useContentView;
+
 	/**
 	 * Creates a new {@code AbstractBodySnippet} that will produce a snippet named
 	 * {@code <type>-body} using a template named {@code <type>-body}. The snippet will
@@ -72,6 +77,7 @@ public abstract class AbstractBodySnippet extends TemplatedSnippet {
 		super(name + "-body" + ((subsectionExtractor != null) ? "-" + subsectionExtractor.getSubsectionId() : ""),
 				type + "-body", attributes);
 		this.subsectionExtractor = subsectionExtractor;
+		this.useContentView = isContentViewConsistentWithContent();
 	}
 
 	@Override
@@ -79,12 +85,20 @@ public abstract class AbstractBodySnippet extends TemplatedSnippet {
 		try {
 			MediaType contentType = getContentType(operation);
 			String language = determineLanguage(contentType);
-			byte[] content = getContent(operation);
+			Charset charset = extractCharset(contentType);
+			if (charset == null) {
+				charset = Charset.defaultCharset();
+			}
+			String body;
 			if (this.subsectionExtractor != null) {
-				content = this.subsectionExtractor.extractSubsection(content, contentType);
+				byte[] content = this.subsectionExtractor.extractSubsection(getContent(operation), contentType);
+				body = new String(content, charset);
+			}
+			else {
+				ByteBuffer content = (this.useContentView) ? getContentAsByteBuffer(operation)
+						: ByteBuffer.wrap(getContent(operation));
+				body = charset.decode(content).toString();
 			}
-			Charset charset = extractCharset(contentType);
-			String body = (charset != null) ? new String(content, charset) : new String(content);
 			Map<String, Object> model = new HashMap<>();
 			model.put("language", language);
 			model.put("body", body);
@@ -118,6 +132,30 @@ public abstract class AbstractBodySnippet extends TemplatedSnippet {
 	 */
 	protected abstract byte[] getContent(Operation operation) throws IOException;
 
+	/**
+	 * Returns a read-only view of the content of the request or response extracted from
+	 * the given {@code operation}. The default implementation wraps the result of
+	 * {@link #getContent(Operation)}. Subclasses should override this method when the
+	 * content can be accessed without being copied. The view is not used when
+	 * {@code getContent} is overridden by a subclass of the class that overrides this
+	 * method, so that the overridden {@code getContent} always provides the content.
+	 * @param operation the operation
+	 * @return the content
+	 * @throws IOException if the content cannot be extracted
+	 * @since 4.1.0
+	 */
+	protected ByteBuffer getContentAsByteBuffer(Operation operation) throws IOException {
+		return ByteBuffer.wrap(getContent(operation)).asReadOnlyBuffer();
+	}
+
+	private boolean isContentViewConsistentWithContent() {
+		Method getContent = ReflectionUtils.findMethod(getClass(), "getContent", Operation.class);
+		Method getContentAsByteBuffer = ReflectionUtils.findMethod(getClass(), "getContentAsByteBuffer",
+				Operation.class);
+		return getContent != null && getContentAsByteBuffer != null
+				&& getContent.getDeclaringClass().isAssignableFrom(getContentAsByteBuffer.getDeclaringClass());
+	}
+
 	/**
 	 * Returns the content type of the request or response extracted from the given
 	 * {@code operation}.
@@ -17,6 +17,8 @@
 package org.springframework.restdocs.payload;
 
 import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -32,6 +34,7 @@ import org.springframework.restdocs.snippet.ModelCreationException;
 import org.springframework.restdocs.snippet.SnippetException;
 import org.springframework.restdocs.snippet.TemplatedSnippet;
 import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -44,7 +47,7 @@ import org.springframework.util.StringUtils;
  */
 public abstract class AbstractFieldsSnippet extends TemplatedSnippet {
 
-	private final List<FieldDescriptor> fieldDescriptors;
+	private final CompiledFieldDescriptors fieldDescriptors;
 
 	private final boolean ignoreUndocumentedFields;
 
@@ -52,6 +55,8 @@ public abstract class AbstractFieldsSnippet extends TemplatedSnippet {
 
 	private final @Nullable PayloadSubsectionExtractor<?> subsectionExtractor;
 
+	private final boolean useContentView;
+
 	/**
 	 * Creates a new {@code AbstractFieldsSnippet} that will produce a snippet named
 	 * {@code <type>-fields} using a template named {@code <type>-fields}. The fields will
@@ -131,42 +136,69 @@ public abstract class AbstractFieldsSnippet extends TemplatedSnippet {
 	protected AbstractFieldsSnippet(String name, String type, List<FieldDescriptor> descriptors,
 			@Nullable Map<String, Object> attributes, boolean ignoreUndocumentedFields,
 			@Nullable PayloadSubsectionExtractor<?> subsectionExtractor) {
+		this(name, type, CompiledFieldDescriptors.compile(descriptors), attributes, ignoreUndocumentedFields,
+				subsectionExtractor);
+	}
+
+	/**
+	 * Creates a new {@code AbstractFieldsSnippet} that will produce a snippet named
+	 * {@code <name>-fields} using a template named {@code <type>-fields}. The fields in
+	 * the subsection of the payload extracted by the given {@code subsectionExtractor}
+	 * will be documented using the given compiled {@code descriptors}. If the extractor
+	 * is {@code null}, the fields of the entire payload will be documented. The given
+	 * {@code attributes} will be included in the model during template rendering. If
+	 * {@code ignoreUndocumentedFields} is {@code true}, undocumented fields will be
+	 * ignored and will not trigger a failure.
+	 * @param name the name of the snippet
+	 * @param type the type of the fields
+	 * @param descriptors the compiled field descriptors
+	 * @param attributes the additional attributes
+	 * @param ignoreUndocumentedFields whether undocumented fields should be ignored
+	 * @param subsectionExtractor the subsection extractor or {@code null} to document the
+	 * fields of the entire payload.
+	 * @since 4.1.0
+	 * @see PayloadDocumentation#compile(List)
+	 */
+	protected AbstractFieldsSnippet(String name, String type, CompiledFieldDescriptors descriptors,
+			@Nullable Map<String, Object> attributes, boolean ignoreUndocumentedFields,
+			@Nullable PayloadSubsectionExtractor<?> subsectionExtractor) {
 		super(name + "-fields" + ((subsectionExtractor != null) ? "-" + subsectionExtractor.getSubsectionId() : ""),
 				type + "-fields", attributes);
-		for (FieldDescriptor descriptor : descriptors) {
-			Assert.notNull(descriptor.getPath(), "Field descriptors must have a path");
-			if (!descriptor.isIgnored()) {
-				Assert.notNull(descriptor.getDescription() != null, "The descriptor for '" + descriptor.getPath()
-						+ "' must have a" + " description or it must be marked as ignored");
-			}
-		}
 		this.fieldDescriptors = descriptors;
 		this.ignoreUndocumentedFields = ignoreUndocumentedFields;
 		this.type = type;
 		this.subsectionExtractor = subsectionExtractor;
+		this.useContentView = isContentViewConsistentWithContent();
 	}
 
 	@Override
 	protected Map<String, Object> createModel(Operation operation) {
-		byte[] content;
+		MediaType contentType = getContentType(operation);
+		ByteBuffer content;
 		try {
-			content = verifyContent(getContent(operation));
+			if (this.subsectionExtractor != null) {
+				byte[] subsection = this.subsectionExtractor.extractSubsection(verifyContent(getContent(operation)),
+						contentType, this.fieldDescriptors.getDescriptors());
+				content = ByteBuffer.wrap(verifyContent(subsection));
+			}
+			else {
+				content = (this.useContentView) ? getContentAsByteBuffer(operation)
+						: ByteBuffer.wrap(getContent(operation));
+				if (!content.hasRemaining()) {
+					throw emptyContent();
+				}
+			}
 		}
 		catch (IOException ex) {
 			throw new ModelCreationException(ex);
 		}
-		MediaType contentType = getContentType(operation);
-		if (this.subsectionExtractor != null) {
-			content = verifyContent(
-					this.subsectionExtractor.extractSubsection(content, contentType, this.fieldDescriptors));
-		}
-		ContentHandler contentHandler = ContentHandler.forContentWithDescriptors(content, contentType,
+		ContentHandler contentHandler = ContentHandlerRegistry.getDefault().createHandler(content, contentType,
 				this.fieldDescriptors);
 
 		validateFieldDocumentation(contentHandler);
 
 		List<FieldDescriptor> descriptorsToDocument = new ArrayList<>();
-		for (FieldDescriptor descriptor : this.fieldDescriptors) {
+		for (FieldDescriptor descriptor : this.fieldDescriptors.getDescriptors()) {
 			if (!descriptor.isIgnored()) {
 				try {
 					Object type = contentHandler.resolveFieldType(descriptor);
@@ -194,12 +226,16 @@ public abstract class AbstractFieldsSnippet extends TemplatedSnippet {
 
 	private byte[] verifyContent(byte[] content) {
 		if (content.length == 0) {
-			throw new SnippetException(
-					"Cannot document " + this.type + " fields as the " + this.type + " body is empty");
+			throw emptyContent();
 		}
 		return content;
 	}
 
+	private SnippetException emptyContent() {
+		return new SnippetException(
+				"Cannot document " + this.type + " fields as the " + this.type + " body is empty");
+	}
+
 	private void validateFieldDocumentation(ContentHandler payloadHandler) {
 		List<FieldDescriptor> missingFields = payloadHandler.findMissingFields();
 
@@ -242,13 +278,38 @@ public abstract class AbstractFieldsSnippet extends TemplatedSnippet {
 	 */
 	protected abstract byte[] getContent(Operation operation) throws IOException;
 
+	/**
+	 * Returns a read-only view of the content of the request or response extracted from
+	 * the given {@code operation}. The default implementation wraps the result of
+	 * {@link #getContent(Operation)}. Subclasses should override this method when the
+	 * content can be accessed without being copied. The view is not used when a
+	 * {@link PayloadSubsectionExtractor} has been configured. It is also not used when
+	 * {@code getContent} is overridden by a subclass of the class that overrides this
+	 * method, so that the overridden {@code getContent} always provides the content.
+	 * @param operation the operation
+	 * @return the content
+	 * @throws IOException if the content cannot be extracted
+	 * @since 4.1.0
+	 */
+	protected ByteBuffer getContentAsByteBuffer(Operation operation) throws IOException {
+		return ByteBuffer.wrap(getContent(operation)).asReadOnlyBuffer();
+	}
+
+	private boolean isContentViewConsistentWithContent() {
+		Method getContent = ReflectionUtils.findMethod(getClass(), "getContent", Operation.class);
+		Method getContentAsByteBuffer = ReflectionUtils.findMethod(getClass(), "getContentAsByteBuffer",
+				Operation.class);
+		return getContent != null && getContentAsByteBuffer != null
+				&& getContent.getDeclaringClass().isAssignableFrom(getContentAsByteBuffer.getDeclaringClass());
+	}
+
 	/**
 	 * Returns the list of {@link FieldDescriptor FieldDescriptors} that will be used to
 	 * generate the documentation.
 	 * @return the field descriptors
 	 */
 	protected final List<FieldDescriptor> getFieldDescriptors() {
-		return this.fieldDescriptors;
+		return this.fieldDescriptors.getDescriptors();
 	}
 
 	/**
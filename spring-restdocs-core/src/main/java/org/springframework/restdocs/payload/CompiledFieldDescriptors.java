@@ -0,0 +1,178 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.payload;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.springframework.util.Assert;
+import org.springframework.util.function.SingletonSupplier;
+
+/**
+ * An immutable set of {@link FieldDescriptor FieldDescriptors} that has been compiled so
+ * that it can be reused efficiently by any number of snippets. The descriptors are
+ * validated once, when they are compiled. The structures used to handle JSON payloads,
+ * the parsed paths and the index of the optional fields that each path is nested
+ * beneath, are built once, when a JSON payload first needs them, so descriptors of
+ * other payloads do not pay for them. A compiled set is safe to share between
+ * snippets and tests that run concurrently.
+ * <p>
+ * The compiled set refers to the original descriptors. They should not be modified once
+ * they have been compiled.
+ *
+ * @author Andy Wilkinson
+ * @since 4.1.0
+ * @see PayloadDocumentation#compile(FieldDescriptor...)
+ * @see PayloadDocumentation#compile(List)
+ */
+public final class CompiledFieldDescriptors {
+
+	private final List<FieldDescriptor> descriptors;
+
+	private final SingletonSupplier<Map<String, JsonFieldPath>> paths;
+
+	private final SingletonSupplier<JsonFieldPathTrie> trie;
+
+	private final SingletonSupplier<OptionalFieldIndex> optionalFieldIndex;
+
+	CompiledFieldDescriptors(Collection<FieldDescriptor> descriptors) {
+		this.descriptors = Collections.unmodifiableList(new ArrayList<>(descriptors));
+		this.paths = SingletonSupplier.of(() -> compilePaths(this.descriptors));
+		this.trie = SingletonSupplier.of(() -> JsonFieldPathTrie.ofCompiledPaths(this.paths.obtain().values()));
+		this.optionalFieldIndex = SingletonSupplier.of(() -> new OptionalFieldIndex(this.descriptors));
+	}
+
+	private static Map<String, JsonFieldPath> compilePaths(List<FieldDescriptor> descriptors) {
+		Map<String, JsonFieldPath> compiledPaths = new LinkedHashMap<>();
+		for (FieldDescriptor descriptor : descriptors) {
+			compiledPaths.computeIfAbsent(descriptor.getPath(), JsonFieldPath::compile);
+		}
+		return compiledPaths;
+	}
+
+	/**
+	 * Returns the compiled descriptors.
+	 * @return the descriptors
+	 */
+	public List<FieldDescriptor> getDescriptors() {
+		return this.descriptors;
+	}
+
+	/**
+	 * Returns the compiled form of the given {@code path}. Paths that do not belong to
+	 * one of the descriptors are compiled on demand.
+	 * @param path the path
+	 * @return the compiled path
+	 */
+	JsonFieldPath getPath(String path) {
+		JsonFieldPath compiled = this.paths.obtain().get(path);
+		return (compiled != null) ? compiled : JsonFieldPath.compile(path);
+	}
+
+	/**
+	 * Returns a trie of the paths of all of the descriptors that can be used to match
+	 * them against a payload in a single traversal.
+	 * @return the trie
+	 */
+	JsonFieldPathTrie getTrie() {
+		return this.trie.obtain();
+	}
+
+	/**
+	 * Returns the paths of the optional fields, other than the given
+	 * {@code descriptor}, whose path is a prefix of the descriptor's path.
+	 * @param descriptor the descriptor
+	 * @return the paths of the optional fields
+	 */
+	List<String> getOptionalPrefixes(FieldDescriptor descriptor) {
+		return this.optionalFieldIndex.obtain().getOptionalPrefixes(descriptor);
+	}
+
+	/**
+	 * Validates and compiles the given {@code descriptors}.
+	 * @param descriptors the descriptors
+	 * @return the compiled descriptors
+	 */
+	static CompiledFieldDescriptors compile(List<FieldDescriptor> descriptors) {
+		for (FieldDescriptor descriptor : descriptors) {
+			Assert.notNull(descriptor.getPath(), "Field descriptors must have a path");
+			if (!descriptor.isIgnored()) {
+				Assert.notNull(descriptor.getDescription() != null, "The descriptor for '" + descriptor.getPath()
+						+ "' must have a" + " description or it must be marked as ignored");
+			}
+		}
+		return new CompiledFieldDescriptors(descriptors);
+	}
+
+	/**
+	 * An index of the paths of the optional field descriptors that allows the optional
+	 * fields that a path is nested beneath to be found without scanning every
+	 * descriptor.
+	 */
+	private static final class OptionalFieldIndex {
+
+		private final Map<String, List<FieldDescriptor>> descriptorsByPath = new HashMap<>();
+
+		private final int[] pathLengths;
+
+		private OptionalFieldIndex(Collection<FieldDescriptor> fieldDescriptors) {
+			Set<Integer> lengths = new TreeSet<>();
+			for (FieldDescriptor descriptor : fieldDescriptors) {
+				if (descriptor.isOptional()) {
+					this.descriptorsByPath.computeIfAbsent(descriptor.getPath(), (path) -> new ArrayList<>())
+						.add(descriptor);
+					lengths.add(descriptor.getPath().length());
+				}
+			}
+			this.pathLengths = lengths.stream().mapToInt(Integer::intValue).toArray();
+		}
+
+		private List<String> getOptionalPrefixes(FieldDescriptor descriptor) {
+			String path = descriptor.getPath();
+			List<String> prefixes = new ArrayList<>();
+			for (int pathLength : this.pathLengths) {
+				if (pathLength > path.length()) {
+					break;
+				}
+				String prefix = path.substring(0, pathLength);
+				List<FieldDescriptor> candidates = this.descriptorsByPath.get(prefix);
+				if (candidates != null && containsOtherThan(candidates, descriptor)) {
+					prefixes.add(prefix);
+				}
+			}
+			return prefixes;
+		}
+
+		private boolean containsOtherThan(List<FieldDescriptor> candidates, FieldDescriptor descriptor) {
+			for (FieldDescriptor candidate : candidates) {
+				if (candidate != descriptor) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+	}
+
+}
@@ -20,21 +20,20 @@ import java.util.List;
 
 import org.jspecify.annotations.Nullable;
 
-import org.springframework.http.MediaType;
-
 /**
- * A handler for the content of a request or response.
+ * A handler for the content of a request or response. Handlers are created by a
+ * {@link ContentHandlerFactory}.
  *
  * @author Andy Wilkinson
  * @author Mathias Düsterhöft
+ * @since 4.1.0
  */
-interface ContentHandler extends FieldTypeResolver {
+public interface ContentHandler extends FieldTypeResolver {
 
 	/**
 	 * Finds the fields that are missing from the handler's payload. A field is missing if
 	 * it is described but is not present in the payload.
 	 * @return descriptors for the fields that are missing from the payload
-	 * @throws PayloadHandlingException if a failure occurs
 	 */
 	List<FieldDescriptor> findMissingFields();
 
@@ -45,34 +44,7 @@ interface ContentHandler extends FieldTypeResolver {
 	 * returned
 	 * @return the undocumented content, or {@code null} if all of the content is
 	 * documented
-	 * @throws PayloadHandlingException if a failure occurs
 	 */
 	@Nullable String getUndocumentedContent();
 
-	/**
-	 * Create a {@link ContentHandler} for the given content type and payload, described
-	 * by the given descriptors.
-	 * @param content the payload
-	 * @param contentType the content type
-	 * @param descriptors descriptors of the content
-	 * @return the ContentHandler
-	 * @throws PayloadHandlingException if no known ContentHandler can handle the content
-	 */
-	static ContentHandler forContentWithDescriptors(byte[] content, @Nullable MediaType contentType,
-			List<FieldDescriptor> descriptors) {
-		try {
-			return new JsonContentHandler(content, descriptors);
-		}
-		catch (Exception je) {
-			try {
-				return new XmlContentHandler(content, descriptors);
-			}
-			catch (Exception xe) {
-				throw new PayloadHandlingException("Cannot handle content "
-						+ ((contentType != null) ? "with type " + contentType : "of unknown type")
-						+ " as it could not be parsed as JSON or XML");
-			}
-		}
-	}
-
 }
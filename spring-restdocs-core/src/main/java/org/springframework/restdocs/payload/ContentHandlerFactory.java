@@ -0,0 +1,75 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.restdocs.payload;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.springframework.http.MediaType;
+
+/**
+ * A factory for the {@link ContentHandler ContentHandlers} of a payload format. In
+ * addition to the built-in support for JSON and XML, support for other formats can be
+ * provided by registering an implementation in {@code META-INF/spring.factories} using
+ * this interface's fully-qualified name as the key. Registered factories are consulted
+ * after the built-in factories.
+ * <p>
+ * A payload is handled using the factories whose media types are compatible with its
+ * content type, then using those that {@link #recognizes recognize} its content, and,
+ * finally, using any others until one of them is able to create a handler for it.
+ *
+ * @author Andy Wilkinson
+ * @since 4.1.0
+ */
+public interface ContentHandlerFactory {
+
+	/**
+	 * Returns the name of the format that is supported by this factory, for example
+	 * {@code YAML}. The name is used in error messages.
+	 * @return the name of the format
+	 */
+	String getFormat();
+
+	/**
+	 * Returns the media types of the format that is supported by this factory.
+	 * @return the media types
+	 */
+	List<MediaType> getMediaTypes();
+
+	/**
+	 * Returns whether the given {@code content}, starting at its current position,
+	 * appears to be in the format that is supported by this factory. The content may be
+	 * read-only and its position must not be changed.
+	 * @param content the content
+	 * @return {@code true} if the content appears to be in the format, otherwise
+	 * {@code false}
+	 */
+	boolean recognizes(ByteBuffer content);
+
+	/**
+	 * Creates a {@link ContentHandler} for the given {@code content}, starting at its
+	 * current position, that is described by the given {@code descriptors}. The content
+	 * may be read-only. Any exception that is thrown is treated as an indication that
+	 * the content is not in the format that is supported by this factory.
+	 * @param content the content
+	 * @param descriptors the descriptors of the content
+	 * @return the handler
+	 */
+	ContentHandler create(ByteBuffer content, CompiledFieldDescriptors descriptors);
+
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.payload;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.io.support.SpringFactoriesLoader;
+import org.springframework.http.MediaType;
+
+/**
+ * A registry of the {@link ContentHandlerFactory ContentHandlerFactories} that are
+ * available for handling the payload of a request or response. The handler that is used
+ * is selected using the payload's content type and, when that is unknown or does not
+ * match any factory, by sniffing the start of the payload. This allows a payload to be
+ * parsed once by the appropriate parser rather than relying on a failed attempt to parse
+ * it using a different format. The other factories are only tried as a fallback when the
+ * selected factory cannot handle the payload.
+ *
+ * @author Andy Wilkinson
+ * @see ContentHandlerFactory
+ */
+final class ContentHandlerRegistry {
+
+	private static final List<ContentHandlerFactory> builtInFactories = Arrays.asList(
+			new BuiltInContentHandlerFactory("JSON", JsonContentHandler::new,
+					(content) -> startsWith(content, '{') || startsWith(content, '['), MediaType.APPLICATION_JSON,
+					new MediaType("application", "*+json")),
+			new BuiltInContentHandlerFactory("XML", XmlContentHandler::new, (content) -> startsWith(content, '<'),
+					MediaType.APPLICATION_XML, MediaType.TEXT_XML, new MediaType("application", "*+xml")));
+
+	private static final ContentHandlerRegistry defaultRegistry = load(
+			SpringFactoriesLoader.forDefaultResourceLocation(ContentHandlerRegistry.class.getClassLoader()));
+
+	private final List<ContentHandlerFactory> factories;
+
+	ContentHandlerRegistry(List<ContentHandlerFactory> factories) {
+		this.factories = Collections.unmodifiableList(new ArrayList<>(factories));
+	}
+
+	/**
+	 * Returns the default registry that contains the built-in factories for JSON and XML
+	 * content, followed by any factories that have been registered in
+	 * {@code META-INF/spring.factories}.
+	 * @return the default registry
+	 */
+	static ContentHandlerRegistry getDefault() {
+		return defaultRegistry;
+	}
+
+	/**
+	 * Loads a registry that contains the built-in factories for JSON and XML content,
+	 * followed by the factories that are loaded using the given {@code loader}.
+	 * @param loader the loader for the additional factories
+	 * @return the registry
+	 */
+	static ContentHandlerRegistry load(SpringFactoriesLoader loader) {
+		List<ContentHandlerFactory> factories = new ArrayList<>(builtInFactories);
+		factories.addAll(loader.load(ContentHandlerFactory.class));
+		return new ContentHandlerRegistry(factories);
+	}
+
+	/**
+	 * Create a {@link ContentHandler} for the given content type and payload, described
+	 * by the given descriptors.
+	 * @param content the payload
+	 * @param contentType the content type
+	 * @param descriptors descriptors of the content
+	 * @return the ContentHandler
+	 * @throws PayloadHandlingException if no registered factory can handle the content
+	 */
+	ContentHandler createHandler(byte[] content, @Nullable MediaType contentType, List<FieldDescriptor> descriptors) {
+		return createHandler(ByteBuffer.wrap(content), contentType, new CompiledFieldDescriptors(descriptors));
+	}
+
+	/**
+	 * Create a {@link ContentHandler} for the given content type and payload, described
+	 * by the given compiled descriptors.
+	 * @param content the payload
+	 * @param contentType the content type
+	 * @param descriptors compiled descriptors of the content
+	 * @return the ContentHandler
+	 * @throws PayloadHandlingException if no registered factory can handle the content
+	 */
+	ContentHandler createHandler(ByteBuffer content, @Nullable MediaType contentType,
+			CompiledFieldDescriptors descriptors) {
+		for (ContentHandlerFactory factory : getCandidates(content, contentType)) {
+			try {
+				return factory.create(content, descriptors);
+			}
+			catch (Exception ex) {
+				// Continue
+			}
+		}
+		throw new PayloadHandlingException(
+				"Cannot handle content " + ((contentType != null) ? "with type " + contentType : "of unknown type")
+						+ " as it could not be parsed as " + describeFormats());
+	}
+
+	private List<ContentHandlerFactory> getCandidates(ByteBuffer content, @Nullable MediaType contentType) {
+		List<ContentHandlerFactory> candidates = new ArrayList<>(this.factories.size());
+		if (contentType != null) {
+			for (ContentHandlerFactory factory : this.factories) {
+				if (supports(factory, contentType)) {
+					candidates.add(factory);
+				}
+			}
+		}
+		for (ContentHandlerFactory factory : this.factories) {
+			if (!candidates.contains(factory) && factory.recognizes(content)) {
+				candidates.add(factory);
+			}
+		}
+		for (ContentHandlerFactory factory : this.factories) {
+			if (!candidates.contains(factory)) {
+				candidates.add(factory);
+			}
+		}
+		return candidates;
+	}
+
+	private boolean supports(ContentHandlerFactory factory, MediaType contentType) {
+		for (MediaType mediaType : factory.getMediaTypes()) {
+			if (mediaType.isCompatibleWith(contentType)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private String describeFormats() {
+		StringBuilder formats = new StringBuilder();
+		for (int i = 0; i < this.factories.size(); i++) {
+			if (i > 0) {
+				formats.append((i == this.factories.size() - 1) ? " or " : ", ");
+			}
+			formats.append(this.factories.get(i).getFormat());
+		}
+		return formats.toString();
+	}
+
+	private static boolean startsWith(ByteBuffer content, char c) {
+		int i = content.position();
+		int limit = content.limit();
+		if (limit - i >= 3 && (content.get(i) & 0xFF) == 0xEF && (content.get(i + 1) & 0xFF) == 0xBB
+				&& (content.get(i + 2) & 0xFF) == 0xBF) {
+			i += 3;
+		}
+		while (i < limit && Character.isWhitespace(content.get(i))) {
+			i++;
+		}
+		return i < limit && content.get(i) == c;
+	}
+
+	/**
+	 * A {@link ContentHandlerFactory} for one of the built-in formats.
+	 */
+	private static final class BuiltInContentHandlerFactory implements ContentHandlerFactory {
+
+		private final String format;
+
+		private final BiFunction<ByteBuffer, CompiledFieldDescriptors, ContentHandler> creator;
+
+		private final Predicate<ByteBuffer> contentSniffer;
+
+		private final List<MediaType> mediaTypes;
+
+		private BuiltInContentHandlerFactory(String format,
+				BiFunction<ByteBuffer, CompiledFieldDescriptors, ContentHandler> creator,
+				Predicate<ByteBuffer> contentSniffer, MediaType... mediaTypes) {
+			this.format = format;
+			this.creator = creator;
+			this.contentSniffer = contentSniffer;
+			this.mediaTypes = Collections.unmodifiableList(Arrays.asList(mediaTypes));
+		}
+
+		@Override
+		public String getFormat() {
+			return this.format;
+		}
+
+		@Override
+		public List<MediaType> getMediaTypes() {
+			return this.mediaTypes;
+		}
+
+		@Override
+		public boolean recognizes(ByteBuffer content) {
+			return this.contentSniffer.test(content);
+		}
+
+		@Override
+		public ContentHandler create(ByteBuffer content, CompiledFieldDescriptors descriptors) {
+			return this.creator.apply(content, descriptors);
+		}
+
+	}
+
+}
@@ -84,8 +84,9 @@ public class FieldPathPayloadSubsectionExtractor
 	public byte[] extractSubsection(byte[] payload, @Nullable MediaType contentType,
 			List<FieldDescriptor> descriptors) {
 		try {
+			JsonPayload parsedPayload = JsonPayload.parse(payload);
 			ExtractedField extractedField = new JsonFieldProcessor().extract(this.fieldPath,
-					objectMapper.readValue(payload, Object.class));
+					parsedPayload.getContent());
 			Object value = extractedField.getValue();
 			if (value == ExtractedField.ABSENT) {
 				throw new PayloadHandlingException(this.fieldPath + " does not identify a section of the payload");
@@ -99,7 +100,7 @@ public class FieldPathPayloadSubsectionExtractor
 				if (extractedList.isEmpty()) {
 					throw new PayloadHandlingException(this.fieldPath + " identifies an empty section of the payload");
 				}
-				JsonContentHandler contentHandler = new JsonContentHandler(payload, descriptorsByPath.values());
+				JsonContentHandler contentHandler = new JsonContentHandler(parsedPayload, descriptorsByPath.values());
 				Set<JsonFieldPath> uncommonPaths = JsonFieldPaths.from(extractedList)
 					.getUncommon()
 					.stream()
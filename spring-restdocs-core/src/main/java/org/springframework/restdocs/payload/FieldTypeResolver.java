@@ -39,7 +39,7 @@ public interface FieldTypeResolver {
 	 */
 	static FieldTypeResolver forContentWithDescriptors(byte[] content, MediaType contentType,
 			List<FieldDescriptor> descriptors) {
-		return ContentHandler.forContentWithDescriptors(content, contentType, descriptors);
+		return ContentHandlerRegistry.getDefault().createHandler(content, contentType, descriptors);
 	}
 
 	/**
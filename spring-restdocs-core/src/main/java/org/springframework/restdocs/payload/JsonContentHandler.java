@@ -16,8 +16,10 @@
 
 package org.springframework.restdocs.payload;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -27,6 +29,7 @@ import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.SerializationFeature;
 import tools.jackson.databind.json.JsonMapper;
 
+import org.springframework.restdocs.payload.JsonFieldPathTrie.Matches;
 import org.springframework.restdocs.payload.JsonFieldProcessor.ExtractedField;
 
 /**
@@ -37,26 +40,47 @@ import org.springframework.restdocs.payload.JsonFieldProcessor.ExtractedField;
  */
 class JsonContentHandler implements ContentHandler {
 
+	private static final ObjectMapper objectMapper = JsonMapper.builder()
+		.enable(SerializationFeature.INDENT_OUTPUT)
+		.build();
+
 	private final JsonFieldProcessor fieldProcessor = new JsonFieldProcessor();
 
 	private final JsonFieldTypesDiscoverer fieldTypesDiscoverer = new JsonFieldTypesDiscoverer();
 
-	private final ObjectMapper objectMapper = JsonMapper.builder().enable(SerializationFeature.INDENT_OUTPUT).build();
+	private final JsonPayload payload;
+
+	private final CompiledFieldDescriptors fieldDescriptors;
 
-	private final byte[] rawContent;
+	private final Map<String, Boolean> missingOptionalFields = new HashMap<>();
 
-	private final Collection<FieldDescriptor> fieldDescriptors;
+	private @Nullable Matches matches;
 
 	JsonContentHandler(byte[] content, Collection<FieldDescriptor> fieldDescriptors) {
-		this.rawContent = content;
+		this(JsonPayload.parse(content), new CompiledFieldDescriptors(fieldDescriptors));
+	}
+
+	JsonContentHandler(byte[] content, CompiledFieldDescriptors fieldDescriptors) {
+		this(JsonPayload.parse(content), fieldDescriptors);
+	}
+
+	JsonContentHandler(ByteBuffer content, CompiledFieldDescriptors fieldDescriptors) {
+		this(JsonPayload.parse(content), fieldDescriptors);
+	}
+
+	JsonContentHandler(JsonPayload payload, Collection<FieldDescriptor> fieldDescriptors) {
+		this(payload, new CompiledFieldDescriptors(fieldDescriptors));
+	}
+
+	JsonContentHandler(JsonPayload payload, CompiledFieldDescriptors fieldDescriptors) {
+		this.payload = payload;
 		this.fieldDescriptors = fieldDescriptors;
-		readContent();
 	}
 
 	@Override
 	public List<FieldDescriptor> findMissingFields() {
 		List<FieldDescriptor> missingFields = new ArrayList<>();
-		for (FieldDescriptor fieldDescriptor : this.fieldDescriptors) {
+		for (FieldDescriptor fieldDescriptor : this.fieldDescriptors.getDescriptors()) {
 			if (isMissing(fieldDescriptor)) {
 				missingFields.add(fieldDescriptor);
 			}
@@ -66,31 +90,53 @@ class JsonContentHandler implements ContentHandler {
 	}
 
 	boolean isMissing(FieldDescriptor descriptor) {
-		Object payload = readContent();
-		return !descriptor.isOptional() && !this.fieldProcessor.hasField(descriptor.getPath(), payload)
-				&& !isNestedBeneathMissingOptionalField(descriptor, payload);
+		return !descriptor.isOptional() && !hasField(descriptor.getPath())
+				&& !isNestedBeneathMissingOptionalField(descriptor);
 	}
 
-	private boolean isNestedBeneathMissingOptionalField(FieldDescriptor descriptor, Object payload) {
-		List<FieldDescriptor> candidates = new ArrayList<>(this.fieldDescriptors);
-		candidates.remove(descriptor);
-		for (FieldDescriptor candidate : candidates) {
-			if (candidate.isOptional() && descriptor.getPath().startsWith(candidate.getPath())
-					&& isMissing(candidate, payload)) {
+	private boolean isNestedBeneathMissingOptionalField(FieldDescriptor descriptor) {
+		for (String candidatePath : this.fieldDescriptors.getOptionalPrefixes(descriptor)) {
+			Boolean missing = this.missingOptionalFields.get(candidatePath);
+			if (missing == null) {
+				missing = isMissingOptionalField(candidatePath);
+				this.missingOptionalFields.put(candidatePath, missing);
+			}
+			if (missing) {
 				return true;
 			}
 		}
 		return false;
 	}
 
-	private boolean isMissing(FieldDescriptor candidate, Object payload) {
-		if (!this.fieldProcessor.hasField(candidate.getPath(), payload)) {
+	private boolean isMissingOptionalField(String path) {
+		if (!hasField(path)) {
 			return true;
 		}
-		ExtractedField extracted = this.fieldProcessor.extract(candidate.getPath(), payload);
+		ExtractedField extracted = extract(path);
 		return extracted.getValue() == null || isEmptyCollection(extracted.getValue());
 	}
 
+	private boolean hasField(String path) {
+		Matches matches = getMatches();
+		return matches.contains(path) ? matches.hasField(path)
+				: this.fieldProcessor.hasField(this.fieldDescriptors.getPath(path), this.payload.getContent());
+	}
+
+	private ExtractedField extract(String path) {
+		Matches matches = getMatches();
+		return matches.contains(path) ? matches.extract(path)
+				: this.fieldProcessor.extract(this.fieldDescriptors.getPath(path), this.payload.getContent());
+	}
+
+	private Matches getMatches() {
+		Matches matches = this.matches;
+		if (matches == null) {
+			matches = this.fieldDescriptors.getTrie().match(this.payload.getContent());
+			this.matches = matches;
+		}
+		return matches;
+	}
+
 	private boolean isEmptyCollection(Object value) {
 		if (!(value instanceof Collection)) {
 			return false;
@@ -106,18 +152,19 @@ class JsonContentHandler implements ContentHandler {
 
 	@Override
 	public @Nullable String getUndocumentedContent() {
-		Object content = readContent();
-		for (FieldDescriptor fieldDescriptor : this.fieldDescriptors) {
+		Object content = this.payload.mutableCopy();
+		for (FieldDescriptor fieldDescriptor : this.fieldDescriptors.getDescriptors()) {
+			JsonFieldPath path = this.fieldDescriptors.getPath(fieldDescriptor.getPath());
 			if (describesSubsection(fieldDescriptor)) {
-				this.fieldProcessor.removeSubsection(fieldDescriptor.getPath(), content);
+				this.fieldProcessor.removeSubsection(path, content);
 			}
 			else {
-				this.fieldProcessor.remove(fieldDescriptor.getPath(), content);
+				this.fieldProcessor.remove(path, content);
 			}
 		}
 		if (!isEmpty(content)) {
 			try {
-				return this.objectMapper.writeValueAsString(content);
+				return objectMapper.writeValueAsString(content);
 			}
 			catch (JacksonException ex) {
 				throw new PayloadHandlingException(ex);
@@ -130,15 +177,6 @@ class JsonContentHandler implements ContentHandler {
 		return fieldDescriptor instanceof SubsectionDescriptor;
 	}
 
-	private Object readContent() {
-		try {
-			return new ObjectMapper().readValue(this.rawContent, Object.class);
-		}
-		catch (JacksonException ex) {
-			throw new PayloadHandlingException(ex);
-		}
-	}
-
 	private boolean isEmpty(Object object) {
 		if (object instanceof Map) {
 			return ((Map<?, ?>) object).isEmpty();
@@ -149,7 +187,8 @@ class JsonContentHandler implements ContentHandler {
 	@Override
 	public Object resolveFieldType(FieldDescriptor fieldDescriptor) {
 		if (fieldDescriptor.getType() == null) {
-			return this.fieldTypesDiscoverer.discoverFieldTypes(fieldDescriptor.getPath(), readContent())
+			return this.fieldTypesDiscoverer
+				.discoverFieldTypes(fieldDescriptor.getPath(), extract(fieldDescriptor.getPath()))
 				.coalesce(fieldDescriptor.isOptional());
 		}
 		if (!(fieldDescriptor.getType() instanceof JsonFieldType)) {
@@ -158,11 +197,11 @@ class JsonContentHandler implements ContentHandler {
 		JsonFieldType descriptorFieldType = (JsonFieldType) fieldDescriptor.getType();
 		try {
 			JsonFieldType actualFieldType = this.fieldTypesDiscoverer
-				.discoverFieldTypes(fieldDescriptor.getPath(), readContent())
+				.discoverFieldTypes(fieldDescriptor.getPath(), extract(fieldDescriptor.getPath()))
 				.coalesce(fieldDescriptor.isOptional());
 			if (descriptorFieldType == JsonFieldType.VARIES || descriptorFieldType == actualFieldType
 					|| (fieldDescriptor.isOptional() && actualFieldType == JsonFieldType.NULL)
-					|| (isNestedBeneathMissingOptionalField(fieldDescriptor, readContent())
+					|| (isNestedBeneathMissingOptionalField(fieldDescriptor)
 							&& actualFieldType == JsonFieldType.VARIES)) {
 				return descriptorFieldType;
 			}
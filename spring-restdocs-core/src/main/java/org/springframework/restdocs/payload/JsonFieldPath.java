@@ -33,8 +33,6 @@ final class JsonFieldPath {
 	private static final Pattern BRACKETS_AND_ARRAY_PATTERN = Pattern
 		.compile("\\[\'(.+?)\'\\]|\\[([0-9]+|\\*){0,1}\\]");
 
-	private static final Pattern ARRAY_INDEX_PATTERN = Pattern.compile("\\[([0-9]+|\\*){0,1}\\]");
-
 	private final String rawPath;
 
 	private final List<String> segments;
@@ -86,7 +84,20 @@ final class JsonFieldPath {
 	}
 
 	static boolean isArraySegment(String segment) {
-		return ARRAY_INDEX_PATTERN.matcher(segment).matches();
+		int length = segment.length();
+		if (length < 2 || segment.charAt(0) != '[' || segment.charAt(length - 1) != ']') {
+			return false;
+		}
+		if (length == 3 && segment.charAt(1) == '*') {
+			return true;
+		}
+		for (int i = 1; i < length - 1; i++) {
+			char c = segment.charAt(i);
+			if (c < '0' || c > '9') {
+				return false;
+			}
+		}
+		return true;
 	}
 
 	static boolean matchesSingleValue(List<String> segments) {
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.payload;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.restdocs.payload.JsonFieldPath.PathType;
+import org.springframework.restdocs.payload.JsonFieldProcessor.ExtractedField;
+
+/**
+ * A trie of {@link JsonFieldPath JsonFieldPaths} that allows the fields identified by
+ * all of the paths to be found in a single traversal of a JSON payload. Paths that share
+ * a common prefix share the corresponding nodes of the trie so each part of the payload
+ * is visited at most once per match.
+ * <p>
+ * Matching follows the same rules as {@link JsonFieldProcessor#hasField(String, Object)}
+ * and {@link JsonFieldProcessor#extract(String, Object)}.
+ *
+ * @author Andy Wilkinson
+ */
+final class JsonFieldPathTrie {
+
+	private final Node root = new Node("");
+
+	private final Map<String, Integer> pathIndices = new HashMap<>();
+
+	private final List<PathType> pathTypes = new ArrayList<>();
+
+	private JsonFieldPathTrie() {
+	}
+
+	/**
+	 * Finds the fields identified by all of the trie's paths in the given
+	 * {@code payload}.
+	 * @param payload the payload
+	 * @return the matches
+	 */
+	Matches match(Object payload) {
+		List<List<Object>> values = new ArrayList<>(this.pathTypes.size());
+		for (int i = 0; i < this.pathTypes.size(); i++) {
+			values.add(new ArrayList<>());
+		}
+		traverse(payload, this.root, values);
+		return new Matches(this.pathIndices, this.pathTypes, values);
+	}
+
+	private void traverse(Object payload, Node node, List<List<Object>> values) {
+		for (Node child : node.children.values()) {
+			if (child.arraySegment) {
+				if (payload instanceof Collection) {
+					Collection<?> collection = (Collection<?>) payload;
+					child.found(collection, values);
+					if (child.hasChildren()) {
+						for (Object item : collection) {
+							traverse(item, child, values);
+						}
+					}
+				}
+			}
+			else if (payload instanceof Map) {
+				Map<?, ?> map = (Map<?, ?>) payload;
+				if (map.containsKey(child.segment)) {
+					Object item = map.get(child.segment);
+					child.found(item, values);
+					if (child.hasChildren()) {
+						traverse(item, child, values);
+					}
+				}
+				else if (child.wildcardSegment) {
+					for (Object item : map.values()) {
+						child.found(item, values);
+						if (child.hasChildren()) {
+							traverse(item, child, values);
+						}
+					}
+				}
+				else {
+					child.absent(values);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Creates a new {@code JsonFieldPathTrie} containing the given {@code paths}.
+	 * @param paths the paths
+	 * @return the trie
+	 */
+	static JsonFieldPathTrie of(Collection<String> paths) {
+		JsonFieldPathTrie trie = new JsonFieldPathTrie();
+		for (String path : paths) {
+			if (!trie.pathIndices.containsKey(path)) {
+				trie.add(path, JsonFieldPath.compile(path));
+			}
+		}
+		return trie;
+	}
+
+	/**
+	 * Creates a new {@code JsonFieldPathTrie} containing the given, already compiled,
+	 * {@code paths}.
+	 * @param paths the compiled paths
+	 * @return the trie
+	 */
+	static JsonFieldPathTrie ofCompiledPaths(Collection<JsonFieldPath> paths) {
+		JsonFieldPathTrie trie = new JsonFieldPathTrie();
+		for (JsonFieldPath path : paths) {
+			if (!trie.pathIndices.containsKey(path.toString())) {
+				trie.add(path.toString(), path);
+			}
+		}
+		return trie;
+	}
+
+	private void add(String path, JsonFieldPath compiledPath) {
+		int index = this.pathTypes.size();
+		this.pathIndices.put(path, index);
+		this.pathTypes.add(compiledPath.getType());
+		Node node = this.root;
+		for (String segment : compiledPath.getSegments()) {
+			node.subtreePaths.add(index);
+			node = node.children.computeIfAbsent(segment, Node::new);
+		}
+		node.subtreePaths.add(index);
+		node.terminalPaths.add(index);
+	}
+
+	private static final class Node {
+
+		private final String segment;
+
+		private final boolean arraySegment;
+
+		private final boolean wildcardSegment;
+
+		private final Map<String, Node> children = new LinkedHashMap<>();
+
+		private final List<Integer> terminalPaths = new ArrayList<>();
+
+		private final List<Integer> subtreePaths = new ArrayList<>();
+
+		private Node(String segment) {
+			this.segment = segment;
+			this.arraySegment = JsonFieldPath.isArraySegment(segment);
+			this.wildcardSegment = "*".equals(segment);
+		}
+
+		private boolean hasChildren() {
+			return !this.children.isEmpty();
+		}
+
+		private void found(Object value, List<List<Object>> values) {
+			for (int path : this.terminalPaths) {
+				values.get(path).add(value);
+			}
+		}
+
+		private void absent(List<List<Object>> values) {
+			for (int path : this.subtreePaths) {
+				values.get(path).add(ExtractedField.ABSENT);
+			}
+		}
+
+	}
+
+	/**
+	 * The result of matching a {@link JsonFieldPathTrie} against a payload.
+	 */
+	static final class Matches {
+
+		private final Map<String, Integer> pathIndices;
+
+		private final List<PathType> pathTypes;
+
+		private final List<List<Object>> values;
+
+		private Matches(Map<String, Integer> pathIndices, List<PathType> pathTypes, List<List<Object>> values) {
+			this.pathIndices = pathIndices;
+			this.pathTypes = pathTypes;
+			this.values = values;
+		}
+
+		/**
+		 * Returns whether the given {@code path} was part of the match.
+		 * @param path the path
+		 * @return {@code true} if the path was matched, otherwise {@code false}
+		 */
+		boolean contains(String path) {
+			return this.pathIndices.containsKey(path);
+		}
+
+		/**
+		 * Returns whether the payload has the field identified by the given
+		 * {@code path}.
+		 * @param path the path
+		 * @return {@code true} if the field is present, otherwise {@code false}
+		 * @see JsonFieldProcessor#hasField(String, Object)
+		 */
+		boolean hasField(String path) {
+			List<Object> matches = getValues(path);
+			if (matches.isEmpty()) {
+				return false;
+			}
+			boolean nullFound = false;
+			boolean nonNullFound = false;
+			for (Object match : matches) {
+				if (match == ExtractedField.ABSENT) {
+					return false;
+				}
+				if (match == null) {
+					nullFound = true;
+				}
+				else {
+					nonNullFound = true;
+				}
+			}
+			return !(nullFound && nonNullFound);
+		}
+
+		/**
+		 * Returns the field identified by the given {@code path}.
+		 * @param path the path
+		 * @return the extracted field
+		 * @see JsonFieldProcessor#extract(String, Object)
+		 */
+		ExtractedField extract(String path) {
+			int index = getIndex(path);
+			List<Object> extracted = new ArrayList<>(this.values.get(index));
+			if (extracted.isEmpty()) {
+				extracted.add(ExtractedField.ABSENT);
+			}
+			PathType type = this.pathTypes.get(index);
+			return new ExtractedField((type != PathType.SINGLE) ? extracted : extracted.get(0), type);
+		}
+
+		private List<Object> getValues(String path) {
+			return this.values.get(getIndex(path));
+		}
+
+		private int getIndex(String path) {
+			Integer index = this.pathIndices.get(path);
+			if (index == null) {
+				throw new IllegalArgumentException("Path '" + path + "' was not matched");
+			}
+			return index;
+		}
+
+	}
+
+}
@@ -36,13 +36,20 @@ import org.springframework.restdocs.payload.JsonFieldPath.PathType;
 final class JsonFieldProcessor {
 
 	boolean hasField(String path, Object payload) {
+		return hasField(JsonFieldPath.compile(path), payload);
+	}
+
+	boolean hasField(JsonFieldPath path, Object payload) {
 		HasFieldMatchCallback callback = new HasFieldMatchCallback();
-		traverse(new ProcessingContext(payload, JsonFieldPath.compile(path)), callback);
+		traverse(new ProcessingContext(payload, path), callback);
 		return callback.fieldFound();
 	}
 
 	ExtractedField extract(String path, Object payload) {
-		JsonFieldPath compiledPath = JsonFieldPath.compile(path);
+		return extract(JsonFieldPath.compile(path), payload);
+	}
+
+	ExtractedField extract(JsonFieldPath compiledPath, Object payload) {
 		final List<Object> values = new ArrayList<>();
 		traverse(new ProcessingContext(payload, compiledPath), new MatchCallback() {
 
@@ -65,7 +72,11 @@ final class JsonFieldProcessor {
 	}
 
 	void remove(String path, Object payload) {
-		traverse(new ProcessingContext(payload, JsonFieldPath.compile(path)), new MatchCallback() {
+		remove(JsonFieldPath.compile(path), payload);
+	}
+
+	void remove(JsonFieldPath path, Object payload) {
+		traverse(new ProcessingContext(payload, path), new MatchCallback() {
 
 			@Override
 			public void foundMatch(Match match) {
@@ -76,7 +87,11 @@ final class JsonFieldProcessor {
 	}
 
 	void removeSubsection(String path, Object payload) {
-		traverse(new ProcessingContext(payload, JsonFieldPath.compile(path)), new MatchCallback() {
+		removeSubsection(JsonFieldPath.compile(path), payload);
+	}
+
+	void removeSubsection(JsonFieldPath path, Object payload) {
+		traverse(new ProcessingContext(payload, path), new MatchCallback() {
 
 			@Override
 			public void foundMatch(Match match) {
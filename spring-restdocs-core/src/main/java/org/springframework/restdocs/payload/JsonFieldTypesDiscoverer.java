@@ -35,7 +35,10 @@ class JsonFieldTypesDiscoverer {
 	private final JsonFieldProcessor fieldProcessor = new JsonFieldProcessor();
 
 	JsonFieldTypes discoverFieldTypes(String path, Object payload) {
-		ExtractedField extractedField = this.fieldProcessor.extract(path, payload);
+		return discoverFieldTypes(path, this.fieldProcessor.extract(path, payload));
+	}
+
+	JsonFieldTypes discoverFieldTypes(String path, ExtractedField extractedField) {
 		Object value = extractedField.getValue();
 		if (value instanceof Collection && extractedField.getType() == PathType.MULTI) {
 			Collection<?> values = (Collection<?>) value;
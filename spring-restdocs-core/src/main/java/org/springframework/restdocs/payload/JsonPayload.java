@@ -0,0 +1,119 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.payload;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+/**
+ * A JSON payload that has been parsed once into a tree of {@link Map Maps},
+ * {@link List Lists} and scalar values. The parsed tree is shared by all read-only
+ * operations. Operations that need to modify the payload, such as the removal of
+ * documented fields, work on a {@link #mutableCopy() mutable copy} that is created from
+ * the tree without parsing the raw content again.
+ *
+ * @author Andy Wilkinson
+ */
+final class JsonPayload {
+
+	private static final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final Object content;
+
+	private JsonPayload(Object content) {
+		this.content = content;
+	}
+
+	/**
+	 * Returns the parsed content. The returned tree must not be modified.
+	 * @return the parsed content
+	 */
+	Object getContent() {
+		return this.content;
+	}
+
+	/**
+	 * Returns a copy of the parsed content that may be freely modified. Only the
+	 * {@code Map} and {@code List} containers are copied. Scalar values are immutable and
+	 * are shared with the original tree.
+	 * @return a mutable copy of the content
+	 */
+	Object mutableCopy() {
+		return copy(this.content);
+	}
+
+	private static Object copy(Object value) {
+		if (value instanceof Map) {
+			Map<?, ?> map = (Map<?, ?>) value;
+			Map<Object, Object> copy = new LinkedHashMap<>((int) (map.size() / 0.75f) + 1);
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+				copy.put(entry.getKey(), copy(entry.getValue()));
+			}
+			return copy;
+		}
+		if (value instanceof Collection) {
+			Collection<?> collection = (Collection<?>) value;
+			List<Object> copy = new ArrayList<>(collection.size());
+			for (Object item : collection) {
+				copy.add(copy(item));
+			}
+			return copy;
+		}
+		return value;
+	}
+
+	/**
+	 * Parses the given raw JSON content.
+	 * @param content the raw content
+	 * @return the parsed payload
+	 * @throws PayloadHandlingException if the content cannot be parsed
+	 */
+	static JsonPayload parse(byte[] content) {
+		try {
+			return new JsonPayload(objectMapper.readValue(content, Object.class));
+		}
+		catch (JacksonException ex) {
+			throw new PayloadHandlingException(ex);
+		}
+	}
+
+	/**
+	 * Parses the given raw JSON content without copying it.
+	 * @param content the raw content
+	 * @return the parsed payload
+	 * @throws PayloadHandlingException if the content cannot be parsed
+	 */
+	static JsonPayload parse(ByteBuffer content) {
+		try {
+			return new JsonPayload(objectMapper
+				.readValue(DefaultDataBufferFactory.sharedInstance.wrap(content).asInputStream(), Object.class));
+		}
+		catch (JacksonException ex) {
+			throw new PayloadHandlingException(ex);
+		}
+	}
+
+}
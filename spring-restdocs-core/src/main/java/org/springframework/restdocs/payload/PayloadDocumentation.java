@@ -219,6 +219,24 @@ public abstract class PayloadDocumentation {
 		return new RequestFieldsSnippet(descriptors);
 	}
 
+	/**
+	 * Returns a {@code Snippet} that will document the fields of the API operations's
+	 * request payload. The fields will be documented using the given, previously
+	 * {@link #compile(List) compiled}, {@code descriptors}.
+	 * <p>
+	 * If a field is present in the request payload, but is not documented by one of the
+	 * descriptors, a failure will occur when the snippet is invoked. Similarly, if a
+	 * field is documented, is not marked as optional, and is not present in the request,
+	 * a failure will also occur.
+	 * @param descriptors the compiled descriptions of the request payload's fields
+	 * @return the snippet that will document the fields
+	 * @since 4.1.0
+	 * @see #compile(FieldDescriptor...)
+	 */
+	public static RequestFieldsSnippet requestFields(CompiledFieldDescriptors descriptors) {
+		return new RequestFieldsSnippet(null, descriptors, null, false);
+	}
+
 	/**
 	 * Returns a {@code Snippet} that will document the fields of the API operations's
 	 * request payload. The fields will be documented using the given {@code descriptors}.
@@ -249,6 +267,22 @@ public abstract class PayloadDocumentation {
 		return new RequestFieldsSnippet(descriptors, true);
 	}
 
+	/**
+	 * Returns a {@code Snippet} that will document the fields of the API operations's
+	 * request payload. The fields will be documented using the given, previously
+	 * {@link #compile(List) compiled}, {@code descriptors}.
+	 * <p>
+	 * If a field is documented, is not marked as optional, and is not present in the
+	 * request, a failure will occur. Any undocumented fields will be ignored.
+	 * @param descriptors the compiled descriptions of the request payload's fields
+	 * @return the snippet that will document the fields
+	 * @since 4.1.0
+	 * @see #compile(FieldDescriptor...)
+	 */
+	public static RequestFieldsSnippet relaxedRequestFields(CompiledFieldDescriptors descriptors) {
+		return new RequestFieldsSnippet(null, descriptors, null, true);
+	}
+
 	/**
 	 * Returns a {@code Snippet} that will document the fields of the API operation's
 	 * request payload. The fields will be documented using the given {@code descriptors}
@@ -1015,6 +1049,24 @@ public abstract class PayloadDocumentation {
 		return new ResponseFieldsSnippet(descriptors);
 	}
 
+	/**
+	 * Returns a {@code Snippet} that will document the fields of the API operation's
+	 * response payload. The fields will be documented using the given, previously
+	 * {@link #compile(List) compiled}, {@code descriptors}.
+	 * <p>
+	 * If a field is present in the response payload, but is not documented by one of the
+	 * descriptors, a failure will occur when the snippet is invoked. Similarly, if a
+	 * field is documented, is not marked as optional, and is not present in the response,
+	 * a failure will also occur.
+	 * @param descriptors the compiled descriptions of the response payload's fields
+	 * @return the snippet that will document the fields
+	 * @since 4.1.0
+	 * @see #compile(FieldDescriptor...)
+	 */
+	public static ResponseFieldsSnippet responseFields(CompiledFieldDescriptors descriptors) {
+		return new ResponseFieldsSnippet(null, descriptors, null, false);
+	}
+
 	/**
 	 * Returns a {@code Snippet} that will document the fields of the API operation's
 	 * response payload. The fields will be documented using the given {@code descriptors}
@@ -1049,6 +1101,22 @@ public abstract class PayloadDocumentation {
 		return new ResponseFieldsSnippet(descriptors, true);
 	}
 
+	/**
+	 * Returns a {@code Snippet} that will document the fields of the API operation's
+	 * response payload. The fields will be documented using the given, previously
+	 * {@link #compile(List) compiled}, {@code descriptors}.
+	 * <p>
+	 * If a field is documented, is not marked as optional, and is not present in the
+	 * response, a failure will occur. Any undocumented fields will be ignored.
+	 * @param descriptors the compiled descriptions of the response payload's fields
+	 * @return the snippet that will document the fields
+	 * @since 4.1.0
+	 * @see #compile(FieldDescriptor...)
+	 */
+	public static ResponseFieldsSnippet relaxedResponseFields(CompiledFieldDescriptors descriptors) {
+		return new ResponseFieldsSnippet(null, descriptors, null, true);
+	}
+
 	/**
 	 * Returns a {@code Snippet} that will document the fields of the API operation's
 	 * response payload. The fields will be documented using the given {@code descriptors}
@@ -1494,6 +1562,36 @@ public abstract class PayloadDocumentation {
 		return new RequestPartBodySnippet(partName, subsectionExtractor, attributes);
 	}
 
+	/**
+	 * Compiles the given {@code descriptors} into an immutable
+	 * {@link CompiledFieldDescriptors} that can be shared by any number of
+	 * {@link #requestFields(CompiledFieldDescriptors) request} and
+	 * {@link #responseFields(CompiledFieldDescriptors) response} fields snippets. The
+	 * descriptors are validated and their paths are parsed once, rather than each time
+	 * that a snippet is created or invoked.
+	 * @param descriptors the descriptors to compile
+	 * @return the compiled descriptors
+	 * @since 4.1.0
+	 */
+	public static CompiledFieldDescriptors compile(FieldDescriptor... descriptors) {
+		return compile(Arrays.asList(descriptors));
+	}
+
+	/**
+	 * Compiles the given {@code descriptors} into an immutable
+	 * {@link CompiledFieldDescriptors} that can be shared by any number of
+	 * {@link #requestFields(CompiledFieldDescriptors) request} and
+	 * {@link #responseFields(CompiledFieldDescriptors) response} fields snippets. The
+	 * descriptors are validated and their paths are parsed once, rather than each time
+	 * that a snippet is created or invoked.
+	 * @param descriptors the descriptors to compile
+	 * @return the compiled descriptors
+	 * @since 4.1.0
+	 */
+	public static CompiledFieldDescriptors compile(List<FieldDescriptor> descriptors) {
+		return CompiledFieldDescriptors.compile(descriptors);
+	}
+
 	/**
 	 * Creates a copy of the given {@code descriptors} with the given {@code pathPrefix}
 	 * applied to their paths.
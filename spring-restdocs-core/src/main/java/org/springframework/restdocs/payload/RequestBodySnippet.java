@@ -17,6 +17,7 @@
 package org.springframework.restdocs.payload;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Map;
 
 import org.jspecify.annotations.Nullable;
@@ -80,6 +81,11 @@ public class RequestBodySnippet extends AbstractBodySnippet {
 		return operation.getRequest().getContent();
 	}
 
+	@Override
+	protected ByteBuffer getContentAsByteBuffer(Operation operation) throws IOException {
+		return operation.getRequest().getContentAsByteBuffer();
+	}
+
 	@Override
 	protected @Nullable MediaType getContentType(Operation operation) {
 		return operation.getRequest().getHeaders().getContentType();
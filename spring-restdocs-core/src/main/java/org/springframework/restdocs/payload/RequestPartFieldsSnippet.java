@@ -17,6 +17,7 @@
 package org.springframework.restdocs.payload;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -183,6 +184,11 @@ public class RequestPartFieldsSnippet extends AbstractFieldsSnippet {
 		return findPart(operation).getContent();
 	}
 
+	@Override
+	protected ByteBuffer getContentAsByteBuffer(Operation operation) throws IOException {
+		return findPart(operation).getContentAsByteBuffer();
+	}
+
 	private OperationRequestPart findPart(Operation operation) {
 		for (OperationRequestPart candidate : operation.getRequest().getParts()) {
 			if (candidate.getName().equals(this.partName)) {
@@ -17,6 +17,7 @@
 package org.springframework.restdocs.payload;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Map;
 
 import org.jspecify.annotations.Nullable;
@@ -78,6 +79,11 @@ public class ResponseBodySnippet extends AbstractBodySnippet {
 		return operation.getResponse().getContent();
 	}
 
+	@Override
+	protected ByteBuffer getContentAsByteBuffer(Operation operation) throws IOException {
+		return operation.getResponse().getContentAsByteBuffer();
+	}
+
 	@Override
 	protected @Nullable MediaType getContentType(Operation operation) {
 		return operation.getResponse().getHeaders().getContentType();
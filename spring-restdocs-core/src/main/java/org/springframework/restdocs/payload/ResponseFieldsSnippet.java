@@ -17,6 +17,7 @@
 package org.springframework.restdocs.payload;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -159,6 +160,27 @@ public class ResponseFieldsSnippet extends AbstractFieldsSnippet {
 		super("response", descriptors, attributes, ignoreUndocumentedFields, subsectionExtractor);
 	}
 
+	/**
+	 * Creates a new {@code ResponseFieldsSnippet} that will document the fields in a
+	 * subsection of the response using the given compiled {@code descriptors}. The
+	 * subsection will be extracted using the given {@code subsectionExtractor}. If the
+	 * extractor is {@code null} the fields of the entire response will be documented. The
+	 * given {@code attributes} will be included in the model during template rendering.
+	 * If {@code ignoreUndocumentedFields} is {@code true}, undocumented fields will be
+	 * ignored and will not trigger a failure.
+	 * @param subsectionExtractor the subsection extractor, or {@code null} to document
+	 * the fields of the entire response
+	 * @param descriptors the compiled descriptors
+	 * @param attributes the additional attributes
+	 * @param ignoreUndocumentedFields whether undocumented fields should be ignored
+	 * @since 4.1.0
+	 */
+	protected ResponseFieldsSnippet(@Nullable PayloadSubsectionExtractor<?> subsectionExtractor,
+			CompiledFieldDescriptors descriptors, @Nullable Map<String, Object> attributes,
+			boolean ignoreUndocumentedFields) {
+		super("response", "response", descriptors, attributes, ignoreUndocumentedFields, subsectionExtractor);
+	}
+
 	@Override
 	protected @Nullable MediaType getContentType(Operation operation) {
 		return operation.getResponse().getHeaders().getContentType();
@@ -169,6 +191,11 @@ public class ResponseFieldsSnippet extends AbstractFieldsSnippet {
 		return operation.getResponse().getContent();
 	}
 
+	@Override
+	protected ByteBuffer getContentAsByteBuffer(Operation operation) throws IOException {
+		return operation.getResponse().getContentAsByteBuffer();
+	}
+
 	/**
 	 * Returns a new {@code ResponseFieldsSnippet} configured with this snippet's
 	 * attributes and its descriptors combined with the given
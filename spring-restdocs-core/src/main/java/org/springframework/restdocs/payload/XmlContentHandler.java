@@ -17,19 +17,26 @@
 package org.springframework.restdocs.payload;
 
 import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.io.StringWriter;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javax.xml.XMLConstants;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
+import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpression;
 import javax.xml.xpath.XPathExpressionException;
@@ -43,42 +50,70 @@ import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 import org.xml.sax.InputSource;
 
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
 /**
- * A {@link ContentHandler} for XML content.
+ * A {@link ContentHandler} for XML content. The content is parsed once and each field
+ * descriptor's path is compiled at most once. JAXP factory lookup is comparatively
+ * expensive so the factories are created once and shared, with the comparatively cheap
+ * document builders, XPaths and transformers being created from them as needed.
  *
  * @author Andy Wilkinson
  */
 class XmlContentHandler implements ContentHandler {
 
-	private final DocumentBuilder documentBuilder;
+	private static final DocumentBuilderFactory documentBuilderFactory = createDocumentBuilderFactory();
+
+	private static final XPathFactory xPathFactory = XPathFactory.newInstance();
+
+	private static final TransformerFactory transformerFactory = createTransformerFactory();
+
+	private final Map<String, XPathExpression> xPathExpressions = new HashMap<>();
 
-	private final byte[] rawContent;
+	private final Document payload;
 
 	private final List<FieldDescriptor> fieldDescriptors;
 
 	XmlContentHandler(byte[] rawContent, List<FieldDescriptor> fieldDescriptors) {
+		this.payload = readPayload(new ByteArrayInputStream(rawContent));
+		this.fieldDescriptors = fieldDescriptors;
+	}
+
+	XmlContentHandler(byte[] rawContent, CompiledFieldDescriptors fieldDescriptors) {
+		this(rawContent, fieldDescriptors.getDescriptors());
+	}
+
+	XmlContentHandler(ByteBuffer rawContent, CompiledFieldDescriptors fieldDescriptors) {
+		this.payload = readPayload(DefaultDataBufferFactory.sharedInstance.wrap(rawContent).asInputStream());
+		this.fieldDescriptors = fieldDescriptors.getDescriptors();
+	}
+
+	private static DocumentBuilderFactory createDocumentBuilderFactory() {
 		try {
 			DocumentBuilderFactory builderFactory = DocumentBuilderFactory.newInstance();
 			builderFactory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
 			builderFactory.setFeature("http://xml.org/sax/features/external-general-entities", false);
 			builderFactory.setXIncludeAware(false);
-			this.documentBuilder = builderFactory.newDocumentBuilder();
+			return builderFactory;
 		}
 		catch (Exception ex) {
-			throw new IllegalStateException("Failed to create document builder", ex);
+			throw new IllegalStateException("Failed to create document builder factory", ex);
 		}
-		this.rawContent = rawContent;
-		this.fieldDescriptors = fieldDescriptors;
-		readPayload();
+	}
+
+	private static TransformerFactory createTransformerFactory() {
+		TransformerFactory factory = TransformerFactory.newInstance();
+		factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+		factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_STYLESHEET, "");
+		return factory;
 	}
 
 	@Override
 	public List<FieldDescriptor> findMissingFields() {
 		List<FieldDescriptor> missingFields = new ArrayList<>();
-		Document payload = readPayload();
 		for (FieldDescriptor fieldDescriptor : this.fieldDescriptors) {
 			if (!fieldDescriptor.isOptional()) {
-				NodeList matchingNodes = findMatchingNodes(fieldDescriptor, payload);
+				NodeList matchingNodes = findMatchingNodes(fieldDescriptor, this.payload);
 				if (matchingNodes.getLength() == 0) {
 					missingFields.add(fieldDescriptor);
 				}
@@ -90,39 +125,56 @@ class XmlContentHandler implements ContentHandler {
 
 	private NodeList findMatchingNodes(FieldDescriptor fieldDescriptor, Document payload) {
 		try {
-			return (NodeList) createXPath(fieldDescriptor.getPath()).evaluate(payload, XPathConstants.NODESET);
+			return (NodeList) getXPath(fieldDescriptor.getPath()).evaluate(payload, XPathConstants.NODESET);
 		}
 		catch (XPathExpressionException ex) {
 			throw new PayloadHandlingException(ex);
 		}
 	}
 
-	private Document readPayload() {
+	private Document readPayload(InputStream rawContent) {
 		try {
-			return this.documentBuilder.parse(new InputSource(new ByteArrayInputStream(this.rawContent)));
+			return newDocumentBuilder().parse(new InputSource(rawContent));
 		}
 		catch (Exception ex) {
 			throw new PayloadHandlingException(ex);
 		}
 	}
 
-	private XPathExpression createXPath(String fieldPath) throws XPathExpressionException {
-		return XPathFactory.newInstance().newXPath().compile(fieldPath);
+	private static DocumentBuilder newDocumentBuilder() throws ParserConfigurationException {
+		// JAXP factories are not guaranteed to be thread-safe
+		synchronized (documentBuilderFactory) {
+			return documentBuilderFactory.newDocumentBuilder();
+		}
+	}
+
+	private static XPath newXPath() {
+		synchronized (xPathFactory) {
+			return xPathFactory.newXPath();
+		}
+	}
+
+	private static Transformer newTransformer() throws TransformerConfigurationException {
+		synchronized (transformerFactory) {
+			return transformerFactory.newTransformer();
+		}
+	}
+
+	private XPathExpression getXPath(String fieldPath) throws XPathExpressionException {
+		XPathExpression expression = this.xPathExpressions.get(fieldPath);
+		if (expression == null) {
+			expression = newXPath().compile(fieldPath);
+			this.xPathExpressions.put(fieldPath, expression);
+		}
+		return expression;
 	}
 
 	@Override
 	public @Nullable String getUndocumentedContent() {
-		Document payload = readPayload();
+		Document payload = (Document) this.payload.cloneNode(true);
 		List<Node> matchedButNotRemoved = new ArrayList<>();
 		for (FieldDescriptor fieldDescriptor : this.fieldDescriptors) {
-			NodeList matchingNodes;
-			try {
-				matchingNodes = (NodeList) createXPath(fieldDescriptor.getPath()).evaluate(payload,
-						XPathConstants.NODESET);
-			}
-			catch (XPathExpressionException ex) {
-				throw new PayloadHandlingException(ex);
-			}
+			NodeList matchingNodes = findMatchingNodes(fieldDescriptor, payload);
 			for (int i = 0; i < matchingNodes.getLength(); i++) {
 				Node node = matchingNodes.item(i);
 				if (node.getNodeType() == Node.ATTRIBUTE_NODE) {
@@ -177,10 +229,7 @@ class XmlContentHandler implements ContentHandler {
 		try {
 			StringWriter stringWriter = new StringWriter();
 			StreamResult xmlOutput = new StreamResult(stringWriter);
-			TransformerFactory transformerFactory = TransformerFactory.newInstance();
-			transformerFactory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "");
-			transformerFactory.setAttribute(XMLConstants.ACCESS_EXTERNAL_STYLESHEET, "");
-			Transformer transformer = transformerFactory.newTransformer();
+			Transformer transformer = newTransformer();
 			transformer.setOutputProperty(OutputKeys.INDENT, "yes");
 			transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
 			transformer.setOutputProperty("{http://xml.apache.org/xslt}indent-amount", "4");
@@ -0,0 +1,349 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.snippet;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.restdocs.RestDocumentationContext;
+import org.springframework.restdocs.templates.TemplateFormat;
+
+/**
+ * A {@link WriterResolver} that writes snippets to disk asynchronously. Snippets are
+ * rendered into memory and, when the {@link Writer} returned from
+ * {@link #resolve(String, String, RestDocumentationContext)} is closed, queued for
+ * writing by a background thread. The background thread writes all of the snippets
+ * that are queued in a single batch and remembers the directories that it has already
+ * created. Snippet file names are resolved, snippets that are written to the same
+ * directory by tests that are running in parallel are detected, unchanged snippets are
+ * skipped, and snippets are recorded in a {@link SnippetManifest} in the same way as
+ * {@link StandardWriterResolver}.
+ * <p>
+ * Any pending snippets are written when the resolver is {@link #flush() flushed} or
+ * {@link #close() closed}. A failure to write a snippet is associated with the
+ * {@link RestDocumentationContext} of the test that documented it and is reported by
+ * the next call to {@code resolve} for that context, or by {@code flush} or
+ * {@code close}. When tests are run using the
+ * {@link org.springframework.restdocs.RestDocumentationExtension}, a test fails if
+ * writing one of its own snippets failed while it was running and every open resolver
+ * is {@link #closeAll() closed} once all of the tests have completed. Resolvers that are
+ * still open when the JVM shuts down write their pending snippets then, but a failure
+ * to do so can only be reported as an uncaught exception of the shutdown hook.
+ * <p>
+ * All resolvers share a single background thread.
+ *
+ * @author Andy Wilkinson
+ * @since 4.1.0
+ * @see org.springframework.restdocs.config.SnippetConfigurer#withAsynchronousWriting()
+ */
+public final class AsynchronousWriterResolver implements WriterResolver, Closeable {
+
+	private static final ExecutorService backgroundWriter = Executors.newSingleThreadExecutor((runnable) -> {
+		Thread thread = new Thread(runnable, "spring-restdocs-snippet-writer");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private static final Set<AsynchronousWriterResolver> openResolvers = ConcurrentHashMap.newKeySet();
+
+	private final StandardWriterResolver delegate;
+
+	private final Charset encoding;
+
+	private final Queue<PendingSnippet> pendingSnippets = new ConcurrentLinkedQueue<>();
+
+	private final Set<File> createdDirectories = new HashSet<>();
+
+	private final Map<RestDocumentationContext, IOException> failures = new ConcurrentHashMap<>();
+
+	private final Thread shutdownHook = new Thread(this::writePendingSnippetsOnShutdown,
+			"spring-restdocs-snippet-writer-shutdown");
+
+	private volatile boolean closed;
+
+	/**
+	 * Creates a new {@code AsynchronousWriterResolver} that will use a
+	 * {@link org.springframework.util.PropertyPlaceholderHelper.PlaceholderResolver}
+	 * created from the given {@code placeholderResolverFactory} to resolve any
+	 * placeholders in the {@code operationName}. Snippets will be written using the
+	 * given {@code encoding} to files with names appropriate for content generated from
+	 * templates in the given {@code templateFormat}.
+	 * @param placeholderResolverFactory the placeholder resolver factory
+	 * @param encoding the encoding
+	 * @param templateFormat the snippet format
+	 */
+	public AsynchronousWriterResolver(PlaceholderResolverFactory placeholderResolverFactory, String encoding,
+			TemplateFormat templateFormat) {
+		this(placeholderResolverFactory, encoding, templateFormat, false, false);
+	}
+
+	/**
+	 * Creates a new {@code AsynchronousWriterResolver} that will use a
+	 * {@link org.springframework.util.PropertyPlaceholderHelper.PlaceholderResolver}
+	 * created from the given {@code placeholderResolverFactory} to resolve any
+	 * placeholders in the {@code operationName}. Snippets will be written using the
+	 * given {@code encoding} to files with names appropriate for content generated from
+	 * templates in the given {@code templateFormat}. When {@code skipUnchangedSnippets}
+	 * is {@code true}, a snippet file is only written if its content has changed. When
+	 * {@code writeManifest} is {@code true}, every snippet that is written is recorded in
+	 * the {@link SnippetManifest} of the context's output directory.
+	 * @param placeholderResolverFactory the placeholder resolver factory
+	 * @param encoding the encoding
+	 * @param templateFormat the snippet format
+	 * @param skipUnchangedSnippets whether to skip writing snippets whose content has
+	 * not changed
+	 * @param writeManifest whether to record written snippets in a manifest
+	 */
+	public AsynchronousWriterResolver(PlaceholderResolverFactory placeholderResolverFactory, String encoding,
+			TemplateFormat templateFormat, boolean skipUnchangedSnippets, boolean writeManifest) {
+		this.delegate = new StandardWriterResolver(placeholderResolverFactory, encoding, templateFormat,
+				skipUnchangedSnippets, writeManifest);
+		this.encoding = Charset.forName(encoding);
+		Runtime.getRuntime().addShutdownHook(this.shutdownHook);
+		openResolvers.add(this);
+	}
+
+	@Override
+	public Writer resolve(String operationName, String snippetName, RestDocumentationContext context)
+			throws IOException {
+		throwIfFailed(context);
+		File outputFile = this.delegate.resolveOutputFile(operationName, snippetName, context);
+		if (outputFile == null) {
+			return this.delegate.resolve(operationName, snippetName, context);
+		}
+		return new SnippetWriter(outputFile, context);
+	}
+
+	/**
+	 * Waits for all of the snippets that have been queued to be written.
+	 * @throws IOException if a snippet could not be written. The failures of any other
+	 * snippets are added as suppressed exceptions.
+	 */
+	public void flush() throws IOException {
+		if (this.closed) {
+			writePendingSnippets();
+		}
+		else {
+			try {
+				backgroundWriter.submit(this::writePendingSnippets).get();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while waiting for snippets to be written");
+			}
+			catch (ExecutionException ex) {
+				throw new IOException("Failed to write snippets", ex.getCause());
+			}
+		}
+		throwFailures();
+	}
+
+	/**
+	 * Writes all of the snippets that have been queued. Once closed, snippets that are
+	 * subsequently resolved are written synchronously when their writer is closed.
+	 * @throws IOException if a snippet could not be written
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			flush();
+		}
+		finally {
+			if (!this.closed) {
+				this.closed = true;
+				openResolvers.remove(this);
+				removeShutdownHook();
+			}
+		}
+	}
+
+	private void removeShutdownHook() {
+		try {
+			Runtime.getRuntime().removeShutdownHook(this.shutdownHook);
+		}
+		catch (IllegalStateException ex) {
+			// JVM is already shutting down
+		}
+	}
+
+	/**
+	 * Throws the failure, if any, that has occurred while any open resolver was writing
+	 * the snippets documented with the given {@code context}. Failures to write the
+	 * snippets of other contexts are not reported.
+	 * @param context the context
+	 * @throws IOException if a snippet of the context could not be written
+	 */
+	public static void throwIfAnyFailed(RestDocumentationContext context) throws IOException {
+		for (AsynchronousWriterResolver resolver : openResolvers) {
+			resolver.throwIfFailed(context);
+		}
+	}
+
+	/**
+	 * Closes every open resolver, writing all of their pending snippets. Every resolver
+	 * is closed, even if closing one of them fails.
+	 * @throws IOException if a snippet could not be written. The failures of any other
+	 * resolvers are added as suppressed exceptions.
+	 */
+	public static void closeAll() throws IOException {
+		IOException failure = null;
+		for (AsynchronousWriterResolver resolver : openResolvers) {
+			try {
+				resolver.close();
+			}
+			catch (IOException ex) {
+				failure = combine(failure, ex);
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	private void throwIfFailed(RestDocumentationContext context) throws IOException {
+		IOException failure = this.failures.remove(context);
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	private void throwFailures() throws IOException {
+		IOException failure = null;
+		Iterator<IOException> pendingFailures = this.failures.values().iterator();
+		while (pendingFailures.hasNext()) {
+			failure = combine(failure, pendingFailures.next());
+			pendingFailures.remove();
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	private static IOException combine(@Nullable IOException failure, IOException other) {
+		if (failure == null) {
+			return other;
+		}
+		failure.addSuppressed(other);
+		return failure;
+	}
+
+	private void enqueue(PendingSnippet snippet) throws IOException {
+		this.pendingSnippets.add(snippet);
+		if (this.closed) {
+			writePendingSnippets();
+			throwIfFailed(snippet.context);
+		}
+		else {
+			backgroundWriter.execute(this::writePendingSnippets);
+		}
+	}
+
+	private void writePendingSnippetsOnShutdown() {
+		writePendingSnippets();
+		Iterator<IOException> pendingFailures = this.failures.values().iterator();
+		if (pendingFailures.hasNext()) {
+			throw new UncheckedIOException("Failed to write snippets during shutdown", pendingFailures.next());
+		}
+	}
+
+	private synchronized void writePendingSnippets() {
+		PendingSnippet snippet;
+		while ((snippet = this.pendingSnippets.poll()) != null) {
+			try {
+				createDirectoriesIfNecessary(snippet.file);
+				this.delegate.write(snippet.file, snippet.content, this.delegate.getManifest(snippet.context));
+			}
+			catch (IOException ex) {
+				this.failures.merge(snippet.context, ex, AsynchronousWriterResolver::combine);
+			}
+		}
+	}
+
+	private void createDirectoriesIfNecessary(File outputFile) throws IOException {
+		File parent = outputFile.getParentFile();
+		if (this.createdDirectories.contains(parent)) {
+			return;
+		}
+		if (!parent.isDirectory() && !parent.mkdirs() && !parent.isDirectory()) {
+			throw new IOException("Failed to create directory '" + parent + "'");
+		}
+		this.createdDirectories.add(parent);
+	}
+
+	private static final class PendingSnippet {
+
+		private final File file;
+
+		private final byte[] content;
+
+		private final RestDocumentationContext context;
+
+		private PendingSnippet(File file, byte[] content, RestDocumentationContext context) {
+			this.file = file;
+			this.content = content;
+			this.context = context;
+		}
+
+	}
+
+	/**
+	 * A {@link Writer} that buffers a snippet in memory and queues it for writing when
+	 * closed.
+	 */
+	private final class SnippetWriter extends StringWriter {
+
+		private final File outputFile;
+
+		private final RestDocumentationContext context;
+
+		private boolean closed;
+
+		private SnippetWriter(File outputFile, RestDocumentationContext context) {
+			this.outputFile = outputFile;
+			this.context = context;
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (!this.closed) {
+				this.closed = true;
+				byte[] content = toString().getBytes(AsynchronousWriterResolver.this.encoding);
+				enqueue(new PendingSnippet(this.outputFile, content, this.context));
+			}
+		}
+
+	}
+
+}
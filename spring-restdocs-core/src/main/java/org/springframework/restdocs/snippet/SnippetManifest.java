@@ -0,0 +1,288 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.snippet;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * A manifest of the snippets that have been written to an output directory. The
+ * manifest is written to a file named {@value #FILE_NAME} in the output directory, with
+ * one JSON object per line describing a snippet: the {@code operation} (the path of the
+ * snippet's directory relative to the output directory), the snippet's {@code name}, the
+ * {@code file} to which it was written, and the {@code size} and {@code sha256} hash of
+ * its content. Tools such as the Asciidoctor extension can use the manifest to find the
+ * snippets of an operation without listing the operation's directory.
+ * <p>
+ * Written snippets are {@link #record(File) recorded} in memory and their entries are
+ * appended to the manifest file, describing the snippets' current content, when the
+ * manifest is {@link #flush() flushed}. When tests are run using the
+ * {@link org.springframework.restdocs.RestDocumentationExtension}, every manifest is
+ * {@link #flushAll() flushed} once all of the tests have completed. Manifests are also
+ * flushed when the JVM shuts down. When a snippet is recorded more than once, the last
+ * entry for it describes its current content. Duplicate entries left behind by earlier
+ * runs, and entries for snippets whose file no longer exists, are removed the first
+ * time that a manifest is flushed in a JVM. Access to the
+ * manifest file is guarded by a file lock so that it can be shared by several JVMs that
+ * write snippets to the same output directory.
+ *
+ * @author Andy Wilkinson
+ * @since 4.1.0
+ */
+public final class SnippetManifest {
+
+	/**
+	 * The name of the manifest file.
+	 */
+	public static final String FILE_NAME = "snippets-manifest.jsonl";
+
+	private static final Map<File, SnippetManifest> manifests = new ConcurrentHashMap<>();
+
+	private static final ObjectMapper objectMapper = new ObjectMapper();
+
+	static {
+		Runtime.getRuntime()
+			.addShutdownHook(
+					new Thread(SnippetManifest::flushAllOnShutdown, "spring-restdocs-snippet-manifest-shutdown"));
+	}
+
+	private final File directory;
+
+	private final File manifestFile;
+
+	private final Set<File> pendingSnippets = new LinkedHashSet<>();
+
+	private boolean compacted;
+
+	private SnippetManifest(File directory) {
+		this.directory = directory;
+		this.manifestFile = new File(directory, FILE_NAME);
+	}
+
+	/**
+	 * Returns the manifest of the given output {@code directory}. The same manifest is
+	 * returned for every call with the same directory.
+	 * @param directory the output directory
+	 * @return the manifest
+	 */
+	public static SnippetManifest forDirectory(File directory) {
+		return manifests.computeIfAbsent(directory.getAbsoluteFile(), SnippetManifest::new);
+	}
+
+	/**
+	 * Returns the file to which the manifest is written.
+	 * @return the manifest file
+	 */
+	public File getFile() {
+		return this.manifestFile;
+	}
+
+	/**
+	 * Records that the given {@code snippetFile} has been written. The snippet's entry,
+	 * describing the file's content at that time, is added to the manifest file when the
+	 * manifest is next {@link #flush() flushed}. Snippet files that are not beneath this
+	 * manifest's directory are ignored.
+	 * @param snippetFile the snippet file
+	 */
+	public synchronized void record(File snippetFile) {
+		File file = snippetFile.getAbsoluteFile();
+		if (relativePath(file.getParentFile()) == null) {
+			return;
+		}
+		this.pendingSnippets.remove(file);
+		this.pendingSnippets.add(file);
+	}
+
+	/**
+	 * Appends an entry for each snippet that has been recorded since the manifest was
+	 * last flushed to the manifest file. Snippets whose file no longer exists are
+	 * skipped.
+	 * @throws IOException if the manifest cannot be updated
+	 */
+	public synchronized void flush() throws IOException {
+		if (this.pendingSnippets.isEmpty()) {
+			return;
+		}
+		StringBuilder lines = new StringBuilder();
+		for (File snippetFile : this.pendingSnippets) {
+			Map<String, Object> entry = createEntry(snippetFile);
+			if (entry != null) {
+				lines.append(toJson(entry)).append('\n');
+			}
+		}
+		try (FileChannel channel = FileChannel.open(this.manifestFile.toPath(), StandardOpenOption.CREATE,
+				StandardOpenOption.READ, StandardOpenOption.WRITE); FileLock lock = channel.lock()) {
+			if (!this.compacted) {
+				compact(channel);
+				this.compacted = true;
+			}
+			channel.position(channel.size());
+			write(channel, lines.toString());
+		}
+		this.pendingSnippets.clear();
+	}
+
+	/**
+	 * Flushes every manifest. Every manifest is flushed, even if flushing one of them
+	 * fails.
+	 * @throws IOException if a manifest cannot be updated. The failures of any other
+	 * manifests are added as suppressed exceptions.
+	 */
+	public static void flushAll() throws IOException {
+		IOException failure = null;
+		for (SnippetManifest manifest : manifests.values()) {
+			try {
+				manifest.flush();
+			}
+			catch (IOException ex) {
+				if (failure == null) {
+					failure = ex;
+				}
+				else {
+					failure.addSuppressed(ex);
+				}
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	private static void flushAllOnShutdown() {
+		try {
+			flushAll();
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to write snippet manifest during shutdown", ex);
+		}
+	}
+
+	private @Nullable Map<String, Object> createEntry(File snippetFile) throws IOException {
+		String operation = relativePath(snippetFile.getParentFile());
+		if (operation == null || !snippetFile.isFile()) {
+			return null;
+		}
+		byte[] content = Files.readAllBytes(snippetFile.toPath());
+		String fileName = snippetFile.getName();
+		int extensionIndex = fileName.lastIndexOf('.');
+		Map<String, Object> entry = new LinkedHashMap<>();
+		entry.put("operation", operation);
+		entry.put("name", (extensionIndex > 0) ? fileName.substring(0, extensionIndex) : fileName);
+		entry.put("file", fileName);
+		entry.put("size", content.length);
+		entry.put("sha256", sha256(content));
+		return entry;
+	}
+
+	private @Nullable String relativePath(File operationDirectory) {
+		StringBuilder path = new StringBuilder();
+		@Nullable File candidate = operationDirectory;
+		while (candidate != null && !candidate.equals(this.directory)) {
+			if (path.length() > 0) {
+				path.insert(0, '/');
+			}
+			path.insert(0, candidate.getName());
+			candidate = candidate.getParentFile();
+		}
+		if (candidate == null) {
+			return null;
+		}
+		return path.toString();
+	}
+
+	private void compact(FileChannel channel) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+		channel.position(0);
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer) < 0) {
+				break;
+			}
+		}
+		Map<String, String> entries = new LinkedHashMap<>();
+		for (String line : new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8).split("\n")) {
+			String path = (!line.isEmpty()) ? snippetPathOf(line) : null;
+			if (path != null) {
+				entries.remove(path);
+				entries.put(path, line);
+			}
+		}
+		entries.keySet().removeIf((path) -> !new File(this.directory, path).isFile());
+		channel.truncate(0);
+		channel.position(0);
+		StringBuilder content = new StringBuilder();
+		for (String line : entries.values()) {
+			content.append(line).append('\n');
+		}
+		write(channel, content.toString());
+	}
+
+	private @Nullable String snippetPathOf(String line) {
+		try {
+			JsonNode entry = objectMapper.readTree(line);
+			return entry.path("operation").asString() + "/" + entry.path("file").asString();
+		}
+		catch (JacksonException ex) {
+			return null;
+		}
+	}
+
+	private void write(FileChannel channel, String content) throws IOException {
+		ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+
+	private String toJson(Map<String, Object> entry) throws IOException {
+		try {
+			return objectMapper.writeValueAsString(entry);
+		}
+		catch (JacksonException ex) {
+			throw new IOException("Failed to create manifest entry", ex);
+		}
+	}
+
+	private static String sha256(byte[] content) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+}
@@ -20,7 +20,14 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
+import java.io.StringWriter;
 import java.io.Writer;
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jspecify.annotations.Nullable;
 
@@ -36,6 +43,8 @@ import org.springframework.util.PropertyPlaceholderHelper.PlaceholderResolver;
  */
 public final class StandardWriterResolver implements WriterResolver {
 
+	private static final Map<File, Reference<RestDocumentationContext>> directoryOwners = new ConcurrentHashMap<>();
+
 	private final PlaceholderResolverFactory placeholderResolverFactory;
 
 	private final PropertyPlaceholderHelper propertyPlaceholderHelper = new PropertyPlaceholderHelper("{", "}");
@@ -44,6 +53,10 @@ public final class StandardWriterResolver implements WriterResolver {
 
 	private TemplateFormat templateFormat;
 
+	private final boolean skipUnchangedSnippets;
+
+	private final boolean writeManifest;
+
 	/**
 	 * Creates a new {@code StandardWriterResolver} that will use a
 	 * {@link PlaceholderResolver} created from the given
@@ -57,21 +70,68 @@ public final class StandardWriterResolver implements WriterResolver {
 	 */
 	public StandardWriterResolver(PlaceholderResolverFactory placeholderResolverFactory, String encoding,
 			TemplateFormat templateFormat) {
+		this(placeholderResolverFactory, encoding, templateFormat, false);
+	}
+
+	/**
+	 * Creates a new {@code StandardWriterResolver} that will use a
+	 * {@link PlaceholderResolver} created from the given
+	 * {@code placeholderResolverFactory} to resolve any placeholders in the
+	 * {@code operationName}. Writers will use the given {@code encoding} and, when
+	 * writing to a file, will use a filename appropriate for content generated from
+	 * templates in the given {@code templateFormat}. When
+	 * {@code skipUnchangedSnippets} is {@code true}, a snippet file is only written if
+	 * its content has changed, leaving the file and its last modified time untouched
+	 * otherwise.
+	 * @param placeholderResolverFactory the placeholder resolver factory
+	 * @param encoding the encoding
+	 * @param templateFormat the snippet format
+	 * @param skipUnchangedSnippets whether to skip writing snippets whose content has
+	 * not changed
+	 * @since 4.1.0
+	 */
+	public StandardWriterResolver(PlaceholderResolverFactory placeholderResolverFactory, String encoding,
+			TemplateFormat templateFormat, boolean skipUnchangedSnippets) {
+		this(placeholderResolverFactory, encoding, templateFormat, skipUnchangedSnippets, false);
+	}
+
+	/**
+	 * Creates a new {@code StandardWriterResolver} that will use a
+	 * {@link PlaceholderResolver} created from the given
+	 * {@code placeholderResolverFactory} to resolve any placeholders in the
+	 * {@code operationName}. Writers will use the given {@code encoding} and, when
+	 * writing to a file, will use a filename appropriate for content generated from
+	 * templates in the given {@code templateFormat}. When
+	 * {@code skipUnchangedSnippets} is {@code true}, a snippet file is only written if
+	 * its content has changed. When {@code writeManifest} is {@code true}, every snippet
+	 * that is written to a file beneath the context's output directory is recorded in
+	 * the directory's {@link SnippetManifest}, which is written when it is flushed.
+	 * @param placeholderResolverFactory the placeholder resolver factory
+	 * @param encoding the encoding
+	 * @param templateFormat the snippet format
+	 * @param skipUnchangedSnippets whether to skip writing snippets whose content has
+	 * not changed
+	 * @param writeManifest whether to record written snippets in a manifest
+	 * @since 4.1.0
+	 */
+	public StandardWriterResolver(PlaceholderResolverFactory placeholderResolverFactory, String encoding,
+			TemplateFormat templateFormat, boolean skipUnchangedSnippets, boolean writeManifest) {
 		this.placeholderResolverFactory = placeholderResolverFactory;
 		this.encoding = encoding;
 		this.templateFormat = templateFormat;
+		this.skipUnchangedSnippets = skipUnchangedSnippets;
+		this.writeManifest = writeManifest;
 	}
 
 	@Override
 	public Writer resolve(String operationName, String snippetName, RestDocumentationContext context)
 			throws IOException {
-		PlaceholderResolver placeholderResolver = this.placeholderResolverFactory.create(context);
-		String outputDirectory = replacePlaceholders(placeholderResolver, operationName);
-		String fileName = replacePlaceholders(placeholderResolver, snippetName) + "."
-				+ this.templateFormat.getFileExtension();
-		File outputFile = resolveFile(outputDirectory, fileName, context);
+		File outputFile = resolveOutputFile(operationName, snippetName, context);
 		if (outputFile != null) {
 			createDirectoriesIfNecessary(outputFile);
+			if (this.skipUnchangedSnippets || this.writeManifest) {
+				return new BufferingWriter(outputFile, getManifest(context));
+			}
 			return new OutputStreamWriter(new FileOutputStream(outputFile), this.encoding);
 		}
 		else {
@@ -79,6 +139,64 @@ public final class StandardWriterResolver implements WriterResolver {
 		}
 	}
 
+	@Nullable SnippetManifest getManifest(RestDocumentationContext context) {
+		File outputDirectory = context.getOutputDirectory();
+		return (this.writeManifest && outputDirectory != null) ? SnippetManifest.forDirectory(outputDirectory) : null;
+	}
+
+	/**
+	 * Writes the given {@code content} to the given {@code outputFile}, unless unchanged
+	 * snippets are skipped and the file already has the content, and records the file in
+	 * the given {@code manifest}.
+	 * @param outputFile the file to write
+	 * @param content the content of the snippet
+	 * @param manifest the manifest in which to record the file or {@code null}
+	 * @throws IOException if the snippet could not be written
+	 */
+	void write(File outputFile, byte[] content, @Nullable SnippetManifest manifest) throws IOException {
+		if (!this.skipUnchangedSnippets || !hasContent(outputFile, content)) {
+			Files.write(outputFile.toPath(), content);
+		}
+		if (manifest != null) {
+			manifest.record(outputFile);
+		}
+	}
+
+	@Nullable File resolveOutputFile(String operationName, String snippetName, RestDocumentationContext context) {
+		PlaceholderResolver placeholderResolver = this.placeholderResolverFactory.create(context);
+		String outputDirectory = replacePlaceholders(placeholderResolver, operationName);
+		String fileName = replacePlaceholders(placeholderResolver, snippetName) + "."
+				+ this.templateFormat.getFileExtension();
+		File outputFile = resolveFile(outputDirectory, fileName, context);
+		if (outputFile != null && context.isTestRunning()) {
+			claimOperationDirectory(outputFile.getAbsoluteFile().getParentFile(), context);
+		}
+		return outputFile;
+	}
+
+	private void claimOperationDirectory(File operationDirectory, RestDocumentationContext context) {
+		// Owners are only weakly referenced so that a completed test's context, and the
+		// class loader of its test class, do not outlive it
+		Reference<RestDocumentationContext> claim = directoryOwners.compute(operationDirectory,
+				(directory, current) -> isRunning(current) ? current : new WeakReference<>(context));
+		RestDocumentationContext owner = claim.get();
+		if (owner != null && owner != context) {
+			throw new IllegalStateException("Snippets are being written to '" + operationDirectory + "' by "
+					+ describe(owner) + " and " + describe(context) + " while both are running. Use an operation "
+					+ "name that is unique to each test, for example one that includes the {class-name} and "
+					+ "{method-name} placeholders");
+		}
+	}
+
+	private static boolean isRunning(@Nullable Reference<RestDocumentationContext> reference) {
+		RestDocumentationContext context = (reference != null) ? reference.get() : null;
+		return context != null && context.isTestRunning();
+	}
+
+	private String describe(RestDocumentationContext context) {
+		return context.getTestClass().getName() + "." + context.getTestMethodName();
+	}
+
 	private String replacePlaceholders(PlaceholderResolver resolver, String input) {
 		return this.propertyPlaceholderHelper.replacePlaceholders(input, resolver);
 	}
@@ -101,9 +219,47 @@ public final class StandardWriterResolver implements WriterResolver {
 
 	private void createDirectoriesIfNecessary(File outputFile) {
 		File parent = outputFile.getParentFile();
-		if (!parent.isDirectory() && !parent.mkdirs()) {
+		// The directory may have been created concurrently by a test running in parallel
+		if (!parent.isDirectory() && !parent.mkdirs() && !parent.isDirectory()) {
 			throw new IllegalStateException("Failed to create directory '" + parent + "'");
 		}
 	}
 
+	static boolean hasContent(File file, byte[] content) throws IOException {
+		if (!file.isFile() || file.length() != content.length) {
+			return false;
+		}
+		return Arrays.equals(Files.readAllBytes(file.toPath()), content);
+	}
+
+	/**
+	 * A {@link Writer} that buffers a snippet in memory and writes it to its file when
+	 * closed, optionally only if the file's content is different and recording it in a
+	 * manifest.
+	 */
+	private final class BufferingWriter extends StringWriter {
+
+		private final File outputFile;
+
+		private final @Nullable SnippetManifest manifest;
+
+		private boolean closed;
+
+		private BufferingWriter(File outputFile, @Nullable SnippetManifest manifest) {
+			this.outputFile = outputFile;
+			this.manifest = manifest;
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (this.closed) {
+				return;
+			}
+			this.closed = true;
+			byte[] content = toString().getBytes(StandardWriterResolver.this.encoding);
+			write(this.outputFile, content, this.manifest);
+		}
+
+	}
+
 }
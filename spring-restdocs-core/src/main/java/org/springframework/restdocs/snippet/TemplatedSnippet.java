@@ -24,6 +24,9 @@ import java.util.Map;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.restdocs.RestDocumentationContext;
+import org.springframework.restdocs.capture.OperationCapture;
+import org.springframework.restdocs.metrics.OperationMetrics.Phase;
+import org.springframework.restdocs.metrics.OperationMetricsRecorder;
 import org.springframework.restdocs.operation.Operation;
 import org.springframework.restdocs.templates.Template;
 import org.springframework.restdocs.templates.TemplateEngine;
@@ -75,11 +78,33 @@ public abstract class TemplatedSnippet implements Snippet {
 	public void document(Operation operation) throws IOException {
 		RestDocumentationContext context = getRequiredAttribute(operation, RestDocumentationContext.class);
 		WriterResolver writerResolver = getRequiredAttribute(operation, WriterResolver.class);
+		OperationMetricsRecorder metricsRecorder = OperationMetricsRecorder.of(operation);
+		long startTime = System.nanoTime();
 		Map<String, Object> model = createModel(operation);
 		model.putAll(this.attributes);
+		record(metricsRecorder, Phase.MODEL_CREATION, startTime);
+		OperationCapture capture = OperationCapture.of(operation);
+		if (capture != null) {
+			capture.captureSnippet(this.snippetName, this.templateName, model);
+		}
+		long writeStartTime;
 		try (Writer writer = writerResolver.resolve(operation.getName(), this.snippetName, context)) {
 			TemplateEngine templateEngine = getRequiredAttribute(operation, TemplateEngine.class);
-			writer.append(templateEngine.compileTemplate(this.templateName).render(model));
+			startTime = System.nanoTime();
+			String content = templateEngine.compileTemplate(this.templateName).render(model);
+			record(metricsRecorder, Phase.TEMPLATE_RENDERING, startTime);
+			writeStartTime = System.nanoTime();
+			writer.append(content);
+			if (metricsRecorder != null) {
+				metricsRecorder.recordCharactersWritten(content.length());
+			}
+		}
+		record(metricsRecorder, Phase.WRITING, writeStartTime);
+	}
+
+	private void record(@Nullable OperationMetricsRecorder metricsRecorder, Phase phase, long startTime) {
+		if (metricsRecorder != null) {
+			metricsRecorder.record(phase, this.snippetName, startTime);
 		}
 	}
 
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.templates;
+
+/**
+ * The modes in which a {@link TemplateEngine} may cache the templates that it has
+ * compiled.
+ *
+ * @author Andy Wilkinson
+ * @since 4.1.0
+ */
+public enum TemplateCacheMode {
+
+	/**
+	 * Templates are not cached. Every call to {@link TemplateEngine#compileTemplate}
+	 * resolves and compiles the template afresh.
+	 */
+	DISABLED,
+
+	/**
+	 * Templates are compiled once and cached for the lifetime of the engine.
+	 */
+	ENABLED,
+
+	/**
+	 * Templates are cached but the underlying template resource is resolved on each use
+	 * and a template is recompiled when its resource has changed. Useful during
+	 * development of custom templates.
+	 */
+	RELOAD_ON_CHANGE
+
+}
@@ -22,18 +22,23 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.samskivert.mustache.Mustache;
 import com.samskivert.mustache.Mustache.Compiler;
 
 import org.springframework.core.io.Resource;
 import org.springframework.restdocs.templates.Template;
+import org.springframework.restdocs.templates.TemplateCacheMode;
 import org.springframework.restdocs.templates.TemplateEngine;
 import org.springframework.restdocs.templates.TemplateResourceResolver;
 
 /**
  * A <a href="https://mustache.github.io">Mustache</a>-based {@link TemplateEngine}
  * implemented using <a href="https://github.com/samskivert/jmustache">JMustache</a>.
+ * <p>
+ * By default, compiled templates are cached by name for the lifetime of the engine. A
+ * different {@link TemplateCacheMode} can be configured when the engine is created.
  *
  * @author Andy Wilkinson
  */
@@ -47,6 +52,10 @@ public class MustacheTemplateEngine implements TemplateEngine {
 
 	private final Map<String, Object> context;
 
+	private final TemplateCacheMode cacheMode;
+
+	private final Map<String, CachedTemplate> templateCache = new ConcurrentHashMap<>();
+
 	/**
 	 * Creates a new {@code MustacheTemplateEngine} that will use the given
 	 * {@code templateResourceResolver} to resolve template paths. Templates will be read
@@ -127,18 +136,68 @@ public class MustacheTemplateEngine implements TemplateEngine {
 	 */
 	public MustacheTemplateEngine(TemplateResourceResolver templateResourceResolver, Charset templateEncoding,
 			Compiler compiler, Map<String, Object> context) {
+		this(templateResourceResolver, templateEncoding, compiler, context, TemplateCacheMode.ENABLED);
+	}
+
+	/**
+	 * Creates a new {@code MustacheTemplateEngine} that will use the given
+	 * {@code templateResourceResolver} to resolve templates. Template will be read using
+	 * the given {@code templateEncoding}. Once read, the given {@code compiler} will be
+	 * used to compile them. Compiled templates will be created with the given
+	 * {@code context} and cached according to the given {@code cacheMode}.
+	 * @param templateResourceResolver the resolver to use
+	 * @param templateEncoding the charset to use when reading the templates
+	 * @param compiler the compiler to use
+	 * @param context the context to pass to compiled templates
+	 * @param cacheMode the mode used to cache compiled templates
+	 * @since 4.1.0
+	 * @see MustacheTemplate#MustacheTemplate(com.samskivert.mustache.Template, Map)
+	 */
+	public MustacheTemplateEngine(TemplateResourceResolver templateResourceResolver, Charset templateEncoding,
+			Compiler compiler, Map<String, Object> context, TemplateCacheMode cacheMode) {
 		this.templateResourceResolver = templateResourceResolver;
 		this.templateEncoding = templateEncoding;
 		this.compiler = compiler;
 		this.context = context;
+		this.cacheMode = cacheMode;
 	}
 
 	@Override
 	public Template compileTemplate(String name) throws IOException {
+		if (this.cacheMode == TemplateCacheMode.DISABLED) {
+			return compileTemplate(this.templateResourceResolver.resolveTemplateResource(name));
+		}
+		CachedTemplate cached = this.templateCache.get(name);
+		if (cached != null && this.cacheMode == TemplateCacheMode.ENABLED) {
+			return cached.template;
+		}
 		Resource templateResource = this.templateResourceResolver.resolveTemplateResource(name);
-		return new MustacheTemplate(
-				this.compiler.compile(new InputStreamReader(templateResource.getInputStream(), this.templateEncoding)),
-				this.context);
+		long lastModified = lastModified(templateResource);
+		if (cached != null && cached.isCurrent(templateResource, lastModified)) {
+			return cached.template;
+		}
+		Template template = compileTemplate(templateResource);
+		this.templateCache.put(name, new CachedTemplate(template, templateResource, lastModified));
+		return template;
+	}
+
+	private Template compileTemplate(Resource templateResource) throws IOException {
+		try (InputStreamReader reader = new InputStreamReader(templateResource.getInputStream(),
+				this.templateEncoding)) {
+			return new MustacheTemplate(this.compiler.compile(reader), this.context);
+		}
+	}
+
+	private long lastModified(Resource templateResource) {
+		if (this.cacheMode != TemplateCacheMode.RELOAD_ON_CHANGE) {
+			return -1;
+		}
+		try {
+			return templateResource.lastModified();
+		}
+		catch (IOException ex) {
+			return -1;
+		}
 	}
 
 	/**
@@ -159,4 +218,33 @@ public class MustacheTemplateEngine implements TemplateEngine {
 		return this.templateResourceResolver;
 	}
 
+	/**
+	 * Returns the {@link TemplateCacheMode} used to cache compiled templates.
+	 * @return the cache mode
+	 * @since 4.1.0
+	 */
+	protected final TemplateCacheMode getCacheMode() {
+		return this.cacheMode;
+	}
+
+	private static final class CachedTemplate {
+
+		private final Template template;
+
+		private final Resource resource;
+
+		private final long lastModified;
+
+		private CachedTemplate(Template template, Resource resource, long lastModified) {
+			this.template = template;
+			this.resource = resource;
+			this.lastModified = lastModified;
+		}
+
+		private boolean isCurrent(Resource resource, long lastModified) {
+			return this.resource.equals(resource) && this.lastModified == lastModified;
+		}
+
+	}
+
 }
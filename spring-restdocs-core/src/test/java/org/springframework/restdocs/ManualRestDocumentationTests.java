@@ -0,0 +1,168 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link ManualRestDocumentation}.
+ *
+ * @author Andy Wilkinson
+ */
+class ManualRestDocumentationTests {
+
+	private final ManualRestDocumentation restDocumentation = new ManualRestDocumentation("build");
+
+	@Test
+	void beforeOperationWithoutBeforeTestFails() {
+		assertThatIllegalArgumentException().isThrownBy(this.restDocumentation::beforeOperation)
+			.withMessageContaining("Did you forget to call beforeTest(Class, String)?");
+	}
+
+	@Test
+	void beforeTestTwiceWithoutAfterTestFails() {
+		this.restDocumentation.beforeTest(getClass(), "one");
+		assertThatIllegalArgumentException().isThrownBy(() -> this.restDocumentation.beforeTest(getClass(), "two"))
+			.withMessageContaining("Did you forget to call afterTest()?");
+	}
+
+	@Test
+	void stepCountIsIncrementedByEachOperation() {
+		this.restDocumentation.beforeTest(getClass(), "test");
+		this.restDocumentation.beforeOperation();
+		assertThat(this.restDocumentation.beforeOperation().getStepCount()).isEqualTo(2);
+		this.restDocumentation.afterTest();
+		this.restDocumentation.beforeTest(getClass(), "test");
+		assertThat(this.restDocumentation.beforeOperation().getStepCount()).isEqualTo(1);
+	}
+
+	@Test
+	void contextOfSingleTestIsAvailableOnOtherThreads() throws Exception {
+		this.restDocumentation.beforeTest(getClass(), "test");
+		RestDocumentationContext context = CompletableFuture.supplyAsync(this.restDocumentation::beforeOperation)
+			.get(5, TimeUnit.SECONDS);
+		assertThat(context.getTestMethodName()).isEqualTo("test");
+		CompletableFuture.runAsync(this.restDocumentation::afterTest).get(5, TimeUnit.SECONDS);
+		assertThatIllegalArgumentException().isThrownBy(this.restDocumentation::beforeOperation);
+	}
+
+	@Test
+	void testsRunningInParallelHaveSeparateContexts() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			CountDownLatch started = new CountDownLatch(2);
+			Future<String> one = executor.submit(() -> runTest("one", 1, started));
+			Future<String> two = executor.submit(() -> runTest("two", 3, started));
+			assertThat(one.get(5, TimeUnit.SECONDS)).isEqualTo("one:1");
+			assertThat(two.get(5, TimeUnit.SECONDS)).isEqualTo("two:3");
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void beforeOperationOnThreadWithoutContextFailsWhenTestsAreRunningInParallel() throws Exception {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			this.restDocumentation.beforeTest(getClass(), "one");
+			executor.submit(() -> this.restDocumentation.beforeTest(getClass(), "two")).get(5, TimeUnit.SECONDS);
+			Future<RestDocumentationContext> operation = CompletableFuture
+				.supplyAsync(this.restDocumentation::beforeOperation, (task) -> new Thread(task).start());
+			assertThatExceptionOfType(ExecutionException.class).isThrownBy(() -> operation.get(5, TimeUnit.SECONDS))
+				.withCauseInstanceOf(IllegalStateException.class)
+				.withMessageContaining("no context exists for the current thread");
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void afterTestOnThreadWithoutContextFailsWhenTestsAreRunningInParallel() throws Exception {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			this.restDocumentation.beforeTest(getClass(), "one");
+			executor.submit(() -> this.restDocumentation.beforeTest(getClass(), "two")).get(5, TimeUnit.SECONDS);
+			Future<Void> afterTest = CompletableFuture.runAsync(this.restDocumentation::afterTest,
+					(task) -> new Thread(task).start());
+			assertThatExceptionOfType(ExecutionException.class).isThrownBy(() -> afterTest.get(5, TimeUnit.SECONDS))
+				.withCauseInstanceOf(IllegalStateException.class)
+				.withMessageContaining("Did you call afterTest() on a thread other than");
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void beforeTestClearsContextOfTerminatedThread() throws Exception {
+		RestDocumentationContext[] leaked = new RestDocumentationContext[1];
+		Thread thread = new Thread(() -> {
+			this.restDocumentation.beforeTest(getClass(), "leaked");
+			leaked[0] = this.restDocumentation.beforeOperation();
+		});
+		thread.start();
+		thread.join(5000);
+		this.restDocumentation.beforeTest(getClass(), "test");
+		assertThat(this.restDocumentation.beforeOperation().getTestMethodName()).isEqualTo("test");
+		assertThat(leaked[0].isTestRunning()).isFalse();
+	}
+
+	@Test
+	void contextIsNoLongerRunningAfterTest() {
+		this.restDocumentation.beforeTest(getClass(), "test");
+		RestDocumentationContext context = this.restDocumentation.beforeOperation();
+		assertThat(context.isTestRunning()).isTrue();
+		this.restDocumentation.afterTest();
+		assertThat(context.isTestRunning()).isFalse();
+	}
+
+	private String runTest(String name, int operations, CountDownLatch started) {
+		this.restDocumentation.beforeTest(getClass(), name);
+		try {
+			started.countDown();
+			started.await(5, TimeUnit.SECONDS);
+			RestDocumentationContext context = this.restDocumentation.beforeOperation();
+			for (int i = 1; i < operations; i++) {
+				context = this.restDocumentation.beforeOperation();
+			}
+			return context.getTestMethodName() + ":" + context.getStepCount();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(ex);
+		}
+		finally {
+			this.restDocumentation.afterTest();
+		}
+	}
+
+}
@@ -16,20 +16,38 @@
 
 package org.springframework.restdocs;
 
+import java.io.File;
 import java.io.IOException;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.restdocs.capture.OperationCapture;
+import org.springframework.restdocs.capture.OperationCaptureStore;
+import org.springframework.restdocs.generate.RestDocumentationGenerationException;
 import org.springframework.restdocs.generate.RestDocumentationGenerator;
+import org.springframework.restdocs.metrics.OperationMetrics;
+import org.springframework.restdocs.metrics.OperationMetrics.Phase;
+import org.springframework.restdocs.metrics.OperationMetrics.Timing;
+import org.springframework.restdocs.metrics.OperationMetricsListener;
+import org.springframework.restdocs.metrics.OperationMetricsRecorder;
 import org.springframework.restdocs.operation.Operation;
 import org.springframework.restdocs.operation.OperationRequest;
 import org.springframework.restdocs.operation.OperationRequestFactory;
@@ -44,9 +62,14 @@ import org.springframework.restdocs.operation.preprocess.Preprocessors;
 import org.springframework.restdocs.snippet.Snippet;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 /**
@@ -89,6 +112,33 @@ class RestDocumentationGeneratorTests {
 		verifySnippetInvocation(this.snippet, configuration);
 	}
 
+	@Test
+	void requestThatIsNotUsedBySnippetsIsNotConverted() throws IOException {
+		given(this.responseConverter.convert(this.response)).willReturn(this.operationResponse);
+		OperationRequestPreprocessor requestPreprocessor = mock(OperationRequestPreprocessor.class);
+		List<OperationResponse> documentedResponses = new ArrayList<>();
+		Snippet responseSnippet = (operation) -> documentedResponses.add(operation.getResponse());
+		new RestDocumentationGenerator<>("id", this.requestConverter, this.responseConverter, requestPreprocessor,
+				responseSnippet)
+			.handle(this.request, this.response, new HashMap<>());
+		assertThat(documentedResponses).containsExactly(this.operationResponse);
+		verifyNoInteractions(this.requestConverter, requestPreprocessor);
+	}
+
+	@Test
+	void requestAndResponseAreConvertedOnceWhenUsedByMultipleSnippets() throws IOException {
+		given(this.requestConverter.convert(this.request)).willReturn(this.operationRequest);
+		given(this.responseConverter.convert(this.response)).willReturn(this.operationResponse);
+		Snippet snippet = (operation) -> {
+			operation.getRequest();
+			operation.getResponse();
+		};
+		new RestDocumentationGenerator<>("id", this.requestConverter, this.responseConverter, snippet, snippet)
+			.handle(this.request, this.response, new HashMap<>());
+		verify(this.requestConverter).convert(this.request);
+		verify(this.responseConverter).convert(this.response);
+	}
+
 	@Test
 	void defaultSnippetsAreCalled() throws IOException {
 		given(this.requestConverter.convert(this.request)).willReturn(this.operationRequest);
@@ -168,6 +218,179 @@ class RestDocumentationGeneratorTests {
 		verifySnippetInvocation(additionalSnippet2, configuration);
 	}
 
+	@Test
+	void snippetsAreDocumentedUsingConfiguredExecutor() throws IOException {
+		given(this.requestConverter.convert(this.request)).willReturn(this.operationRequest);
+		given(this.responseConverter.convert(this.response)).willReturn(this.operationResponse);
+		HashMap<String, Object> configuration = new HashMap<>();
+		Snippet defaultSnippet = mock(Snippet.class);
+		configuration.put(RestDocumentationGenerator.ATTRIBUTE_NAME_DEFAULT_SNIPPETS, Arrays.asList(defaultSnippet));
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			configuration.put(RestDocumentationGenerator.ATTRIBUTE_NAME_SNIPPET_EXECUTOR, executor);
+			new RestDocumentationGenerator<>("id", this.requestConverter, this.responseConverter, this.snippet)
+				.handle(this.request, this.response, configuration);
+		}
+		finally {
+			executor.shutdown();
+		}
+		verifySnippetInvocation(defaultSnippet, configuration);
+		verifySnippetInvocation(this.snippet, configuration);
+	}
+
+	@Test
+	void whenSnippetsAreDocumentedConcurrentlyFailureOfFirstFailingSnippetIsThrown() throws IOException {
+		given(this.requestConverter.convert(this.request)).willReturn(this.operationRequest);
+		given(this.responseConverter.convert(this.response)).willReturn(this.operationResponse);
+		Snippet first = mock(Snippet.class);
+		Snippet second = mock(Snippet.class);
+		Snippet third = mock(Snippet.class);
+		IOException secondFailure = new IOException("second");
+		IllegalStateException thirdFailure = new IllegalStateException("third");
+		willThrow(secondFailure).given(second).document(any(Operation.class));
+		willThrow(thirdFailure).given(third).document(any(Operation.class));
+		HashMap<String, Object> configuration = new HashMap<>();
+		configuration.put(RestDocumentationGenerator.ATTRIBUTE_NAME_SNIPPET_EXECUTOR, (Executor) Runnable::run);
+		assertThatExceptionOfType(RestDocumentationGenerationException.class)
+			.isThrownBy(() -> new RestDocumentationGenerator<>("id", this.requestConverter, this.responseConverter,
+					first, second, third)
+				.handle(this.request, this.response, configuration))
+			.withCause(secondFailure)
+			.satisfies((ex) -> assertThat(ex.getSuppressed()).containsExactly(thirdFailure));
+		verifySnippetInvocation(first, configuration);
+	}
+
+	@Test
+	void whenSnippetsAreDocumentedConcurrentlyAllSnippetsCompleteBeforeAnErrorIsThrown() {
+		CountDownLatch secondFailed = new CountDownLatch(1);
+		AtomicBoolean thirdCompleted = new AtomicBoolean();
+		Error firstFailure = new Error("first");
+		IllegalStateException secondFailure = new IllegalStateException("second");
+		Snippet first = (operation) -> {
+			awaitLatch(secondFailed);
+			throw firstFailure;
+		};
+		Snippet second = (operation) -> {
+			secondFailed.countDown();
+			throw secondFailure;
+		};
+		Snippet third = (operation) -> {
+			awaitLatch(secondFailed);
+			sleep(200);
+			thirdCompleted.set(true);
+		};
+		HashMap<String, Object> configuration = new HashMap<>();
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+		try {
+			configuration.put(RestDocumentationGenerator.ATTRIBUTE_NAME_SNIPPET_EXECUTOR, executor);
+			assertThatExceptionOfType(Error.class)
+				.isThrownBy(() -> new RestDocumentationGenerator<>("id", this.requestConverter,
+						this.responseConverter, first, second, third)
+					.handle(this.request, this.response, configuration))
+				.isSameAs(firstFailure)
+				.satisfies((ex) -> assertThat(ex.getSuppressed()).containsExactly(secondFailure));
+			assertThat(thirdCompleted).isTrue();
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void whenMetricsListenerIsConfiguredItIsNotifiedWithTheTimingOfEachPhase() throws IOException {
+		given(this.requestConverter.convert(this.request)).willReturn(this.operationRequest);
+		given(this.responseConverter.convert(this.response)).willReturn(this.operationResponse);
+		HashMap<String, Object> configuration = new HashMap<>();
+		configuration.put(RestDocumentationGenerator.ATTRIBUTE_NAME_DEFAULT_OPERATION_RESPONSE_PREPROCESSOR,
+				Preprocessors.preprocessResponse());
+		List<OperationMetrics> recordedMetrics = new ArrayList<>();
+		configuration.put(OperationMetricsListener.class.getName(),
+				(OperationMetricsListener) (operation, metrics) -> recordedMetrics.add(metrics));
+		List<Operation> documentedOperations = new ArrayList<>();
+		Snippet snippet = (operation) -> {
+			documentedOperations.add(operation);
+			operation.getRequest();
+			operation.getResponse();
+		};
+		new RestDocumentationGenerator<>("id", this.requestConverter, this.responseConverter, snippet)
+			.handle(this.request, this.response, configuration);
+		assertThat(OperationMetricsRecorder.of(documentedOperations.get(0))).isNotNull();
+		assertThat(recordedMetrics).hasSize(1);
+		OperationMetrics metrics = recordedMetrics.get(0);
+		assertThat(metrics.getOperationName()).isEqualTo("id");
+		assertThat(metrics.getTimings()).extracting(Timing::getPhase, Timing::getName)
+			.containsExactly(tuple(Phase.REQUEST_CONVERSION, "request"),
+					tuple(Phase.REQUEST_PREPROCESSING, "operation"), tuple(Phase.RESPONSE_CONVERSION, "response"),
+					tuple(Phase.RESPONSE_PREPROCESSING, "operation"), tuple(Phase.RESPONSE_PREPROCESSING, "default"),
+					tuple(Phase.SNIPPET, snippet.getClass().getSimpleName()));
+		assertThat(metrics.getRequestContentLength()).isZero();
+		assertThat(metrics.getResponseContentLength()).isZero();
+		assertThat(metrics.getTotalTime().isNegative()).isFalse();
+	}
+
+	@Test
+	void whenMetricsListenerIsConfiguredUnusedRequestAndResponseAreNotConverted() throws IOException {
+		HashMap<String, Object> configuration = new HashMap<>();
+		List<OperationMetrics> recordedMetrics = new ArrayList<>();
+		configuration.put(OperationMetricsListener.class.getName(),
+				(OperationMetricsListener) (operation, metrics) -> recordedMetrics.add(metrics));
+		new RestDocumentationGenerator<>("id", this.requestConverter, this.responseConverter, this.snippet)
+			.handle(this.request, this.response, configuration);
+		assertThat(recordedMetrics).hasSize(1);
+		OperationMetrics metrics = recordedMetrics.get(0);
+		assertThat(metrics.getTimings()).extracting(Timing::getPhase).containsExactly(Phase.SNIPPET);
+		assertThat(metrics.getRequestContentLength()).isEqualTo(-1);
+		assertThat(metrics.getResponseContentLength()).isEqualTo(-1);
+		verifyNoInteractions(this.requestConverter, this.responseConverter);
+	}
+
+	@Test
+	void whenMetricsListenerIsNotConfiguredNoMetricsAreRecorded() throws IOException {
+		given(this.requestConverter.convert(this.request)).willReturn(this.operationRequest);
+		given(this.responseConverter.convert(this.response)).willReturn(this.operationResponse);
+		new RestDocumentationGenerator<>("id", this.requestConverter, this.responseConverter, this.snippet)
+			.handle(this.request, this.response, new HashMap<>());
+		ArgumentCaptor<Operation> operation = ArgumentCaptor.forClass(Operation.class);
+		verify(this.snippet).document(operation.capture());
+		assertThat(OperationMetricsRecorder.of(operation.getValue())).isNull();
+	}
+
+	@Test
+	void whenCaptureStoreIsConfiguredOperationIsCaptured(@TempDir File captures) throws IOException {
+		given(this.requestConverter.convert(this.request)).willReturn(this.operationRequest);
+		given(this.responseConverter.convert(this.response)).willReturn(this.operationResponse);
+		HashMap<String, Object> configuration = new HashMap<>();
+		OperationCaptureStore captureStore = new OperationCaptureStore(captures);
+		configuration.put(OperationCaptureStore.class.getName(), captureStore);
+		new RestDocumentationGenerator<>("id", this.requestConverter, this.responseConverter, this.snippet)
+			.handle(this.request, this.response, configuration);
+		ArgumentCaptor<Operation> operation = ArgumentCaptor.forClass(Operation.class);
+		verify(this.snippet).document(operation.capture());
+		assertThat(OperationCapture.of(operation.getValue())).isNotNull();
+		assertThat(captureStore.load()).singleElement()
+			.satisfies((capture) -> assertThat(capture.getOperationName()).isEqualTo("id"));
+	}
+
+	private static void awaitLatch(CountDownLatch latch) {
+		try {
+			assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(ex);
+		}
+	}
+
 	private void verifySnippetInvocation(Snippet snippet, Map<String, Object> attributes) throws IOException {
 		ArgumentCaptor<Operation> operation = ArgumentCaptor.forClass(Operation.class);
 		verify(snippet).document(operation.capture());
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.restdocs.capture;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.restdocs.operation.OperationRequestFactory;
+import org.springframework.restdocs.operation.OperationResponseFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link BatchDocumentationGeneratorCommand}.
+ *
+ * @author Andy Wilkinson
+ */
+class BatchDocumentationGeneratorCommandTests {
+
+	@TempDir
+	File temp;
+
+	private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+	private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+	@Test
+	void whenArgumentsAreMissingThenUsageIsReported() {
+		assertThat(run(this.temp.getAbsolutePath())).isEqualTo(1);
+		assertThat(this.err.toString(StandardCharsets.UTF_8)).startsWith("Usage: BatchDocumentationGeneratorCommand");
+		assertThat(this.out.toByteArray()).isEmpty();
+	}
+
+	@Test
+	void snippetsAreGeneratedFromCaptureDirectory() throws IOException {
+		File captures = new File(this.temp, "captures");
+		OperationCapture capture = new OperationCapture("things",
+				new OperationRequestFactory().create(URI.create("http://localhost/things"), HttpMethod.GET, null,
+						new HttpHeaders(), null, Collections.emptyList()),
+				new OperationResponseFactory().create(HttpStatus.OK, new HttpHeaders(), null));
+		capture.captureSnippet("curl-request", "curl-request", Collections.singletonMap("url", "http://localhost"));
+		new OperationCaptureStore(captures).save(capture);
+		File output = new File(this.temp, "generated-snippets");
+		assertThat(run(captures.getAbsolutePath(), output.getAbsolutePath(), "markdown")).isZero();
+		assertThat(this.out.toString(StandardCharsets.UTF_8)).contains("Generated 1 snippets");
+		assertThat(new File(output, "things/curl-request.md")).isFile();
+	}
+
+	private int run(String... args) {
+		return BatchDocumentationGeneratorCommand.run(args, new PrintStream(this.out, true, StandardCharsets.UTF_8),
+				new PrintStream(this.err, true, StandardCharsets.UTF_8));
+	}
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.capture;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.restdocs.operation.OperationRequestFactory;
+import org.springframework.restdocs.operation.OperationResponseFactory;
+import org.springframework.restdocs.templates.TemplateFormats;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link BatchDocumentationGenerator}.
+ *
+ * @author Andy Wilkinson
+ */
+class BatchDocumentationGeneratorTests {
+
+	@TempDir
+	File temp;
+
+	@Test
+	void snippetsAreGeneratedFromCapturedModels() throws IOException {
+		OperationCaptureStore store = new OperationCaptureStore(new File(this.temp, "captures"));
+		OperationCapture capture = createCapture("things");
+		Map<String, Object> model = new HashMap<>();
+		model.put("url", "'http://localhost/things' -i");
+		model.put("options", "-X GET");
+		capture.captureSnippet("curl-request", "curl-request", model);
+		Map<String, Object> header = new HashMap<>();
+		header.put("name", "X-Test");
+		header.put("description", "A|header");
+		capture.captureSnippet("request-headers", "request-headers",
+				Collections.singletonMap("headers", Arrays.asList(header)));
+		store.save(capture);
+		File output = new File(this.temp, "generated-snippets");
+		int generated = new BatchDocumentationGenerator(store, output).generate();
+		assertThat(generated).isEqualTo(2);
+		assertThat(read(new File(output, "things/curl-request.adoc")))
+			.isEqualTo("[source,bash]\n----\n$ curl 'http://localhost/things' -i -X GET\n----");
+		assertThat(read(new File(output, "things/request-headers.adoc"))).contains("|`+X-Test+`")
+			.contains("|A\\|header");
+	}
+
+	@Test
+	void snippetsCanBeGeneratedInMarkdown() throws IOException {
+		OperationCaptureStore store = new OperationCaptureStore(new File(this.temp, "captures"));
+		OperationCapture capture = createCapture("things");
+		Map<String, Object> model = new HashMap<>();
+		model.put("url", "'http://localhost/things' -i");
+		model.put("options", "-X GET");
+		capture.captureSnippet("curl-request", "curl-request", model);
+		store.save(capture);
+		File output = new File(this.temp, "generated-snippets");
+		new BatchDocumentationGenerator(store, output, "UTF-8", TemplateFormats.markdown()).generate();
+		assertThat(read(new File(output, "things/curl-request.md")))
+			.isEqualTo("```bash\n$ curl 'http://localhost/things' -i -X GET\n```");
+	}
+
+	@Test
+	void unchangedSnippetsAreNotRewritten() throws IOException {
+		OperationCaptureStore store = new OperationCaptureStore(new File(this.temp, "captures"));
+		OperationCapture capture = createCapture("things");
+		capture.captureSnippet("curl-request", "curl-request", Collections.singletonMap("url", "http://localhost"));
+		store.save(capture);
+		File output = new File(this.temp, "generated-snippets");
+		new BatchDocumentationGenerator(store, output).generate();
+		File snippet = new File(output, "things/curl-request.adoc");
+		assertThat(snippet.setLastModified(0)).isTrue();
+		new BatchDocumentationGenerator(store, output).generate();
+		assertThat(snippet.lastModified()).isZero();
+	}
+
+	private OperationCapture createCapture(String operationName) {
+		return new OperationCapture(operationName,
+				new OperationRequestFactory().create(URI.create("http://localhost/things"), HttpMethod.GET, null,
+						new HttpHeaders(), null, Collections.emptyList()),
+				new OperationResponseFactory().create(HttpStatus.OK, new HttpHeaders(), null));
+	}
+
+	private String read(File file) throws IOException {
+		return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+	}
+
+}
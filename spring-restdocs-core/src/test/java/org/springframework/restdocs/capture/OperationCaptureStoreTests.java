@@ -0,0 +1,148 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.capture;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.RestDocumentationContext;
+import org.springframework.restdocs.capture.OperationCapture.SnippetCapture;
+import org.springframework.restdocs.operation.Operation;
+import org.springframework.restdocs.operation.OperationRequest;
+import org.springframework.restdocs.operation.OperationRequestFactory;
+import org.springframework.restdocs.operation.OperationRequestPartFactory;
+import org.springframework.restdocs.operation.OperationResponse;
+import org.springframework.restdocs.operation.OperationResponseFactory;
+import org.springframework.restdocs.operation.RequestCookie;
+import org.springframework.restdocs.operation.ResponseCookie;
+import org.springframework.restdocs.operation.StandardOperation;
+import org.springframework.restdocs.payload.JsonFieldType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.InstanceOfAssertFactories.LIST;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+/**
+ * Tests for {@link OperationCaptureStore}.
+ *
+ * @author Andy Wilkinson
+ */
+class OperationCaptureStoreTests {
+
+	@TempDir
+	File temp;
+
+	@Test
+	void captureCanBeSavedAndLoaded() throws IOException {
+		OperationCaptureStore store = new OperationCaptureStore(this.temp);
+		HttpHeaders requestHeaders = new HttpHeaders();
+		requestHeaders.setContentType(MediaType.APPLICATION_JSON);
+		requestHeaders.add("X-Test", "one");
+		requestHeaders.add("X-Test", "two");
+		OperationRequest request = new OperationRequestFactory().create(URI.create("http://localhost/things?a=b"),
+				HttpMethod.POST, "{\"a\":1}".getBytes(), requestHeaders,
+				Arrays.asList(new OperationRequestPartFactory().create("image", "image.png", new byte[] { 1, 2, 3 },
+						new HttpHeaders())),
+				Arrays.asList(new RequestCookie("session", "1234")));
+		HttpHeaders responseHeaders = new HttpHeaders();
+		responseHeaders.setContentType(MediaType.TEXT_PLAIN);
+		OperationResponse response = new OperationResponseFactory().create(HttpStatus.CREATED, responseHeaders,
+				"created".getBytes(), Arrays.asList(new ResponseCookie("token", "abcd")));
+		OperationCapture capture = new OperationCapture("things/create", request, response);
+		Map<String, Object> field = new LinkedHashMap<>();
+		field.put("path", "a");
+		field.put("type", JsonFieldType.NUMBER);
+		field.put("optional", false);
+		Map<String, Object> model = new HashMap<>();
+		model.put("fields", Arrays.asList(field));
+		capture.captureSnippet("request-fields", "request-fields", model);
+		store.save(capture);
+		assertThat(new File(this.temp, "things/create.json")).isFile();
+		List<OperationCapture> loaded = store.load();
+		assertThat(loaded).hasSize(1);
+		OperationCapture loadedCapture = loaded.get(0);
+		assertThat(loadedCapture.getOperationName()).isEqualTo("things/create");
+		OperationRequest loadedRequest = loadedCapture.getRequest();
+		assertThat(loadedRequest.getUri()).isEqualTo(request.getUri());
+		assertThat(loadedRequest.getMethod()).isEqualTo(HttpMethod.POST);
+		assertThat(loadedRequest.getContent()).isEqualTo(request.getContent());
+		assertThat(loadedRequest.getHeaders().get("X-Test")).containsExactly("one", "two");
+		assertThat(loadedRequest.getParts()).singleElement().satisfies((part) -> {
+			assertThat(part.getName()).isEqualTo("image");
+			assertThat(part.getSubmittedFileName()).isEqualTo("image.png");
+			assertThat(part.getContent()).containsExactly(1, 2, 3);
+		});
+		assertThat(loadedRequest.getCookies()).extracting(RequestCookie::getName).containsExactly("session");
+		OperationResponse loadedResponse = loadedCapture.getResponse();
+		assertThat(loadedResponse.getStatus()).isEqualTo(HttpStatus.CREATED);
+		assertThat(loadedResponse.getHeaders().getContentType()).isEqualTo(MediaType.TEXT_PLAIN);
+		assertThat(loadedResponse.getContentAsString()).isEqualTo("created");
+		assertThat(loadedResponse.getCookies()).extracting(ResponseCookie::getValue).containsExactly("abcd");
+		SnippetCapture snippet = loadedCapture.getSnippets().get(0);
+		assertThat(snippet.getSnippetName()).isEqualTo("request-fields");
+		assertThat(snippet.getModel().get("fields")).asInstanceOf(LIST)
+			.singleElement()
+			.isEqualTo(Map.of("path", "a", "type", "Number", "optional", false));
+	}
+
+	@Test
+	void placeholdersInOperationNameAreResolvedWhenCreatingCapture() {
+		RestDocumentationContext context = mock(RestDocumentationContext.class);
+		given(context.getTestMethodName()).willReturn("createThing");
+		Operation operation = new StandardOperation("{method-name}",
+				new OperationRequestFactory().create(URI.create("http://localhost"), HttpMethod.GET, null,
+						new HttpHeaders(), null, Collections.emptyList()),
+				new OperationResponseFactory().create(HttpStatus.OK, new HttpHeaders(), null),
+				Map.of(RestDocumentationContext.class.getName(), context));
+		OperationCapture capture = new OperationCaptureStore(this.temp).createCapture(operation);
+		assertThat(capture.getOperationName()).isEqualTo("create-thing");
+	}
+
+	@Test
+	void creatingCaptureDoesNotAccessRequestOrResponse() {
+		Operation operation = mock(Operation.class);
+		given(operation.getName()).willReturn("things");
+		OperationCapture capture = new OperationCaptureStore(this.temp).createCapture(operation);
+		assertThat(capture.getOperationName()).isEqualTo("things");
+		verify(operation).getName();
+		verify(operation).getAttributes();
+		verifyNoMoreInteractions(operation);
+	}
+
+	@Test
+	void loadingFromMissingDirectoryProducesNoCaptures() throws IOException {
+		assertThat(new OperationCaptureStore(new File(this.temp, "missing")).load()).isEmpty();
+	}
+
+}
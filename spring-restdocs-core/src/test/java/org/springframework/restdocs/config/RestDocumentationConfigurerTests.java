@@ -16,6 +16,8 @@
 
 package org.springframework.restdocs.config;
 
+import java.io.File;
+import java.io.IOException;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
@@ -30,6 +32,7 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.restdocs.ManualRestDocumentation;
 import org.springframework.restdocs.RestDocumentationContext;
+import org.springframework.restdocs.capture.OperationCaptureStore;
 import org.springframework.restdocs.cli.CliDocumentation;
 import org.springframework.restdocs.cli.CurlRequestSnippet;
 import org.springframework.restdocs.cli.HttpieRequestSnippet;
@@ -45,6 +48,7 @@ import org.springframework.restdocs.operation.preprocess.OperationResponsePrepro
 import org.springframework.restdocs.operation.preprocess.Preprocessors;
 import org.springframework.restdocs.payload.RequestBodySnippet;
 import org.springframework.restdocs.payload.ResponseBodySnippet;
+import org.springframework.restdocs.snippet.AsynchronousWriterResolver;
 import org.springframework.restdocs.snippet.Snippet;
 import org.springframework.restdocs.snippet.StandardWriterResolver;
 import org.springframework.restdocs.snippet.WriterResolver;
@@ -172,6 +176,74 @@ class RestDocumentationConfigurerTests {
 		assertThat(snippetConfiguration.getTemplateFormat().getId()).isEqualTo(TemplateFormats.markdown().getId());
 	}
 
+	@Test
+	void defaultTemplateEngineAndWriterResolverAreReused() {
+		Map<String, Object> first = new HashMap<>();
+		this.configurer.apply(first, createContext());
+		Map<String, Object> second = new HashMap<>();
+		this.configurer.apply(second, createContext());
+		assertThat(second.get(TemplateEngine.class.getName())).isSameAs(first.get(TemplateEngine.class.getName()));
+		assertThat(second.get(WriterResolver.class.getName())).isSameAs(first.get(WriterResolver.class.getName()));
+	}
+
+	@Test
+	void defaultTemplateEngineAndWriterResolverAreRecreatedWhenSnippetConfigurationChanges() {
+		Map<String, Object> first = new HashMap<>();
+		this.configurer.apply(first, createContext());
+		this.configurer.snippets().withEncoding("ISO-8859-1");
+		Map<String, Object> second = new HashMap<>();
+		this.configurer.apply(second, createContext());
+		assertThat(second.get(TemplateEngine.class.getName())).isNotSameAs(first.get(TemplateEngine.class.getName()))
+			.hasFieldOrPropertyWithValue("templateEncoding", StandardCharsets.ISO_8859_1);
+		assertThat(second.get(WriterResolver.class.getName())).isNotSameAs(first.get(WriterResolver.class.getName()));
+		this.configurer.snippets().withTemplateFormat(TemplateFormats.markdown());
+		Map<String, Object> third = new HashMap<>();
+		this.configurer.apply(third, createContext());
+		assertThat(third.get(TemplateEngine.class.getName())).isNotSameAs(second.get(TemplateEngine.class.getName()));
+		assertThat(third.get(WriterResolver.class.getName())).isNotSameAs(second.get(WriterResolver.class.getName()));
+	}
+
+	@Test
+	void skipUnchangedSnippets() {
+		Map<String, Object> first = new HashMap<>();
+		this.configurer.apply(first, createContext());
+		assertThat(first.get(WriterResolver.class.getName())).hasFieldOrPropertyWithValue("skipUnchangedSnippets",
+				false);
+		this.configurer.snippets().withSkipUnchanged();
+		Map<String, Object> second = new HashMap<>();
+		this.configurer.apply(second, createContext());
+		assertThat(second.get(WriterResolver.class.getName())).isNotSameAs(first.get(WriterResolver.class.getName()))
+			.hasFieldOrPropertyWithValue("skipUnchangedSnippets", true);
+	}
+
+	@Test
+	void asynchronousWriting() throws IOException {
+		this.configurer.snippets().withAsynchronousWriting().withManifest();
+		Map<String, Object> configuration = new HashMap<>();
+		this.configurer.apply(configuration, createContext());
+		assertThat(configuration.get(WriterResolver.class.getName())).isInstanceOf(AsynchronousWriterResolver.class)
+			.extracting("delegate")
+			.hasFieldOrPropertyWithValue("writeManifest", true);
+		((AsynchronousWriterResolver) configuration.get(WriterResolver.class.getName())).close();
+	}
+
+	@Test
+	void operationCaptureStoreIsAbsentByDefault() {
+		Map<String, Object> configuration = new HashMap<>();
+		this.configurer.apply(configuration, createContext());
+		assertThat(configuration).doesNotContainKey(OperationCaptureStore.class.getName());
+	}
+
+	@Test
+	void captureOperations() {
+		Map<String, Object> configuration = new HashMap<>();
+		File captureDirectory = new File("build/captures");
+		this.configurer.captureOperations(captureDirectory).apply(configuration, createContext());
+		assertThat(configuration.get(OperationCaptureStore.class.getName())).isInstanceOf(OperationCaptureStore.class)
+			.extracting("directory")
+			.isEqualTo(captureDirectory);
+	}
+
 	@SuppressWarnings("unchecked")
 	@Test
 	void asciidoctorTableCellContentLambaIsInstalledWhenUsingAsciidoctorTemplateFormat() {
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.metrics;
+
+import java.io.File;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.restdocs.RestDocumentationContext;
+import org.springframework.restdocs.metrics.OperationMetrics.Phase;
+import org.springframework.restdocs.metrics.OperationMetrics.Timing;
+import org.springframework.restdocs.operation.Operation;
+import org.springframework.restdocs.operation.OperationRequestFactory;
+import org.springframework.restdocs.operation.OperationResponseFactory;
+import org.springframework.restdocs.operation.StandardOperation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link JsonSummaryOperationMetricsListener}.
+ *
+ * @author Andy Wilkinson
+ */
+class JsonSummaryOperationMetricsListenerTests {
+
+	@TempDir
+	File temp;
+
+	@Test
+	void summaryIsWrittenNextToOutputDirectory() {
+		RestDocumentationContext context = mock(RestDocumentationContext.class);
+		given(context.getOutputDirectory()).willReturn(new File(this.temp, "generated-snippets"));
+		Operation operation = createOperation("one", context);
+		try (JsonSummaryOperationMetricsListener listener = new JsonSummaryOperationMetricsListener()) {
+			listener.operationDocumented(operation, createMetrics("one", 5));
+		}
+		assertThat(new File(this.temp, "generated-snippets-" + ProcessHandle.current().pid() + "-metrics.json"))
+			.isFile();
+	}
+
+	@Test
+	void summaryIsWrittenWhenListenerIsClosed() {
+		File summaryFile = new File(this.temp, "summary.json");
+		JsonSummaryOperationMetricsListener listener = new JsonSummaryOperationMetricsListener(summaryFile);
+		listener.operationDocumented(createOperation("one", null), createMetrics("one", 5));
+		assertThat(summaryFile).doesNotExist();
+		listener.close();
+		assertThat(summaryFile).isFile();
+	}
+
+	@Test
+	void summaryAggregatesTimingsAcrossOperations() {
+		File summaryFile = new File(this.temp, "summary.json");
+		JsonSummaryOperationMetricsListener listener = new JsonSummaryOperationMetricsListener(summaryFile);
+		listener.operationDocumented(createOperation("one", null), createMetrics("one", 5));
+		listener.operationDocumented(createOperation("two", null), createMetrics("two", 20));
+		listener.close();
+		JsonNode summary = new ObjectMapper().readTree(summaryFile);
+		assertThat(summary.get("operations").asInt()).isEqualTo(2);
+		assertThat(summary.get("requestContentBytes").asLong()).isEqualTo(20);
+		assertThat(summary.get("charactersWritten").asLong()).isEqualTo(200);
+		JsonNode phase = summary.get("phases").get(0);
+		assertThat(phase.get("phase").asString()).isEqualTo("model_creation");
+		assertThat(phase.get("name").asString()).isEqualTo("request-fields");
+		assertThat(phase.get("count").asInt()).isEqualTo(2);
+		assertThat(phase.get("totalTimeMillis").asDouble()).isEqualTo(25.0);
+		assertThat(phase.get("maxTimeMillis").asDouble()).isEqualTo(20.0);
+		JsonNode slowestOperations = summary.get("slowestOperations");
+		assertThat(slowestOperations.get(0).get("name").asString()).isEqualTo("two");
+		assertThat(slowestOperations.get(1).get("name").asString()).isEqualTo("one");
+	}
+
+	@Test
+	void contentLengthOfUnusedMessageIsOmitted() {
+		File summaryFile = new File(this.temp, "summary.json");
+		JsonSummaryOperationMetricsListener listener = new JsonSummaryOperationMetricsListener(summaryFile);
+		listener.operationDocumented(createOperation("one", null), createMetrics("one", 5));
+		listener.operationDocumented(createOperation("two", null), createMetrics("two", 20, -1));
+		listener.close();
+		JsonNode summary = new ObjectMapper().readTree(summaryFile);
+		assertThat(summary.get("requestContentBytes").asLong()).isEqualTo(10);
+		JsonNode slowestOperations = summary.get("slowestOperations");
+		assertThat(slowestOperations.get(0).has("requestContentBytes")).isFalse();
+		assertThat(slowestOperations.get(1).get("requestContentBytes").asLong()).isEqualTo(10);
+	}
+
+	private OperationMetrics createMetrics(String name, long millis) {
+		return createMetrics(name, millis, 10);
+	}
+
+	private OperationMetrics createMetrics(String name, long millis, long requestContentLength) {
+		return new OperationMetrics(name, Duration.ofMillis(millis * 2),
+				Arrays.asList(new Timing(Phase.MODEL_CREATION, "request-fields", Duration.ofMillis(millis)),
+						new Timing(Phase.WRITING, "request-fields", Duration.ofNanos(millis))),
+				requestContentLength, 5, 100);
+	}
+
+	private Operation createOperation(String name, RestDocumentationContext context) {
+		Map<String, Object> attributes = new HashMap<>();
+		if (context != null) {
+			attributes.put(RestDocumentationContext.class.getName(), context);
+		}
+		return new StandardOperation(name,
+				new OperationRequestFactory().create(URI.create("http://localhost"), HttpMethod.GET, null,
+						new HttpHeaders(), null, Collections.emptyList()),
+				new OperationResponseFactory().create(HttpStatus.OK, null, null), attributes);
+	}
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.metrics;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.restdocs.metrics.OperationMetrics.Phase;
+import org.springframework.restdocs.metrics.OperationMetrics.Timing;
+import org.springframework.restdocs.operation.Operation;
+import org.springframework.restdocs.operation.OperationRequestFactory;
+import org.springframework.restdocs.operation.OperationResponseFactory;
+import org.springframework.restdocs.operation.StandardOperation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link MicrometerOperationMetricsListener}.
+ *
+ * @author Andy Wilkinson
+ */
+class MicrometerOperationMetricsListenerTests {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final MicrometerOperationMetricsListener listener = new MicrometerOperationMetricsListener(
+			this.meterRegistry);
+
+	@Test
+	void metricsAreRecordedInMeterRegistry() {
+		this.listener.operationDocumented(createOperation(), createMetrics());
+		assertThat(this.meterRegistry.get("restdocs.operation").timer().getId().getTag("operation")).isNull();
+		assertThat(this.meterRegistry.get("restdocs.operation").timer().totalTime(TimeUnit.MILLISECONDS))
+			.isEqualTo(30);
+		assertThat(this.meterRegistry.get("restdocs.operation.phase")
+			.tags("phase", "model_creation", "name", "request-fields")
+			.timer()
+			.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(20);
+		assertThat(this.meterRegistry.get("restdocs.operation.content")
+			.tag("message", "request")
+			.summary()
+			.totalAmount()).isEqualTo(10);
+		assertThat(this.meterRegistry.get("restdocs.snippets.written").summary().totalAmount()).isEqualTo(100);
+	}
+
+	@Test
+	void operationTimerIsTaggedWithOperationNameWhenEnabled() {
+		new MicrometerOperationMetricsListener(this.meterRegistry, true).operationDocumented(createOperation(),
+				createMetrics());
+		assertThat(this.meterRegistry.get("restdocs.operation")
+			.tag("operation", "one")
+			.timer()
+			.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(30);
+	}
+
+	@Test
+	void contentLengthOfUnusedMessageIsNotRecorded() {
+		this.listener.operationDocumented(createOperation(), new OperationMetrics("one", Duration.ofMillis(30),
+				Collections.emptyList(), -1, 5, 100));
+		assertThat(this.meterRegistry.find("restdocs.operation.content").tag("message", "request").summary())
+			.isNull();
+		assertThat(this.meterRegistry.get("restdocs.operation.content")
+			.tag("message", "response")
+			.summary()
+			.totalAmount()).isEqualTo(5);
+	}
+
+	private Operation createOperation() {
+		return new StandardOperation("one",
+				new OperationRequestFactory().create(URI.create("http://localhost"), HttpMethod.GET, null,
+						new HttpHeaders(), null, Collections.emptyList()),
+				new OperationResponseFactory().create(HttpStatus.OK, null, null), Collections.emptyMap());
+	}
+
+	private OperationMetrics createMetrics() {
+		return new OperationMetrics("one", Duration.ofMillis(30),
+				Arrays.asList(new Timing(Phase.REQUEST_CONVERSION, "request", Duration.ofMillis(10)),
+						new Timing(Phase.MODEL_CREATION, "request-fields", Duration.ofMillis(20))),
+				10, 5, 100);
+	}
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.operation;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link OperationRequestFactory}.
+ *
+ * @author Andy Wilkinson
+ */
+class OperationRequestFactoryTests {
+
+	private final OperationRequestFactory factory = new OperationRequestFactory();
+
+	@Test
+	void contentAsByteBufferIsReadOnlyViewOfContent() {
+		OperationRequest request = createRequest("content");
+		ByteBuffer content = request.getContentAsByteBuffer();
+		assertThat(content.isReadOnly()).isTrue();
+		assertThat(content.remaining()).isEqualTo(7);
+		assertThat(content.get(0)).isEqualTo((byte) 'c');
+		assertThatExceptionOfType(ReadOnlyBufferException.class).isThrownBy(() -> content.put(0, (byte) 'x'));
+		assertThat(request.getContentAsString()).isEqualTo("content");
+	}
+
+	@Test
+	void contentAsByteBufferOfRequestWithNoContentIsEmpty() {
+		OperationRequest request = this.factory.create(URI.create("http://localhost"), HttpMethod.GET, null,
+				new HttpHeaders(), Collections.emptyList());
+		assertThat(request.getContentAsByteBuffer().hasRemaining()).isFalse();
+	}
+
+	@Test
+	void requestCreatedWithNewHeadersHasOriginalContent() {
+		OperationRequest original = createRequest("content");
+		HttpHeaders newHeaders = new HttpHeaders();
+		newHeaders.add("a", "alpha");
+		OperationRequest request = this.factory.createFrom(original, newHeaders);
+		assertThat(request.getContent()).isEqualTo("content".getBytes());
+		assertThat(request.getHeaders().getFirst("a")).isEqualTo("alpha");
+	}
+
+	private OperationRequest createRequest(String content) {
+		return this.factory.create(URI.create("http://localhost"), HttpMethod.POST, content.getBytes(),
+				new HttpHeaders(), Collections.emptyList());
+	}
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.operation.preprocess;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.MediaType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link ContentModifierChain}.
+ *
+ * @author Andy Wilkinson
+ */
+class ContentModifierChainTests {
+
+	@Test
+	void textContentModifiersAreAppliedInOrder() {
+		ContentModifierChain chain = new ContentModifierChain(
+				Arrays.asList(new PatternReplacingContentModifier(Pattern.compile("a"), "b"),
+						new PatternReplacingContentModifier(Pattern.compile("b"), "c")));
+		assertThat(chain.modifyContent("abc".getBytes(), null)).isEqualTo("ccc".getBytes());
+	}
+
+	@Test
+	void textAndBinaryContentModifiersAreAppliedInOrder() {
+		List<String> seen = new ArrayList<>();
+		ContentModifier recording = (content, contentType) -> {
+			seen.add(new String(content, StandardCharsets.UTF_8));
+			return "xyz".getBytes(StandardCharsets.UTF_8);
+		};
+		ContentModifierChain chain = new ContentModifierChain(Arrays.asList(
+				new PatternReplacingContentModifier(Pattern.compile("a"), "b", StandardCharsets.UTF_8), recording,
+				new PatternReplacingContentModifier(Pattern.compile("y"), "é", StandardCharsets.UTF_8)));
+		assertThat(chain.modifyContent("abc".getBytes(StandardCharsets.UTF_8), MediaType.TEXT_PLAIN))
+			.isEqualTo("xéz".getBytes(StandardCharsets.UTF_8));
+		assertThat(seen).containsExactly("bbc");
+	}
+
+	@Test
+	void textContentModifiersWithDifferentCharsetsAreAppliedInOrder() {
+		ContentModifierChain chain = new ContentModifierChain(Arrays.asList(
+				new PatternReplacingContentModifier(Pattern.compile("a"), "é", StandardCharsets.UTF_8),
+				new PatternReplacingContentModifier(Pattern.compile("b"), "c", StandardCharsets.ISO_8859_1)));
+		byte[] expected = new PatternReplacingContentModifier(Pattern.compile("b"), "c", StandardCharsets.ISO_8859_1)
+			.modifyContent("ébc".getBytes(StandardCharsets.UTF_8), null);
+		assertThat(chain.modifyContent("abc".getBytes(StandardCharsets.UTF_8), null)).isEqualTo(expected);
+	}
+
+	@Test
+	void consecutiveContentModifyingPreprocessorsAreFused() {
+		OperationPreprocessor other = mock(OperationPreprocessor.class);
+		List<OperationPreprocessor> fused = ContentModifierChain.fuse(Arrays.asList(Preprocessors.prettyPrint(),
+				Preprocessors.maskLinks(), other, Preprocessors.maskLinks()));
+		assertThat(fused).hasSize(3);
+		assertThat(fused.get(0)).isInstanceOf(ContentModifyingOperationPreprocessor.class);
+		assertThat(((ContentModifyingOperationPreprocessor) fused.get(0)).getContentModifier())
+			.isInstanceOf(ContentModifierChain.class);
+		assertThat(fused.get(1)).isSameAs(other);
+		assertThat(((ContentModifyingOperationPreprocessor) fused.get(2)).getContentModifier())
+			.isInstanceOf(LinkMaskingContentModifier.class);
+	}
+
+	@Test
+	void subclassesOfContentModifyingPreprocessorAreNotFused() {
+		OperationPreprocessor custom = new ContentModifyingOperationPreprocessor(
+				(content, contentType) -> content) {
+
+		};
+		List<OperationPreprocessor> fused = ContentModifierChain
+			.fuse(Arrays.asList(Preprocessors.maskLinks(), custom, Preprocessors.maskLinks()));
+		assertThat(fused).hasSize(3);
+		assertThat(fused.get(1)).isSameAs(custom);
+	}
+
+}
@@ -16,6 +16,7 @@
 
 package org.springframework.restdocs.operation.preprocess;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -29,6 +30,7 @@ import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.SerializationFeature;
 import tools.jackson.databind.json.JsonMapper;
 
+import org.springframework.http.MediaType;
 import org.springframework.restdocs.hypermedia.Link;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -86,6 +88,41 @@ class LinkMaskingContentModifierTests {
 			.isEqualTo(formattedHalPayloadWithLinks(new Link("a", ellipsis), new Link("b", ellipsis)));
 	}
 
+	@Test
+	void stringValuesThatContainHrefAreNotMasked() {
+		String content = "{\"description\":\"\\\"href\\\" : \\\"alpha\\\"\",\"tags\":[\"href\",\"bravo\"]}";
+		assertThat(this.contentModifier.modifyContent(content.getBytes(), null)).isEqualTo(content.getBytes());
+	}
+
+	@Test
+	void hrefContainingEscapedQuotesIsMaskedEntirely() {
+		String content = "{\"href\":\"a\\\"b\\\"c\",\"name\":\"alpha\"}";
+		assertThat(this.contentModifier.modifyContent(content.getBytes(), null))
+			.isEqualTo("{\"href\":\"...\",\"name\":\"alpha\"}".getBytes());
+	}
+
+	@Test
+	void nonStringHrefIsNotMasked() {
+		String content = "{\"href\":null,\"links\":{\"href\":5}}";
+		assertThat(this.contentModifier.modifyContent(content.getBytes(), null)).isEqualTo(content.getBytes());
+	}
+
+	@Test
+	void linksInContentWithNonAsciiCompatibleCharsetAreMasked() throws Exception {
+		MediaType contentType = new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_16);
+		String content = new String(halPayloadWithLinks(this.links), StandardCharsets.UTF_8);
+		String masked = new String(halPayloadWithLinks(this.maskedLinks), StandardCharsets.UTF_8);
+		assertThat(this.contentModifier.modifyContent(content.getBytes(StandardCharsets.UTF_16), contentType))
+			.isEqualTo(masked.getBytes(StandardCharsets.UTF_16));
+	}
+
+	@Test
+	void linksInDecodedContentAreMasked() throws Exception {
+		String content = new String(formattedHalPayloadWithLinks(this.links), StandardCharsets.UTF_8);
+		assertThat(new LinkMaskingContentModifier().modifyText(content, null))
+			.isEqualTo(new String(formattedHalPayloadWithLinks(this.maskedLinks), StandardCharsets.UTF_8));
+	}
+
 	private byte[] atomPayloadWithLinks(Link... links) throws JacksonException {
 		return new ObjectMapper().writeValueAsBytes(createAtomPayload(links));
 	}
@@ -18,6 +18,8 @@ package org.springframework.restdocs.operation.preprocess;
 
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 import org.junit.jupiter.api.Test;
@@ -72,4 +74,97 @@ class PatternReplacingContentModifierTests {
 			.isEqualTo((japaneseContent + " <<number>>").getBytes());
 	}
 
+	@Test
+	void multiplePatternsAreReplacedInASinglePass() {
+		Map<Pattern, String> replacements = new LinkedHashMap<>();
+		replacements.put(Pattern.compile("[0-9]+"), "<<number>>");
+		replacements.put(Pattern.compile("[a-z]+@example\\.com"), "<<email>>");
+		PatternReplacingContentModifier contentModifier = new PatternReplacingContentModifier(replacements,
+				StandardCharsets.UTF_8);
+		assertThat(contentModifier.modifyContent("{\"id\":42,\"email\":\"alice@example.com\",\"age\":7}".getBytes(),
+				MediaType.APPLICATION_JSON))
+			.isEqualTo("{\"id\":<<number>>,\"email\":\"<<email>>\",\"age\":<<number>>}".getBytes());
+	}
+
+	@Test
+	void replacementsAreNotRescannedByOtherPatterns() {
+		Map<Pattern, String> replacements = new LinkedHashMap<>();
+		replacements.put(Pattern.compile("a"), "b");
+		replacements.put(Pattern.compile("b"), "c");
+		PatternReplacingContentModifier contentModifier = new PatternReplacingContentModifier(replacements,
+				StandardCharsets.UTF_8);
+		assertThat(contentModifier.modifyText("ab", null)).isEqualTo("bc");
+	}
+
+	@Test
+	void whenMatchesStartAtTheSamePositionTheFirstPatternIsUsed() {
+		Map<Pattern, String> replacements = new LinkedHashMap<>();
+		replacements.put(Pattern.compile("abc"), "first");
+		replacements.put(Pattern.compile("abcdef"), "second");
+		PatternReplacingContentModifier contentModifier = new PatternReplacingContentModifier(replacements,
+				StandardCharsets.UTF_8);
+		assertThat(contentModifier.modifyText("abcdef", null)).isEqualTo("firstdef");
+	}
+
+	@Test
+	void matchesThatOverlapAReplacedMatchAreIgnored() {
+		Map<Pattern, String> replacements = new LinkedHashMap<>();
+		replacements.put(Pattern.compile("cde"), "<<second>>");
+		replacements.put(Pattern.compile("bcd"), "<<first>>");
+		PatternReplacingContentModifier contentModifier = new PatternReplacingContentModifier(replacements,
+				StandardCharsets.UTF_8);
+		assertThat(contentModifier.modifyText("abcdecde", null)).isEqualTo("a<<first>>e<<second>>");
+	}
+
+	@Test
+	void anchoredPatternDoesNotMatchWhereAnOverlappingMatchWasIgnored() {
+		Map<Pattern, String> replacements = new LinkedHashMap<>();
+		replacements.put(Pattern.compile("a"), "x");
+		replacements.put(Pattern.compile("^."), "y");
+		PatternReplacingContentModifier contentModifier = new PatternReplacingContentModifier(replacements,
+				StandardCharsets.UTF_8);
+		assertThat(contentModifier.modifyText("aa", null)).isEqualTo("xx");
+		assertThat(contentModifier.modifyContent("aa".getBytes(StandardCharsets.UTF_8), null))
+			.isEqualTo("xx".getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void lookbehindSeesContentBeforeAnIgnoredOverlappingMatch() {
+		Map<Pattern, String> replacements = new LinkedHashMap<>();
+		replacements.put(Pattern.compile("ab"), "x");
+		replacements.put(Pattern.compile("(?<=b)c|bc"), "y");
+		PatternReplacingContentModifier contentModifier = new PatternReplacingContentModifier(replacements,
+				StandardCharsets.UTF_8);
+		assertThat(contentModifier.modifyText("abc", null)).isEqualTo("xy");
+	}
+
+	@Test
+	void onlyTheFirstGroupOfEachPatternIsReplaced() {
+		Map<Pattern, String> replacements = new LinkedHashMap<>();
+		replacements.put(Pattern.compile("\"id\":\"([^\"]*)\""), "<<id>>");
+		replacements.put(Pattern.compile("\"token\":\"([^\"]*)\""), "<<token>>");
+		PatternReplacingContentModifier contentModifier = new PatternReplacingContentModifier(replacements,
+				StandardCharsets.UTF_8);
+		assertThat(contentModifier.modifyText("{\"id\":\"123\",\"token\":\"abc\"}", null))
+			.isEqualTo("{\"id\":\"<<id>>\",\"token\":\"<<token>>\"}");
+	}
+
+	@Test
+	void iso88591ContentIsReplacedWithoutDecoding() {
+		Pattern pattern = Pattern.compile("caf\u00e9");
+		PatternReplacingContentModifier contentModifier = new PatternReplacingContentModifier(pattern, "<<\u00e9>>",
+				StandardCharsets.ISO_8859_1);
+		assertThat(contentModifier.modifyContent("un caf\u00e9".getBytes(StandardCharsets.ISO_8859_1), null))
+			.isEqualTo("un <<\u00e9>>".getBytes(StandardCharsets.ISO_8859_1));
+	}
+
+	@Test
+	void contentThatDoesNotMatchIsReturnedAsIs() {
+		Pattern pattern = Pattern.compile("[0-9]+");
+		PatternReplacingContentModifier contentModifier = new PatternReplacingContentModifier(pattern, "<<number>>",
+				StandardCharsets.UTF_8);
+		byte[] content = "no numbers".getBytes(StandardCharsets.UTF_8);
+		assertThat(contentModifier.modifyContent(content, null)).isSameAs(content);
+	}
+
 }
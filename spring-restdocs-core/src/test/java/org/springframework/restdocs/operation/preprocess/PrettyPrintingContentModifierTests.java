@@ -16,13 +16,17 @@
 
 package org.springframework.restdocs.operation.preprocess;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
 
+import org.springframework.http.MediaType;
 import org.springframework.restdocs.testfixtures.jupiter.CapturedOutput;
 import org.springframework.restdocs.testfixtures.jupiter.OutputCaptureExtension;
 
@@ -43,6 +47,21 @@ class PrettyPrintingContentModifierTests {
 			.isEqualTo(String.format("{%n  \"a\" : 5%n}").getBytes());
 	}
 
+	@Test
+	void prettyPrintNestedJsonMatchesIndentedTree() {
+		String content = "{\"a\":[1,2.5,{\"b\":null}],\"c\":{\"d\":\"e\",\"f\":[]},\"g\":true}";
+		ObjectMapper objectMapper = JsonMapper.builder().enable(SerializationFeature.INDENT_OUTPUT).build();
+		assertThat(new PrettyPrintingContentModifier().modifyContent(content.getBytes(), null))
+			.isEqualTo(objectMapper.writeValueAsBytes(objectMapper.readTree(content)));
+	}
+
+	@Test
+	void jsonWithTrailingContentIsHandledGracefully() {
+		String content = "{\"a\":5} {\"b\":6}";
+		assertThat(new PrettyPrintingContentModifier().modifyContent(content.getBytes(), null))
+			.isEqualTo(content.getBytes());
+	}
+
 	@Test
 	void prettyPrintXml() {
 		assertThat(new PrettyPrintingContentModifier()
@@ -74,6 +93,48 @@ class PrettyPrintingContentModifierTests {
 		assertThat(output).isEmpty();
 	}
 
+	@Test
+	void prettyPrintJsonWithJsonSuffixedContentType() {
+		assertThat(new PrettyPrintingContentModifier().modifyContent("{\"a\":5}".getBytes(),
+				MediaType.parseMediaType("application/hal+json")))
+			.isEqualTo(String.format("{%n  \"a\" : 5%n}").getBytes());
+	}
+
+	@Test
+	void contentWithAnUnknownContentTypeIsNotPrettyPrinted() {
+		String content = "{\"a\":5}";
+		assertThat(new PrettyPrintingContentModifier().modifyContent(content.getBytes(), MediaType.TEXT_PLAIN))
+			.isEqualTo(content.getBytes());
+	}
+
+	@Test
+	void xmlWithJsonContentTypeIsHandledGracefully(CapturedOutput output) {
+		String content = "<a>5</a>";
+		assertThat(new PrettyPrintingContentModifier().modifyContent(content.getBytes(), MediaType.APPLICATION_JSON))
+			.isEqualTo(content.getBytes());
+		assertThat(output).isEmpty();
+	}
+
+	@Test
+	void additionalPrettyPrinterIsUsedForItsContentType() {
+		MediaType yaml = MediaType.parseMediaType("application/yaml");
+		ContentModifier yamlPrettyPrinter = (content, contentType) -> "pretty".getBytes();
+		PrettyPrintingContentModifier modifier = new PrettyPrintingContentModifier(
+				Collections.singletonMap(yaml, yamlPrettyPrinter));
+		assertThat(modifier.modifyContent("a: 5".getBytes(), yaml)).isEqualTo("pretty".getBytes());
+		assertThat(modifier.modifyContent("{\"a\":5}".getBytes(), MediaType.APPLICATION_JSON))
+			.isEqualTo(String.format("{%n  \"a\" : 5%n}").getBytes());
+	}
+
+	@Test
+	void additionalPrettyPrinterTakesPrecedenceOverDefault() {
+		ContentModifier jsonPrettyPrinter = (content, contentType) -> "pretty".getBytes();
+		PrettyPrintingContentModifier modifier = new PrettyPrintingContentModifier(
+				Collections.singletonMap(MediaType.APPLICATION_JSON, jsonPrettyPrinter));
+		assertThat(modifier.modifyContent("{\"a\":5}".getBytes(), MediaType.APPLICATION_JSON))
+			.isEqualTo("pretty".getBytes());
+	}
+
 	@Test
 	void encodingIsPreserved() throws Exception {
 		Map<String, String> input = new HashMap<>();
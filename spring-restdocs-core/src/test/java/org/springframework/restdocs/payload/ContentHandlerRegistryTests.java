@@ -0,0 +1,209 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.payload;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.io.support.SpringFactoriesLoader;
+import org.springframework.http.MediaType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link ContentHandlerRegistry}.
+ *
+ * @author Andy Wilkinson
+ */
+class ContentHandlerRegistryTests {
+
+	private final List<String> attempts = new ArrayList<>();
+
+	@Test
+	void jsonContentTypeSelectsJsonContentHandler() {
+		assertThat(createHandler("{\"a\":5}", MediaType.APPLICATION_JSON)).isInstanceOf(JsonContentHandler.class);
+	}
+
+	@Test
+	void jsonSuffixedContentTypeSelectsJsonContentHandler() {
+		assertThat(createHandler("{\"a\":5}", MediaType.parseMediaType("application/hal+json")))
+			.isInstanceOf(JsonContentHandler.class);
+	}
+
+	@Test
+	void xmlContentTypeSelectsXmlContentHandler() {
+		assertThat(createHandler("<a>5</a>", MediaType.APPLICATION_XML)).isInstanceOf(XmlContentHandler.class);
+	}
+
+	@Test
+	void xmlContentOfUnknownTypeSelectsXmlContentHandler() {
+		assertThat(createHandler("  <a>5</a>", null)).isInstanceOf(XmlContentHandler.class);
+	}
+
+	@Test
+	void xmlContentWithJsonContentTypeFallsBackToXmlContentHandler() {
+		assertThat(createHandler("<a>5</a>", MediaType.APPLICATION_JSON)).isInstanceOf(XmlContentHandler.class);
+	}
+
+	@Test
+	void contentOfReadOnlyBufferIsSniffedFromItsPosition() {
+		ByteBuffer content = ByteBuffer.wrap("{}<a>5</a>".getBytes()).position(2).asReadOnlyBuffer();
+		ContentHandler handler = ContentHandlerRegistry.getDefault()
+			.createHandler(content, null, new CompiledFieldDescriptors(Collections.emptyList()));
+		assertThat(handler).isInstanceOf(XmlContentHandler.class);
+		assertThat(content.position()).isEqualTo(2);
+	}
+
+	@Test
+	void contentTypeTakesPrecedenceOverSniffing() {
+		ContentHandlerRegistry registry = new ContentHandlerRegistry(
+				Arrays.asList(registration("ONE", true, MediaType.APPLICATION_JSON),
+						registration("TWO", true, MediaType.APPLICATION_XML)));
+		registry.createHandler(new byte[0], MediaType.APPLICATION_XML, Collections.emptyList());
+		assertThat(this.attempts).containsExactly("TWO");
+	}
+
+	@Test
+	void sniffedHandlerIsTriedBeforeOtherHandlers() {
+		ContentHandlerRegistry registry = new ContentHandlerRegistry(
+				Arrays.asList(registration("ONE", false, MediaType.APPLICATION_JSON),
+						registration("TWO", true, MediaType.APPLICATION_XML)));
+		registry.createHandler(new byte[0], MediaType.TEXT_PLAIN, Collections.emptyList());
+		assertThat(this.attempts).containsExactly("TWO");
+	}
+
+	@Test
+	void whenNoHandlerCanHandleContentThenExceptionIsThrown() {
+		ContentHandlerRegistry registry = new ContentHandlerRegistry(Arrays.asList(failingRegistration("ONE"),
+				failingRegistration("TWO"), failingRegistration("THREE")));
+		assertThatExceptionOfType(PayloadHandlingException.class)
+			.isThrownBy(() -> registry.createHandler(new byte[0], MediaType.TEXT_PLAIN, Collections.emptyList()))
+			.withMessage("Cannot handle content with type text/plain as it could not be parsed as ONE, TWO or THREE");
+		assertThat(this.attempts).containsExactly("ONE", "TWO", "THREE");
+	}
+
+	@Test
+	void loadedFactoryIsSelectedUsingContentType() {
+		ContentHandler handler = loadRegistry().createHandler("a: 5".getBytes(),
+				MediaType.parseMediaType("application/yaml"), Collections.emptyList());
+		assertThat(handler).isNotInstanceOf(JsonContentHandler.class).isNotInstanceOf(XmlContentHandler.class);
+	}
+
+	@Test
+	void loadedFactoryIsConsultedAfterBuiltInFactories() {
+		assertThatExceptionOfType(PayloadHandlingException.class)
+			.isThrownBy(() -> loadRegistry().createHandler("Some plain text".getBytes(), MediaType.TEXT_PLAIN,
+					Collections.emptyList()))
+			.withMessage("Cannot handle content with type text/plain as it could not be parsed as JSON, XML or YAML");
+	}
+
+	private ContentHandlerRegistry loadRegistry() {
+		return ContentHandlerRegistry.load(SpringFactoriesLoader
+			.forResourceLocation("org/springframework/restdocs/payload/content-handler-factories.properties"));
+	}
+
+	private ContentHandler createHandler(String content, MediaType contentType) {
+		return ContentHandlerRegistry.getDefault()
+			.createHandler(content.getBytes(), contentType, Collections.emptyList());
+	}
+
+	private ContentHandlerFactory registration(String format, boolean sniffed, MediaType mediaType) {
+		return new TestContentHandlerFactory(format, sniffed, false, mediaType);
+	}
+
+	private ContentHandlerFactory failingRegistration(String format) {
+		return new TestContentHandlerFactory(format, false, true, MediaType.APPLICATION_JSON);
+	}
+
+	private final class TestContentHandlerFactory implements ContentHandlerFactory {
+
+		private final String format;
+
+		private final boolean sniffed;
+
+		private final boolean failing;
+
+		private final MediaType mediaType;
+
+		private TestContentHandlerFactory(String format, boolean sniffed, boolean failing, MediaType mediaType) {
+			this.format = format;
+			this.sniffed = sniffed;
+			this.failing = failing;
+			this.mediaType = mediaType;
+		}
+
+		@Override
+		public String getFormat() {
+			return this.format;
+		}
+
+		@Override
+		public List<MediaType> getMediaTypes() {
+			return Collections.singletonList(this.mediaType);
+		}
+
+		@Override
+		public boolean recognizes(ByteBuffer content) {
+			return this.sniffed;
+		}
+
+		@Override
+		public ContentHandler create(ByteBuffer content, CompiledFieldDescriptors descriptors) {
+			ContentHandlerRegistryTests.this.attempts.add(this.format);
+			if (this.failing) {
+				throw new PayloadHandlingException(new IllegalStateException());
+			}
+			return mock(ContentHandler.class);
+		}
+
+	}
+
+	static final class YamlContentHandlerFactory implements ContentHandlerFactory {
+
+		@Override
+		public String getFormat() {
+			return "YAML";
+		}
+
+		@Override
+		public List<MediaType> getMediaTypes() {
+			return Collections.singletonList(MediaType.parseMediaType("application/yaml"));
+		}
+
+		@Override
+		public boolean recognizes(ByteBuffer content) {
+			return false;
+		}
+
+		@Override
+		public ContentHandler create(ByteBuffer content, CompiledFieldDescriptors descriptors) {
+			if (!content.hasRemaining() || content.get(content.position()) != 'a') {
+				throw new IllegalArgumentException("Content is not YAML");
+			}
+			return mock(ContentHandler.class);
+		}
+
+	}
+
+}
@@ -16,6 +16,7 @@
 
 package org.springframework.restdocs.payload;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -205,4 +206,28 @@ class JsonContentHandlerTests {
 		assertThat(missingFields.size()).isEqualTo(0);
 	}
 
+	@Test
+	void undocumentedContentCanBeRetrievedRepeatedly() {
+		List<FieldDescriptor> descriptors = Arrays.asList(new FieldDescriptor("a"));
+		JsonContentHandler contentHandler = new JsonContentHandler("{\"a\":\"alpha\",\"b\":\"bravo\"}".getBytes(),
+				descriptors);
+		String undocumented = contentHandler.getUndocumentedContent();
+		assertThat(undocumented).contains("\"b\"").doesNotContain("\"a\"");
+		assertThat(contentHandler.getUndocumentedContent()).isEqualTo(undocumented);
+		assertThat(contentHandler.findMissingFields()).isEmpty();
+	}
+
+	@Test
+	void describedFieldsNestedBeneathManyMissingOptionalFieldsAreNotConsideredMissing() {
+		List<FieldDescriptor> descriptors = new ArrayList<>();
+		for (int i = 0; i < 500; i++) {
+			descriptors.add(new FieldDescriptor("field" + i).optional());
+			descriptors.add(new FieldDescriptor("field" + i + ".nested"));
+		}
+		descriptors.add(new FieldDescriptor("present.nested"));
+		List<FieldDescriptor> missingFields = new JsonContentHandler("{\"present\":{}}".getBytes(), descriptors)
+			.findMissingFields();
+		assertThat(missingFields).extracting(FieldDescriptor::getPath).containsExactly("present.nested");
+	}
+
 }
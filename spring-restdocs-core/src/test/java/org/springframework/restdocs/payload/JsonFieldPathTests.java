@@ -156,4 +156,23 @@ class JsonFieldPathTests {
 		assertThat(JsonFieldPath.compile("a.b.['*'].c").getSegments()).containsExactly("a", "b", "*", "c");
 	}
 
+	@Test
+	void arraySegments() {
+		assertThat(JsonFieldPath.isArraySegment("[]")).isTrue();
+		assertThat(JsonFieldPath.isArraySegment("[*]")).isTrue();
+		assertThat(JsonFieldPath.isArraySegment("[0]")).isTrue();
+		assertThat(JsonFieldPath.isArraySegment("[123]")).isTrue();
+	}
+
+	@Test
+	void nonArraySegments() {
+		assertThat(JsonFieldPath.isArraySegment("a")).isFalse();
+		assertThat(JsonFieldPath.isArraySegment("*")).isFalse();
+		assertThat(JsonFieldPath.isArraySegment("[")).isFalse();
+		assertThat(JsonFieldPath.isArraySegment("[a]")).isFalse();
+		assertThat(JsonFieldPath.isArraySegment("[**]")).isFalse();
+		assertThat(JsonFieldPath.isArraySegment("[1*]")).isFalse();
+		assertThat(JsonFieldPath.isArraySegment("a[]")).isFalse();
+	}
+
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.payload;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+
+import org.springframework.restdocs.payload.JsonFieldPathTrie.Matches;
+import org.springframework.restdocs.payload.JsonFieldProcessor.ExtractedField;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link JsonFieldPathTrie}.
+ *
+ * @author Andy Wilkinson
+ */
+class JsonFieldPathTrieTests {
+
+	private final JsonFieldProcessor fieldProcessor = new JsonFieldProcessor();
+
+	@Test
+	void topLevelAndNestedFields() {
+		assertMatchesAreConsistentWithFieldProcessor("{\"a\":{\"b\":\"bravo\",\"c\":null},\"d\":true}", "a", "a.b",
+				"a.c", "a.e", "d", "d.e", "f");
+	}
+
+	@Test
+	void fieldsBeneathArrays() {
+		assertMatchesAreConsistentWithFieldProcessor(
+				"{\"a\":[{\"b\":1,\"c\":{\"d\":2}},{\"b\":null},{\"c\":[]}],\"e\":[[1,2],[3]]}", "a", "a[]", "a[].b",
+				"a.[].b", "a[].c", "a[].c.d", "a[].x", "e[]", "e[][]", "e[].[]", "a[0].b");
+	}
+
+	@Test
+	void fieldsBeneathTopLevelArray() {
+		assertMatchesAreConsistentWithFieldProcessor("[{\"a\":1},{\"a\":2,\"b\":3}]", "[]", "[].a", "[].b", "[].c");
+	}
+
+	@Test
+	void wildcards() {
+		assertMatchesAreConsistentWithFieldProcessor(
+				"{\"a\":{\"one\":{\"b\":\"x\"},\"two\":{\"b\":\"y\",\"c\":1}},\"*\":{\"d\":4}}", "a.*", "a.*.b",
+				"a.*.c", "*.d", "*", "*.*.b");
+	}
+
+	@Test
+	void fieldsWithBracketedKeys() {
+		assertMatchesAreConsistentWithFieldProcessor("{\"a.b\":{\"c\":[{\"d\":1}]}}", "['a.b']", "['a.b'].c",
+				"['a.b'].c[].d", "a.b");
+	}
+
+	@Test
+	void unknownPathIsRejected() {
+		Matches matches = JsonFieldPathTrie.of(Arrays.asList("a")).match(parse("{\"a\":1}"));
+		assertThat(matches.contains("b")).isFalse();
+		assertThatIllegalArgumentException().isThrownBy(() -> matches.hasField("b"));
+	}
+
+	private void assertMatchesAreConsistentWithFieldProcessor(String json, String... paths) {
+		List<String> pathList = Arrays.asList(paths);
+		Matches matches = JsonFieldPathTrie.of(pathList).match(parse(json));
+		for (String path : pathList) {
+			assertThat(matches.contains(path)).isTrue();
+			assertThat(matches.hasField(path)).as(path).isEqualTo(this.fieldProcessor.hasField(path, parse(json)));
+			ExtractedField expected = this.fieldProcessor.extract(path, parse(json));
+			ExtractedField actual = matches.extract(path);
+			assertThat(actual.getType()).as(path).isEqualTo(expected.getType());
+			assertThat(actual.getValue()).as(path).isEqualTo(expected.getValue());
+		}
+	}
+
+	private Object parse(String json) {
+		return new ObjectMapper().readValue(json, Object.class);
+	}
+
+}
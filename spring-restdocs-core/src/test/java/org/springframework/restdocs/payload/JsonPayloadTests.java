@@ -0,0 +1,56 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.payload;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link JsonPayload}.
+ *
+ * @author Andy Wilkinson
+ */
+class JsonPayloadTests {
+
+	@Test
+	void mutableCopyIsEqualToContent() {
+		JsonPayload payload = JsonPayload.parse("{\"a\":{\"b\":[1,{\"c\":null}]},\"d\":true}".getBytes());
+		assertThat(payload.mutableCopy()).isEqualTo(payload.getContent());
+	}
+
+	@Test
+	void modificationsToMutableCopyDoNotAffectContent() {
+		JsonPayload payload = JsonPayload.parse("{\"a\":{\"b\":[1,2]},\"c\":\"charlie\"}".getBytes());
+		@SuppressWarnings("unchecked")
+		Map<String, Object> copy = (Map<String, Object>) payload.mutableCopy();
+		copy.remove("c");
+		((List<?>) ((Map<?, ?>) copy.get("a")).get("b")).clear();
+		assertThat(payload.getContent()).isEqualTo(Map.of("a", Map.of("b", List.of(1, 2)), "c", "charlie"));
+	}
+
+	@Test
+	void parsingInvalidContentFails() {
+		assertThatExceptionOfType(PayloadHandlingException.class)
+			.isThrownBy(() -> JsonPayload.parse("Non-JSON content".getBytes()));
+	}
+
+}
@@ -23,6 +23,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.restdocs.payload.PayloadDocumentation.applyPathPrefix;
+import static org.springframework.restdocs.payload.PayloadDocumentation.compile;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.snippet.Attributes.key;
 
@@ -33,6 +34,11 @@ import static org.springframework.restdocs.snippet.Attributes.key;
  */
 class PayloadDocumentationTests {
 
+	@Test
+	void compileAcceptsIgnoredDescriptorWithoutDescription() {
+		assertThat(compile(fieldWithPath("alpha").ignored()).getDescriptors()).hasSize(1);
+	}
+
 	@Test
 	void applyPathPrefixAppliesPrefixToDescriptorPaths() {
 		List<FieldDescriptor> descriptors = applyPathPrefix("alpha.",
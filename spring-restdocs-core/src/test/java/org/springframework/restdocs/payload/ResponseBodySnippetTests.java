@@ -20,6 +20,7 @@ import java.io.IOException;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.restdocs.operation.Operation;
 import org.springframework.restdocs.testfixtures.jupiter.AssertableSnippets;
 import org.springframework.restdocs.testfixtures.jupiter.OperationBuilder;
 import org.springframework.restdocs.testfixtures.jupiter.RenderedSnippetTest;
@@ -95,6 +96,21 @@ class ResponseBodySnippetTests {
 			.isCodeBlock((codeBlock) -> codeBlock.withOptions("nowrap").content("{\"c\":5}"));
 	}
 
+	@RenderedSnippetTest
+	void responseBodyFromOverriddenGetContent(OperationBuilder operationBuilder, AssertableSnippets snippets)
+			throws IOException {
+		new ResponseBodySnippet() {
+
+			@Override
+			protected byte[] getContent(Operation operation) {
+				return "overridden content".getBytes();
+			}
+
+		}.document(operationBuilder.response().content("some content").build());
+		assertThat(snippets.responseBody())
+			.isCodeBlock((codeBlock) -> codeBlock.withOptions("nowrap").content("overridden content"));
+	}
+
 	@RenderedSnippetTest
 	@SnippetTemplate(snippet = "response-body", template = "response-body-with-language")
 	void customSnippetAttributes(OperationBuilder operationBuilder, AssertableSnippets snippets) throws IOException {
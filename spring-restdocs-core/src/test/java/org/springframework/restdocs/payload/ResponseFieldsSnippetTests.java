@@ -22,6 +22,7 @@ import java.util.Collections;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.restdocs.operation.Operation;
 import org.springframework.restdocs.snippet.SnippetException;
 import org.springframework.restdocs.testfixtures.jupiter.AssertableSnippets;
 import org.springframework.restdocs.testfixtures.jupiter.OperationBuilder;
@@ -32,7 +33,9 @@ import org.springframework.restdocs.testfixtures.jupiter.SnippetTest;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.springframework.restdocs.payload.PayloadDocumentation.beneathPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.compile;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.relaxedResponseFields;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
 import static org.springframework.restdocs.snippet.Attributes.attributes;
 import static org.springframework.restdocs.snippet.Attributes.key;
@@ -63,6 +66,21 @@ public class ResponseFieldsSnippetTests {
 			.row("`assets[].name`", "`String`", "six"));
 	}
 
+	@RenderedSnippetTest
+	void fieldsFromOverriddenGetContent(OperationBuilder operationBuilder, AssertableSnippets snippets)
+			throws IOException {
+		new ResponseFieldsSnippet(Arrays.asList(fieldWithPath("b").description("one"))) {
+
+			@Override
+			protected byte[] getContent(Operation operation) {
+				return "{\"b\": true}".getBytes();
+			}
+
+		}.document(operationBuilder.response().content("{\"a\": 5}").build());
+		assertThat(snippets.responseFields()).isTable(
+				(table) -> table.withHeader("Path", "Type", "Description").row("`b`", "`Boolean`", "one"));
+	}
+
 	@RenderedSnippetTest
 	void mapResponseWithNullField(OperationBuilder operationBuilder, AssertableSnippets snippets) throws IOException {
 		new ResponseFieldsSnippet(Arrays.asList(fieldWithPath("a.b").description("one")))
@@ -525,4 +543,30 @@ public class ResponseFieldsSnippetTests {
 			.withMessageStartingWith("Fields with the following paths were not found in the payload: [a[].b]");
 	}
 
+	@RenderedSnippetTest
+	void mapResponseWithCompiledFields(OperationBuilder operationBuilder, AssertableSnippets snippets)
+			throws IOException {
+		CompiledFieldDescriptors descriptors = compile(fieldWithPath("a").description("one"),
+				fieldWithPath("a.b").description("two"),
+				fieldWithPath("a.c").description("three").type(JsonFieldType.STRING).optional());
+		responseFields(descriptors).document(operationBuilder.response().content("{\"a\": {\"b\": 5}}").build());
+		assertThat(snippets.responseFields()).isTable((table) -> table.withHeader("Path", "Type", "Description")
+			.row("`a`", "`Object`", "one")
+			.row("`a.b`", "`Number`", "two")
+			.row("`a.c`", "`String`", "three"));
+	}
+
+	@SnippetTest
+	void compiledFieldsCanBeSharedBySnippets(OperationBuilder operationBuilder) {
+		CompiledFieldDescriptors descriptors = compile(fieldWithPath("a.b").description("one"));
+		relaxedResponseFields(descriptors)
+			.document(operationBuilder.response().content("{\"a\": {\"b\": 5, \"c\": 6}}").build());
+		assertThatExceptionOfType(SnippetException.class)
+			.isThrownBy(() -> responseFields(descriptors)
+				.document(operationBuilder.response().content("{\"a\": {\"b\": 5, \"c\": 6}}").build()))
+			.withMessageStartingWith("The following parts of the payload were not documented:");
+		assertThat(responseFields(descriptors).and(fieldWithPath("a.c").description("two")).getFieldDescriptors())
+			.hasSize(2);
+	}
+
 }
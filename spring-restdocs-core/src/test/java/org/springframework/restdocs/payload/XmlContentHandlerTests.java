@@ -19,6 +19,10 @@ package org.springframework.restdocs.payload;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
@@ -78,6 +82,24 @@ public class XmlContentHandlerTests {
 		assertThat(undocumentedContent).isNull();
 	}
 
+	@Test
+	public void undocumentedContentCanBeRetrievedRepeatedly() {
+		List<FieldDescriptor> descriptors = Arrays.asList(fieldWithPath("a/b").type("b").description("description"));
+		XmlContentHandler handler = createHandler("<a><b>5</b><c>6</c></a>", descriptors);
+		String expected = String.format("<a>%n    <c>6</c>%n</a>%n");
+		assertThat(handler.getUndocumentedContent()).isEqualTo(expected);
+		assertThat(handler.getUndocumentedContent()).isEqualTo(expected);
+		assertThat(handler.findMissingFields()).isEmpty();
+	}
+
+	@Test
+	public void handlersCanBeCreatedAfterParsingFailure() {
+		assertThatExceptionOfType(PayloadHandlingException.class)
+			.isThrownBy(() -> createHandler("non-XML content", Collections.emptyList()));
+		List<FieldDescriptor> descriptors = Arrays.asList(fieldWithPath("a").type("a").description("description"));
+		assertThat(createHandler("<a>5</a>", descriptors).findMissingFields()).isEmpty();
+	}
+
 	@Test
 	public void failsFastWithNonXmlContent() {
 		assertThatExceptionOfType(PayloadHandlingException.class)
@@ -91,6 +113,25 @@ public class XmlContentHandlerTests {
 						Collections.emptyList()));
 	}
 
+	@Test
+	public void handlersCanBeUsedConcurrently() {
+		List<FieldDescriptor> descriptors = Arrays.asList(fieldWithPath("a/b").type("b").description("description"));
+		String expected = String.format("<a>%n    <c>6</c>%n</a>%n");
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<CompletableFuture<String>> results = IntStream.range(0, 100)
+				.mapToObj((i) -> CompletableFuture.supplyAsync(
+						() -> createHandler("<a><b>5</b><c>6</c></a>", descriptors).getUndocumentedContent(), executor))
+				.toList();
+			for (CompletableFuture<String> result : results) {
+				assertThat(result.join()).isEqualTo(expected);
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
 	private XmlContentHandler createHandler(String xml, List<FieldDescriptor> descriptors) {
 		return new XmlContentHandler(xml.getBytes(), descriptors);
 	}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.snippet;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.restdocs.ManualRestDocumentation;
+import org.springframework.restdocs.RestDocumentationContext;
+import org.springframework.restdocs.templates.TemplateFormats;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link AsynchronousWriterResolver}.
+ *
+ * @author Andy Wilkinson
+ */
+class AsynchronousWriterResolverTests {
+
+	@TempDir
+	File temp;
+
+	private final AsynchronousWriterResolver resolver = new AsynchronousWriterResolver(
+			new RestDocumentationContextPlaceholderResolverFactory(), "UTF-8", TemplateFormats.asciidoctor());
+
+	@AfterEach
+	void closeResolver() throws IOException {
+		this.resolver.close();
+	}
+
+	@Test
+	void snippetIsWrittenWhenResolverIsFlushed() throws IOException {
+		RestDocumentationContext context = createContext(this.temp);
+		try (Writer writer = this.resolver.resolve("alpha", "bravo", context)) {
+			writer.write("test");
+		}
+		this.resolver.flush();
+		File snippet = new File(this.temp, "alpha/bravo.adoc");
+		assertThat(snippet).exists();
+		assertThat(Files.readString(snippet.toPath(), StandardCharsets.UTF_8)).isEqualTo("test");
+	}
+
+	@Test
+	void snippetIsNotWrittenUntilWriterIsClosed() throws IOException {
+		RestDocumentationContext context = createContext(this.temp);
+		Writer writer = this.resolver.resolve("alpha", "bravo", context);
+		writer.write("test");
+		this.resolver.flush();
+		assertThat(new File(this.temp, "alpha/bravo.adoc")).doesNotExist();
+		writer.close();
+		this.resolver.flush();
+		assertThat(new File(this.temp, "alpha/bravo.adoc")).exists();
+	}
+
+	@Test
+	void snippetsForManyOperationsAreWritten() throws IOException {
+		RestDocumentationContext context = createContext(this.temp);
+		for (int i = 0; i < 100; i++) {
+			try (Writer writer = this.resolver.resolve("operation-" + (i % 10), "snippet-" + i, context)) {
+				writer.write("content-" + i);
+			}
+		}
+		this.resolver.flush();
+		for (int i = 0; i < 100; i++) {
+			File snippet = new File(this.temp, "operation-" + (i % 10) + "/snippet-" + i + ".adoc");
+			assertThat(Files.readString(snippet.toPath(), StandardCharsets.UTF_8)).isEqualTo("content-" + i);
+		}
+	}
+
+	@Test
+	void failureToWriteSnippetIsReportedWhenFlushed() throws IOException {
+		File outputDirectory = new File(this.temp, "output");
+		Files.createFile(outputDirectory.toPath());
+		RestDocumentationContext context = createContext(outputDirectory);
+		try (Writer writer = this.resolver.resolve("alpha", "bravo", context)) {
+			writer.write("test");
+		}
+		assertThatIOException().isThrownBy(this.resolver::flush);
+	}
+
+	@Test
+	void closeAllWritesPendingSnippetsOfOpenResolvers() throws IOException {
+		RestDocumentationContext context = createContext(this.temp);
+		try (Writer writer = this.resolver.resolve("alpha", "bravo", context)) {
+			writer.write("test");
+		}
+		AsynchronousWriterResolver.closeAll();
+		assertThat(new File(this.temp, "alpha/bravo.adoc")).exists();
+	}
+
+	@Test
+	void snippetIsWrittenSynchronouslyOnceResolverIsClosed() throws IOException {
+		this.resolver.close();
+		RestDocumentationContext context = createContext(this.temp);
+		try (Writer writer = this.resolver.resolve("alpha", "bravo", context)) {
+			writer.write("test");
+		}
+		assertThat(new File(this.temp, "alpha/bravo.adoc")).exists();
+	}
+
+	@Test
+	void failureToWriteSnippetIsReportedByCloseAll() throws IOException {
+		File outputDirectory = new File(this.temp, "output");
+		Files.createFile(outputDirectory.toPath());
+		RestDocumentationContext context = createContext(outputDirectory);
+		try (Writer writer = this.resolver.resolve("alpha", "bravo", context)) {
+			writer.write("test");
+		}
+		assertThatIOException().isThrownBy(AsynchronousWriterResolver::closeAll);
+	}
+
+	@Test
+	void failureToWriteSnippetIsOnlyReportedForContextThatDocumentedIt() throws IOException {
+		File outputDirectory = new File(this.temp, "output");
+		Files.createFile(outputDirectory.toPath());
+		RestDocumentationContext failing = createContext(outputDirectory);
+		RestDocumentationContext succeeding = createContext(this.temp);
+		try (Writer writer = this.resolver.resolve("alpha", "bravo", failing)) {
+			writer.write("test");
+		}
+		try (Writer writer = this.resolver.resolve("alpha", "bravo", succeeding)) {
+			writer.write("test");
+		}
+		awaitBackgroundWriter();
+		AsynchronousWriterResolver.throwIfAnyFailed(succeeding);
+		this.resolver.resolve("alpha", "charlie", succeeding).close();
+		assertThatIOException().isThrownBy(() -> AsynchronousWriterResolver.throwIfAnyFailed(failing));
+		this.resolver.flush();
+	}
+
+	@Test
+	void unchangedSnippetIsNotRewrittenWhenSkippingUnchangedSnippets() throws IOException {
+		try (AsynchronousWriterResolver resolver = new AsynchronousWriterResolver(
+				new RestDocumentationContextPlaceholderResolverFactory(), "UTF-8", TemplateFormats.asciidoctor(), true,
+				false)) {
+			RestDocumentationContext context = createContext(this.temp);
+			File snippet = new File(this.temp, "alpha/bravo.adoc");
+			try (Writer writer = resolver.resolve("alpha", "bravo", context)) {
+				writer.write("test");
+			}
+			resolver.flush();
+			assertThat(snippet.setLastModified(1000)).isTrue();
+			try (Writer writer = resolver.resolve("alpha", "bravo", context)) {
+				writer.write("test");
+			}
+			resolver.flush();
+			assertThat(snippet.lastModified()).isEqualTo(1000);
+		}
+	}
+
+	@Test
+	void writtenSnippetsAreRecordedInManifestWhenWritingManifest() throws IOException {
+		try (AsynchronousWriterResolver resolver = new AsynchronousWriterResolver(
+				new RestDocumentationContextPlaceholderResolverFactory(), "UTF-8", TemplateFormats.asciidoctor(), false,
+				true)) {
+			RestDocumentationContext context = createContext(this.temp);
+			try (Writer writer = resolver.resolve("alpha", "bravo", context)) {
+				writer.write("test");
+			}
+			resolver.flush();
+		}
+		SnippetManifest.forDirectory(this.temp).flush();
+		assertThat(Files.readString(new File(this.temp, SnippetManifest.FILE_NAME).toPath(), StandardCharsets.UTF_8))
+			.contains("\"operation\":\"alpha\",\"name\":\"bravo\"");
+	}
+
+	@Test
+	void writingToOperationDirectoryOfAnotherRunningTestFails() throws IOException {
+		ManualRestDocumentation one = new ManualRestDocumentation(this.temp.getAbsolutePath());
+		one.beforeTest(getClass(), "one");
+		this.resolver.resolve("alpha", "bravo", one.beforeOperation()).close();
+		ManualRestDocumentation two = new ManualRestDocumentation(this.temp.getAbsolutePath());
+		two.beforeTest(getClass(), "two");
+		assertThatIllegalStateException()
+			.isThrownBy(() -> this.resolver.resolve("alpha", "charlie", two.beforeOperation()));
+		one.afterTest();
+		two.afterTest();
+	}
+
+	private void awaitBackgroundWriter() throws IOException {
+		// All resolvers share the background thread so flushing another resolver waits
+		// for the snippets that have already been queued by this one
+		try (AsynchronousWriterResolver other = new AsynchronousWriterResolver(
+				new RestDocumentationContextPlaceholderResolverFactory(), "UTF-8", TemplateFormats.asciidoctor())) {
+			other.flush();
+		}
+	}
+
+	private RestDocumentationContext createContext(File outputDirectory) {
+		ManualRestDocumentation manualRestDocumentation = new ManualRestDocumentation(
+				outputDirectory.getAbsolutePath());
+		manualRestDocumentation.beforeTest(getClass(), null);
+		return manualRestDocumentation.beforeOperation();
+	}
+
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.snippet;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link SnippetManifest}.
+ *
+ * @author Andy Wilkinson
+ */
+class SnippetManifestTests {
+
+	@TempDir
+	File temp;
+
+	@Test
+	void sameManifestIsReturnedForSameDirectory() {
+		assertThat(SnippetManifest.forDirectory(this.temp)).isSameAs(SnippetManifest.forDirectory(this.temp));
+	}
+
+	@Test
+	void snippetInNestedOperationDirectoryIsRecorded() throws IOException {
+		SnippetManifest manifest = SnippetManifest.forDirectory(this.temp);
+		manifest.record(writeSnippet("alpha/bravo/charlie.adoc", "ab"));
+		manifest.flush();
+		assertThat(readManifest()).containsExactly("{\"operation\":\"alpha/bravo\",\"name\":\"charlie\","
+				+ "\"file\":\"charlie.adoc\",\"size\":2,\"sha256\":"
+				+ "\"fb8e20fc2e4c3f248c60c39bd652f3c1347298bb977b8b4d5903b85055620603\"}");
+	}
+
+	@Test
+	void recordedSnippetIsNotWrittenUntilFlushed() throws IOException {
+		SnippetManifest manifest = SnippetManifest.forDirectory(this.temp);
+		manifest.record(writeSnippet("alpha/bravo.adoc", "a"));
+		assertThat(manifest.getFile()).doesNotExist();
+		SnippetManifest.flushAll();
+		assertThat(readManifest()).hasSize(1);
+	}
+
+	@Test
+	void snippetOutsideDirectoryIsIgnored() throws IOException {
+		SnippetManifest manifest = SnippetManifest.forDirectory(new File(this.temp, "snippets"));
+		manifest.record(writeSnippet("other/alpha.adoc", ""));
+		manifest.flush();
+		assertThat(manifest.getFile()).doesNotExist();
+	}
+
+	@Test
+	void snippetThatIsRecordedMoreThanOnceBeforeFlushingIsWrittenOnceWithItsCurrentContent() throws IOException {
+		SnippetManifest manifest = SnippetManifest.forDirectory(this.temp);
+		manifest.record(writeSnippet("alpha/bravo.adoc", ""));
+		manifest.record(writeSnippet("alpha/bravo.adoc", "a"));
+		manifest.flush();
+		assertThat(readManifest()).singleElement().asString().contains("\"size\":1");
+	}
+
+	@Test
+	void snippetsThatAreRecordedAgainAfterFlushingAreAppended() throws IOException {
+		SnippetManifest manifest = SnippetManifest.forDirectory(this.temp);
+		manifest.record(writeSnippet("alpha/bravo.adoc", ""));
+		manifest.flush();
+		manifest.record(writeSnippet("alpha/bravo.adoc", "a"));
+		manifest.flush();
+		List<String> entries = readManifest();
+		assertThat(entries).hasSize(2);
+		assertThat(entries.get(1)).contains("\"size\":1");
+	}
+
+	@Test
+	void snippetThatHasBeenDeletedIsNotWritten() throws IOException {
+		SnippetManifest manifest = SnippetManifest.forDirectory(this.temp);
+		File snippet = writeSnippet("alpha/bravo.adoc", "");
+		manifest.record(snippet);
+		manifest.record(writeSnippet("alpha/charlie.adoc", ""));
+		Files.delete(snippet.toPath());
+		manifest.flush();
+		assertThat(readManifest()).singleElement().asString().contains("\"name\":\"charlie\"");
+	}
+
+	@Test
+	void duplicateEntriesFromEarlierRunsAreRemoved() throws IOException {
+		writeSnippet("alpha/bravo.adoc", "bb");
+		writeSnippet("alpha/charlie.adoc", "c");
+		Files.write(new File(this.temp, SnippetManifest.FILE_NAME).toPath(),
+				("{\"operation\":\"alpha\",\"name\":\"bravo\",\"file\":\"bravo.adoc\",\"size\":1}\n"
+						+ "{\"operation\":\"alpha\",\"name\":\"charlie\",\"file\":\"charlie.adoc\",\"size\":1}\n"
+						+ "{\"operation\":\"alpha\",\"name\":\"bravo\",\"file\":\"bravo.adoc\",\"size\":2}\n")
+					.getBytes(StandardCharsets.UTF_8));
+		SnippetManifest manifest = SnippetManifest.forDirectory(this.temp);
+		manifest.record(writeSnippet("delta/echo.adoc", ""));
+		manifest.flush();
+		List<String> entries = readManifest();
+		assertThat(entries).hasSize(3);
+		assertThat(entries.get(0)).contains("\"name\":\"charlie\"");
+		assertThat(entries.get(1)).contains("\"name\":\"bravo\"", "\"size\":2");
+		assertThat(entries.get(2)).contains("\"operation\":\"delta\"", "\"name\":\"echo\"");
+	}
+
+	@Test
+	void entriesFromEarlierRunsForSnippetsThatNoLongerExistAreRemoved() throws IOException {
+		writeSnippet("alpha/charlie.adoc", "c");
+		Files.write(new File(this.temp, SnippetManifest.FILE_NAME).toPath(),
+				("{\"operation\":\"alpha\",\"name\":\"bravo\",\"file\":\"bravo.adoc\",\"size\":1}\n"
+						+ "{\"operation\":\"alpha\",\"name\":\"charlie\",\"file\":\"charlie.adoc\",\"size\":1}\n"
+						+ "not json\n")
+					.getBytes(StandardCharsets.UTF_8));
+		SnippetManifest manifest = SnippetManifest.forDirectory(this.temp);
+		manifest.record(writeSnippet("delta/echo.adoc", ""));
+		manifest.flush();
+		List<String> entries = readManifest();
+		assertThat(entries).hasSize(2);
+		assertThat(entries.get(0)).contains("\"name\":\"charlie\"");
+		assertThat(entries.get(1)).contains("\"operation\":\"delta\"", "\"name\":\"echo\"");
+	}
+
+	private File writeSnippet(String path, String content) throws IOException {
+		File snippet = new File(this.temp, path);
+		snippet.getParentFile().mkdirs();
+		Files.write(snippet.toPath(), content.getBytes(StandardCharsets.UTF_8));
+		return snippet;
+	}
+
+	private List<String> readManifest() throws IOException {
+		return Files.readAllLines(new File(this.temp, SnippetManifest.FILE_NAME).toPath());
+	}
+
+}
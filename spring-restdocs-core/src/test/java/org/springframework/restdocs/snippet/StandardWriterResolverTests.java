@@ -31,6 +31,7 @@ import org.springframework.util.FileCopyUtils;
 import org.springframework.util.PropertyPlaceholderHelper.PlaceholderResolver;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 
@@ -95,6 +96,100 @@ class StandardWriterResolverTests {
 		}
 	}
 
+	@Test
+	void unchangedSnippetIsNotRewrittenWhenSkippingUnchangedSnippets() throws IOException {
+		StandardWriterResolver resolver = new StandardWriterResolver(
+				new RestDocumentationContextPlaceholderResolverFactory(), "UTF-8", TemplateFormats.asciidoctor(), true);
+		RestDocumentationContext context = createContext(this.temp.getAbsolutePath());
+		File snippet = new File(this.temp, "alpha/bravo.adoc");
+		try (Writer writer = resolver.resolve("alpha", "bravo", context)) {
+			writer.write("test");
+		}
+		assertThat(snippet.setLastModified(1000)).isTrue();
+		try (Writer writer = resolver.resolve("alpha", "bravo", context)) {
+			writer.write("test");
+		}
+		assertThat(snippet.lastModified()).isEqualTo(1000);
+		assertThat(FileCopyUtils.copyToString(new FileReader(snippet))).isEqualTo("test");
+	}
+
+	@Test
+	void changedSnippetIsRewrittenWhenSkippingUnchangedSnippets() throws IOException {
+		StandardWriterResolver resolver = new StandardWriterResolver(
+				new RestDocumentationContextPlaceholderResolverFactory(), "UTF-8", TemplateFormats.asciidoctor(), true);
+		RestDocumentationContext context = createContext(this.temp.getAbsolutePath());
+		File snippet = new File(this.temp, "alpha/bravo.adoc");
+		try (Writer writer = resolver.resolve("alpha", "bravo", context)) {
+			writer.write("test");
+		}
+		try (Writer writer = resolver.resolve("alpha", "bravo", context)) {
+			writer.write("tset");
+		}
+		assertThat(FileCopyUtils.copyToString(new FileReader(snippet))).isEqualTo("tset");
+	}
+
+	@Test
+	void closingWriterAgainWhenSkippingUnchangedSnippetsHasNoEffect() throws IOException {
+		StandardWriterResolver resolver = new StandardWriterResolver(
+				new RestDocumentationContextPlaceholderResolverFactory(), "UTF-8", TemplateFormats.asciidoctor(), true);
+		RestDocumentationContext context = createContext(this.temp.getAbsolutePath());
+		File snippet = new File(this.temp, "alpha/bravo.adoc");
+		Writer writer = resolver.resolve("alpha", "bravo", context);
+		writer.write("test");
+		writer.close();
+		assertThat(snippet.delete()).isTrue();
+		writer.close();
+		assertThat(snippet).doesNotExist();
+	}
+
+	@Test
+	void writtenSnippetsAreRecordedInManifestWhenWritingManifest() throws IOException {
+		StandardWriterResolver resolver = new StandardWriterResolver(
+				new RestDocumentationContextPlaceholderResolverFactory(), "UTF-8", TemplateFormats.asciidoctor(), false,
+				true);
+		RestDocumentationContext context = createContext(this.temp.getAbsolutePath());
+		try (Writer writer = resolver.resolve("alpha", "bravo", context)) {
+			writer.write("test");
+		}
+		assertThat(FileCopyUtils.copyToString(new FileReader(new File(this.temp, "alpha/bravo.adoc"))))
+			.isEqualTo("test");
+		SnippetManifest.forDirectory(this.temp).flush();
+		assertThat(FileCopyUtils.copyToString(new FileReader(new File(this.temp, SnippetManifest.FILE_NAME))))
+			.isEqualTo("{\"operation\":\"alpha\",\"name\":\"bravo\",\"file\":\"bravo.adoc\",\"size\":4,"
+					+ "\"sha256\":\"9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08\"}\n");
+	}
+
+	@Test
+	void writingToOperationDirectoryOfAnotherRunningTestFails() throws IOException {
+		StandardWriterResolver resolver = new StandardWriterResolver(
+				new RestDocumentationContextPlaceholderResolverFactory(), "UTF-8", TemplateFormats.asciidoctor());
+		ManualRestDocumentation one = new ManualRestDocumentation(this.temp.getAbsolutePath());
+		one.beforeTest(getClass(), "one");
+		resolver.resolve("alpha", "bravo", one.beforeOperation()).close();
+		ManualRestDocumentation two = new ManualRestDocumentation(this.temp.getAbsolutePath());
+		two.beforeTest(getClass(), "two");
+		assertThatIllegalStateException().isThrownBy(() -> resolver.resolve("alpha", "charlie", two.beforeOperation()))
+			.withMessageContaining(getClass().getName() + ".one")
+			.withMessageContaining(getClass().getName() + ".two");
+		one.afterTest();
+		two.afterTest();
+	}
+
+	@Test
+	void writingToOperationDirectoryOfACompletedTestSucceeds() throws IOException {
+		StandardWriterResolver resolver = new StandardWriterResolver(
+				new RestDocumentationContextPlaceholderResolverFactory(), "UTF-8", TemplateFormats.asciidoctor());
+		ManualRestDocumentation restDocumentation = new ManualRestDocumentation(this.temp.getAbsolutePath());
+		restDocumentation.beforeTest(getClass(), "one");
+		resolver.resolve("alpha", "bravo", restDocumentation.beforeOperation()).close();
+		restDocumentation.afterTest();
+		restDocumentation.beforeTest(getClass(), "two");
+		try (Writer writer = resolver.resolve("alpha", "bravo", restDocumentation.beforeOperation())) {
+			assertSnippetLocation(writer, new File(this.temp, "alpha/bravo.adoc"));
+		}
+		restDocumentation.afterTest();
+	}
+
 	private RestDocumentationContext createContext(String outputDir) {
 		ManualRestDocumentation manualRestDocumentation = new ManualRestDocumentation(outputDir);
 		manualRestDocumentation.beforeTest(getClass(), null);
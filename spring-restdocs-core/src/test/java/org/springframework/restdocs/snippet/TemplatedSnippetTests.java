@@ -23,12 +23,17 @@ import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import org.springframework.restdocs.metrics.OperationMetrics;
+import org.springframework.restdocs.metrics.OperationMetrics.Phase;
+import org.springframework.restdocs.metrics.OperationMetrics.Timing;
+import org.springframework.restdocs.metrics.OperationMetricsRecorder;
 import org.springframework.restdocs.operation.Operation;
 import org.springframework.restdocs.testfixtures.jupiter.AssertableSnippets;
 import org.springframework.restdocs.testfixtures.jupiter.OperationBuilder;
 import org.springframework.restdocs.testfixtures.jupiter.RenderedSnippetTest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 /**
  * Tests for {@link TemplatedSnippet}.
@@ -67,6 +72,20 @@ class TemplatedSnippetTests {
 		assertThat(snippet.named("multiple-snippets-two")).exists();
 	}
 
+	@RenderedSnippetTest
+	void whenOperationHasAMetricsRecorderEachPhaseIsRecorded(OperationBuilder operationBuilder,
+			AssertableSnippets snippet) throws IOException {
+		OperationMetricsRecorder metricsRecorder = new OperationMetricsRecorder();
+		Operation operation = operationBuilder.attribute(OperationMetricsRecorder.class.getName(), metricsRecorder)
+			.build();
+		new TestTemplatedSnippet("one", "multiple-snippets").document(operation);
+		OperationMetrics metrics = metricsRecorder.complete(operation);
+		assertThat(metrics.getTimings()).extracting(Timing::getPhase, Timing::getName)
+			.containsExactly(tuple(Phase.MODEL_CREATION, "multiple-snippets-one"),
+					tuple(Phase.TEMPLATE_RENDERING, "multiple-snippets-one"),
+					tuple(Phase.WRITING, "multiple-snippets-one"));
+	}
+
 	private static class TestTemplatedSnippet extends TemplatedSnippet {
 
 		protected TestTemplatedSnippet(String snippetName, String templateName) {
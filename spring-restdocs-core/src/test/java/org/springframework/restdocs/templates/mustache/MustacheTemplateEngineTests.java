@@ -0,0 +1,106 @@
+/*
+ * Copyright 2014-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.restdocs.templates.mustache;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+
+import com.samskivert.mustache.Mustache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.restdocs.templates.Template;
+import org.springframework.restdocs.templates.TemplateCacheMode;
+import org.springframework.restdocs.templates.TemplateResourceResolver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link MustacheTemplateEngine}.
+ *
+ * @author Andy Wilkinson
+ */
+class MustacheTemplateEngineTests {
+
+	@TempDir
+	File temp;
+
+	private final TemplateResourceResolver resolver = mock(TemplateResourceResolver.class);
+
+	@Test
+	void compiledTemplatesAreCachedByDefault() throws IOException {
+		given(this.resolver.resolveTemplateResource("test")).willReturn(template("Hello {{name}}"));
+		MustacheTemplateEngine engine = new MustacheTemplateEngine(this.resolver);
+		Template first = engine.compileTemplate("test");
+		Template second = engine.compileTemplate("test");
+		assertThat(second).isSameAs(first);
+		assertThat(second.render(Collections.singletonMap("name", "World"))).isEqualTo("Hello World");
+		verify(this.resolver, times(1)).resolveTemplateResource("test");
+	}
+
+	@Test
+	void compiledTemplatesAreNotCachedWhenCachingIsDisabled() throws IOException {
+		given(this.resolver.resolveTemplateResource("test")).willReturn(template("Hello {{name}}"));
+		MustacheTemplateEngine engine = createEngine(TemplateCacheMode.DISABLED);
+		Template first = engine.compileTemplate("test");
+		Template second = engine.compileTemplate("test");
+		assertThat(second).isNotSameAs(first);
+		verify(this.resolver, times(2)).resolveTemplateResource("test");
+	}
+
+	@Test
+	void unchangedTemplateIsReusedWhenReloadingOnChange() throws IOException {
+		given(this.resolver.resolveTemplateResource("test")).willReturn(template("Hello {{name}}"));
+		MustacheTemplateEngine engine = createEngine(TemplateCacheMode.RELOAD_ON_CHANGE);
+		Template first = engine.compileTemplate("test");
+		Template second = engine.compileTemplate("test");
+		assertThat(second).isSameAs(first);
+	}
+
+	@Test
+	void changedTemplateIsRecompiledWhenReloadingOnChange() throws IOException {
+		FileSystemResource resource = template("Hello {{name}}");
+		given(this.resolver.resolveTemplateResource("test")).willReturn(resource);
+		MustacheTemplateEngine engine = createEngine(TemplateCacheMode.RELOAD_ON_CHANGE);
+		Template first = engine.compileTemplate("test");
+		Files.writeString(resource.getFile().toPath(), "Goodbye {{name}}");
+		resource.getFile().setLastModified(resource.lastModified() + 10000);
+		Template second = engine.compileTemplate("test");
+		assertThat(second).isNotSameAs(first);
+		assertThat(second.render(Collections.singletonMap("name", "World"))).isEqualTo("Goodbye World");
+	}
+
+	private MustacheTemplateEngine createEngine(TemplateCacheMode cacheMode) {
+		return new MustacheTemplateEngine(this.resolver, StandardCharsets.UTF_8,
+				Mustache.compiler().escapeHTML(false), Collections.emptyMap(), cacheMode);
+	}
+
+	private FileSystemResource template(String content) throws IOException {
+		File template = new File(this.temp, "test.snippet");
+		Files.writeString(template.toPath(), content);
+		return new FileSystemResource(template);
+	}
+
+}
@@ -61,6 +61,10 @@ import org.springframework.web.multipart.MultipartFile;
  */
 class MockMvcRequestConverter implements RequestConverter<MockHttpServletRequest> {
 
+	private final OperationRequestFactory requestFactory = new OperationRequestFactory();
+
+	private final OperationRequestPartFactory partFactory = new OperationRequestPartFactory();
+
 	@Override
 	public OperationRequest convert(MockHttpServletRequest mockRequest) {
 		try {
@@ -71,7 +75,7 @@ class MockMvcRequestConverter implements RequestConverter<MockHttpServletRequest
 			if (requestMethod == null) {
 				throw new IllegalStateException("MockHttpServletRequest cannot be converted as its method is null");
 			}
-			return new OperationRequestFactory().create(getRequestUri(mockRequest), HttpMethod.valueOf(requestMethod),
+			return this.requestFactory.create(getRequestUri(mockRequest), HttpMethod.valueOf(requestMethod),
 					getRequestContent(mockRequest, headers), headers, parts, cookies);
 		}
 		catch (Exception ex) {
@@ -80,37 +84,36 @@ class MockMvcRequestConverter implements RequestConverter<MockHttpServletRequest
 	}
 
 	private URI getRequestUri(MockHttpServletRequest mockRequest) {
-		String queryString = "";
-		if (mockRequest.getQueryString() != null) {
-			queryString = mockRequest.getQueryString();
+		StringBuffer requestUrl = mockRequest.getRequestURL();
+		String queryString = mockRequest.getQueryString();
+		if (queryString != null) {
+			if (!queryString.isEmpty()) {
+				requestUrl.append('?').append(queryString);
+			}
 		}
 		else if ("GET".equals(mockRequest.getMethod()) || mockRequest.getContentLengthLong() > 0) {
-			queryString = urlEncodedParameters(mockRequest);
-		}
-		StringBuffer requestUrlBuffer = mockRequest.getRequestURL();
-		if (queryString.length() > 0) {
-			requestUrlBuffer.append("?").append(queryString.toString());
+			appendUrlEncodedParameters(requestUrl, mockRequest);
 		}
-		return URI.create(requestUrlBuffer.toString());
+		return URI.create(requestUrl.toString());
 	}
 
-	private String urlEncodedParameters(MockHttpServletRequest mockRequest) {
-		StringBuilder parameters = new StringBuilder();
-		MultiValueMap<String, String> queryParameters = parse(mockRequest.getQueryString());
-		for (String name : IterableEnumeration.of(mockRequest.getParameterNames())) {
-			if (!queryParameters.containsKey(name)) {
-				String[] values = mockRequest.getParameterValues(name);
-				if (values == null || values.length == 0) {
-					append(parameters, name);
-				}
-				else {
-					for (String value : values) {
-						append(parameters, name, value);
-					}
+	private void appendUrlEncodedParameters(StringBuffer requestUrl, MockHttpServletRequest mockRequest) {
+		Map<String, String[]> parameters = mockRequest.getParameterMap();
+		if (parameters.isEmpty()) {
+			return;
+		}
+		StringBuilder query = new StringBuilder();
+		parameters.forEach((name, values) -> {
+			if (values.length == 0) {
+				append(query, name, "");
+			}
+			else {
+				for (String value : values) {
+					append(query, name, value);
 				}
 			}
-		}
-		return parameters.toString();
+		});
+		requestUrl.append('?').append(query);
 	}
 
 	private byte @Nullable [] getRequestContent(MockHttpServletRequest mockRequest, HttpHeaders headers) {
@@ -125,11 +128,11 @@ class MockMvcRequestConverter implements RequestConverter<MockHttpServletRequest
 				StringBuilder contentBuilder = new StringBuilder();
 				headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
 				MultiValueMap<String, String> queryParameters = parse(mockRequest.getQueryString());
-				mockRequest.getParameterMap().forEach((name, values) -> {
+				parameters.forEach((name, values) -> {
 					List<String> queryParameterValues = queryParameters.get(name);
 					if (values.length == 0) {
 						if (queryParameterValues == null) {
-							append(contentBuilder, name);
+							append(contentBuilder, name, "");
 						}
 					}
 					else {
@@ -183,11 +186,26 @@ class MockMvcRequestConverter implements RequestConverter<MockHttpServletRequest
 		if (part.getContentType() != null && contentTypeHeader == null) {
 			partHeaders.setContentType(MediaType.parseMediaType(part.getContentType()));
 		}
-		return new OperationRequestPartFactory().create(part.getName(),
-				StringUtils.hasText(part.getSubmittedFileName()) ? part.getSubmittedFileName() : null,
+		String submittedFileName = StringUtils.hasText(part.getSubmittedFileName()) ? part.getSubmittedFileName()
+				: null;
+		long size = part.getSize();
+		if (size > 0) {
+			return this.partFactory.create(part.getName(), submittedFileName, () -> readContent(part), size,
+					partHeaders);
+		}
+		return this.partFactory.create(part.getName(), submittedFileName,
 				FileCopyUtils.copyToByteArray(part.getInputStream()), partHeaders);
 	}
 
+	private byte[] readContent(Part part) {
+		try {
+			return FileCopyUtils.copyToByteArray(part.getInputStream());
+		}
+		catch (IOException ex) {
+			throw new ConversionException(ex);
+		}
+	}
+
 	private List<OperationRequestPart> extractMultipartRequestParts(MockMultipartHttpServletRequest multipartRequest)
 			throws IOException {
 		List<OperationRequestPart> parts = new ArrayList<>();
@@ -204,9 +222,22 @@ class MockMvcRequestConverter implements RequestConverter<MockHttpServletRequest
 		if (StringUtils.hasText(file.getContentType())) {
 			partHeaders.setContentType(MediaType.parseMediaType(file.getContentType()));
 		}
-		return new OperationRequestPartFactory().create(file.getName(),
-				StringUtils.hasText(file.getOriginalFilename()) ? file.getOriginalFilename() : null, file.getBytes(),
-				partHeaders);
+		String originalFilename = StringUtils.hasText(file.getOriginalFilename()) ? file.getOriginalFilename() : null;
+		long size = file.getSize();
+		if (size > 0) {
+			return this.partFactory.create(file.getName(), originalFilename, () -> readContent(file), size,
+					partHeaders);
+		}
+		return this.partFactory.create(file.getName(), originalFilename, file.getBytes(), partHeaders);
+	}
+
+	private byte[] readContent(MultipartFile file) {
+		try {
+			return file.getBytes();
+		}
+		catch (IOException ex) {
+			throw new ConversionException(ex);
+		}
 	}
 
 	private HttpHeaders extractHeaders(Part part) {
@@ -229,26 +260,19 @@ class MockMvcRequestConverter implements RequestConverter<MockHttpServletRequest
 		return headers;
 	}
 
-	private static void append(StringBuilder sb, String key) {
-		append(sb, key, "");
-	}
-
 	private static void append(StringBuilder sb, String key, String value) {
-		doAppend(sb, urlEncode(key) + "=" + urlEncode(value));
-	}
-
-	private static void doAppend(StringBuilder sb, String toAppend) {
 		if (sb.length() > 0) {
-			sb.append("&");
+			sb.append('&');
 		}
-		sb.append(toAppend);
+		appendUrlEncoded(sb, key);
+		sb.append('=');
+		appendUrlEncoded(sb, value);
 	}
 
-	private static String urlEncode(String s) {
-		if (!StringUtils.hasLength(s)) {
-			return "";
+	private static void appendUrlEncoded(StringBuilder sb, String s) {
+		if (StringUtils.hasLength(s)) {
+			sb.append(URLEncoder.encode(s, StandardCharsets.UTF_8));
 		}
-		return URLEncoder.encode(s, StandardCharsets.UTF_8);
 	}
 
 	private static MultiValueMap<String, String> parse(@Nullable String query) {
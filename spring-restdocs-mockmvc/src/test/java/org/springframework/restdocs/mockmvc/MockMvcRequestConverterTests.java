@@ -40,7 +40,10 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 /**
  * Tests for {@link MockMvcRequestConverter}.
@@ -245,6 +248,24 @@ class MockMvcRequestConverterTests {
 		assertThat(part.getContent()).isEqualTo(new byte[] { 1, 2, 3, 4 });
 	}
 
+	@Test
+	void contentOfPartWithKnownSizeIsReadWhenFirstNeeded() throws IOException {
+		MockHttpServletRequest mockRequest = MockMvcRequestBuilders.get("/foo").buildRequest(new MockServletContext());
+		Part mockPart = mock(Part.class);
+		given(mockPart.getHeaderNames()).willReturn(Arrays.asList());
+		given(mockPart.getInputStream()).willReturn(new ByteArrayInputStream(new byte[] { 1, 2, 3, 4 }));
+		given(mockPart.getName()).willReturn("part-name");
+		given(mockPart.getSize()).willReturn(4L);
+		mockRequest.addPart(mockPart);
+		OperationRequest request = this.factory.convert(mockRequest);
+		OperationRequestPart part = request.getParts().iterator().next();
+		assertThat(part.getHeaders().getContentLength()).isEqualTo(4L);
+		then(mockPart).should(never()).getInputStream();
+		assertThat(part.getContent()).isEqualTo(new byte[] { 1, 2, 3, 4 });
+		assertThat(part.getContentAsString()).isEqualTo(new String(new byte[] { 1, 2, 3, 4 }));
+		then(mockPart).should(times(1)).getInputStream();
+	}
+
 	private OperationRequest createOperationRequest(AbstractMockHttpServletRequestBuilder<?> builder) {
 		return this.factory.convert(builder.buildRequest(new MockServletContext()));
 	}
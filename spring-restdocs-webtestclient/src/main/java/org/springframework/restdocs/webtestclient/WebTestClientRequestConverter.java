@@ -16,21 +16,23 @@
 
 package org.springframework.restdocs.webtestclient;
 
-import java.io.ByteArrayOutputStream;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.jspecify.annotations.Nullable;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import org.springframework.core.ResolvableType;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferUtils;
-import org.springframework.core.io.buffer.DefaultDataBuffer;
 import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ReactiveHttpInputMessage;
 import org.springframework.http.codec.HttpMessageReader;
 import org.springframework.http.codec.multipart.DefaultPartHttpMessageReader;
@@ -45,7 +47,6 @@ import org.springframework.restdocs.operation.RequestConverter;
 import org.springframework.restdocs.operation.RequestCookie;
 import org.springframework.test.web.reactive.server.ExchangeResult;
 import org.springframework.test.web.reactive.server.WebTestClient;
-import org.springframework.util.LinkedMultiValueMap;
 
 /**
  * A {@link RequestConverter} for creating an {@link OperationRequest} derived from an
@@ -55,6 +56,12 @@ import org.springframework.util.LinkedMultiValueMap;
  */
 class WebTestClientRequestConverter implements RequestConverter<ExchangeResult> {
 
+	private static final ResolvableType PART_TYPE = ResolvableType.forClass(Part.class);
+
+	private static final HttpMessageReader<Part> partReader = new DefaultPartHttpMessageReader();
+
+	private static final MultipartHttpMessageReader multipartReader = new MultipartHttpMessageReader(partReader);
+
 	@Override
 	public OperationRequest convert(ExchangeResult result) {
 		HttpHeaders headers = extractRequestHeaders(result);
@@ -66,33 +73,52 @@ class WebTestClientRequestConverter implements RequestConverter<ExchangeResult>
 		HttpHeaders extracted = new HttpHeaders();
 		extracted.putAll(result.getRequestHeaders());
 		extracted.remove(WebTestClient.WEBTESTCLIENT_REQUEST_ID);
+		extracted.remove(WebTestClientRestDocumentationConfigurer.CONFIGURATION_ID_HEADER);
 		return extracted;
 	}
 
-	private @Nullable List<OperationRequestPart> extractRequestParts(ExchangeResult result) {
-		HttpMessageReader<Part> partHttpMessageReader = new DefaultPartHttpMessageReader();
-		return new MultipartHttpMessageReader(partHttpMessageReader)
-			.readMono(ResolvableType.forClass(Part.class), new ExchangeResultReactiveHttpInputMessage(result),
-					Collections.emptyMap())
-			.onErrorReturn(new LinkedMultiValueMap<>())
-			.map((partsMap) -> partsMap.values()
-				.stream()
-				.flatMap((parts) -> parts.stream().map(this::createOperationRequestPart))
-				.collect(Collectors.toList()))
+	private List<OperationRequestPart> extractRequestParts(ExchangeResult result) {
+		MediaType contentType = getContentType(result);
+		if (contentType == null || !partReader.canRead(PART_TYPE, contentType)) {
+			return Collections.emptyList();
+		}
+		List<OperationRequestPart> parts = multipartReader
+			.readMono(PART_TYPE, new ExchangeResultReactiveHttpInputMessage(result), Collections.emptyMap())
+			.flatMapIterable(Map::values)
+			.flatMapIterable((partsWithName) -> partsWithName)
+			.concatMap(this::createOperationRequestPart)
+			.collectList()
+			.onErrorReturn(Collections.emptyList())
 			.block();
+		return (parts != null) ? parts : Collections.emptyList();
 	}
 
-	private OperationRequestPart createOperationRequestPart(Part part) {
-		ByteArrayOutputStream content = readPartBodyContent(part);
-		return new OperationRequestPartFactory().create(part.name(),
-				(part instanceof FilePart) ? ((FilePart) part).filename() : null, content.toByteArray(),
-				part.headers());
+	private @Nullable MediaType getContentType(ExchangeResult result) {
+		try {
+			return result.getRequestHeaders().getContentType();
+		}
+		catch (InvalidMediaTypeException ex) {
+			return null;
+		}
+	}
+
+	private Mono<OperationRequestPart> createOperationRequestPart(Part part) {
+		return DataBufferUtils.join(part.content())
+			.map(this::readContent)
+			.defaultIfEmpty(new byte[0])
+			.map((content) -> new OperationRequestPartFactory().create(part.name(),
+					(part instanceof FilePart) ? ((FilePart) part).filename() : null, content, part.headers()));
 	}
 
-	private ByteArrayOutputStream readPartBodyContent(Part part) {
-		ByteArrayOutputStream contentStream = new ByteArrayOutputStream();
-		DataBufferUtils.write(part.content(), contentStream).blockFirst();
-		return contentStream;
+	private byte[] readContent(DataBuffer buffer) {
+		try {
+			byte[] content = new byte[buffer.readableByteCount()];
+			buffer.read(content);
+			return content;
+		}
+		finally {
+			DataBufferUtils.release(buffer);
+		}
 	}
 
 	private Collection<RequestCookie> extractCookies(HttpHeaders headers) {
@@ -126,11 +152,9 @@ class WebTestClientRequestConverter implements RequestConverter<ExchangeResult>
 		public Flux<DataBuffer> getBody() {
 			byte[] requestBodyContent = this.result.getRequestBodyContent();
 			if (requestBodyContent == null) {
-				requestBodyContent = new byte[0];
+				return Flux.empty();
 			}
-			DefaultDataBuffer buffer = new DefaultDataBufferFactory().allocateBuffer(requestBodyContent.length);
-			buffer.write(requestBodyContent);
-			return Flux.fromArray(new DataBuffer[] { buffer });
+			return Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(requestBodyContent));
 		}
 
 	}
@@ -21,6 +21,7 @@ import java.net.URISyntaxException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import reactor.core.publisher.Mono;
 
@@ -48,8 +49,19 @@ public class WebTestClientRestDocumentationConfigurer extends
 
 	private final WebTestClientSnippetConfigurer snippetConfigurer = new WebTestClientSnippetConfigurer(this);
 
+	/**
+	 * The name of the header that identifies a request's configuration. Request IDs
+	 * generated by {@link WebTestClient} are only unique within a client so a separate
+	 * identifier that is unique across all clients is used, allowing tests that use
+	 * different clients to run in parallel. Like the request ID, the header is sent to
+	 * the server but is removed from the documented request.
+	 */
+	static final String CONFIGURATION_ID_HEADER = "X-Spring-RestDocs-Configuration-Id";
+
 	private static final Map<String, Map<String, Object>> configurations = new ConcurrentHashMap<>();
 
+	private static final AtomicLong configurationIds = new AtomicLong();
+
 	private final WebTestClientOperationPreprocessorsConfigurer operationPreprocessorsConfigurer = new WebTestClientOperationPreprocessorsConfigurer(
 			this);
 
@@ -78,8 +90,8 @@ public class WebTestClientRestDocumentationConfigurer extends
 	}
 
 	static Map<String, Object> retrieveConfiguration(HttpHeaders headers) {
-		String requestId = headers.getFirst(WebTestClient.WEBTESTCLIENT_REQUEST_ID);
-		Map<String, Object> configuration = configurations.remove(requestId);
+		String configurationId = headers.getFirst(CONFIGURATION_ID_HEADER);
+		Map<String, Object> configuration = (configurationId != null) ? configurations.remove(configurationId) : null;
 		Assert.state(configuration != null, () -> "REST Docs configuration not found. Did you forget to register a "
 				+ WebTestClientRestDocumentationConfigurer.class.getSimpleName() + " as a filter?");
 		return configuration;
@@ -87,20 +99,21 @@ public class WebTestClientRestDocumentationConfigurer extends
 
 	@Override
 	public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
-		String index = request.headers().getFirst(WebTestClient.WEBTESTCLIENT_REQUEST_ID);
-		configurations.put(index, createConfiguration());
-		return next.exchange(applyUriDefaults(request));
+		String configurationId = Long.toString(configurationIds.incrementAndGet());
+		configurations.put(configurationId, createConfiguration());
+		return next.exchange(ClientRequest.from(request)
+			.url(applyUriDefaults(request.url()))
+			.header(CONFIGURATION_ID_HEADER, configurationId)
+			.build());
 	}
 
-	private ClientRequest applyUriDefaults(ClientRequest request) {
-		URI requestUri = request.url();
+	private URI applyUriDefaults(URI requestUri) {
 		if (StringUtils.hasLength(requestUri.getHost())) {
-			return request;
+			return requestUri;
 		}
 		try {
-			requestUri = new URI("http", requestUri.getUserInfo(), "localhost", 8080, requestUri.getPath(),
+			return new URI("http", requestUri.getUserInfo(), "localhost", 8080, requestUri.getPath(),
 					requestUri.getQuery(), requestUri.getFragment());
-			return ClientRequest.from(request).url(requestUri).build();
 		}
 		catch (URISyntaxException ex) {
 			throw new IllegalStateException(ex);
@@ -174,6 +174,7 @@ class WebTestClientRequestConverterTests {
 		assertThat(request.getUri()).isEqualTo(URI.create("http://localhost/foo"));
 		assertThat(request.getMethod()).isEqualTo(HttpMethod.POST);
 		assertThat(request.getContentAsString()).isEqualTo("a=alpha&a=apple&b=br%26vo");
+		assertThat(request.getParts()).isEmpty();
 		assertThat(request.getHeaders().getContentType()).satisfiesAnyOf(
 				(mediaType) -> assertThat(mediaType)
 					.isEqualTo(new MediaType(MediaType.APPLICATION_FORM_URLENCODED, StandardCharsets.UTF_8)),
@@ -313,6 +314,25 @@ class WebTestClientRequestConverterTests {
 		assertThat(part.getContent()).containsExactly(1, 2, 3, 4);
 	}
 
+	@Test
+	void multipartRequestWithMalformedContentHasNoParts() {
+		ExchangeResult result = WebTestClient
+			.bindToRouterFunction(RouterFunctions.route(POST("/foo"), (req) -> ServerResponse.ok().build()))
+			.configureClient()
+			.baseUrl("http://localhost")
+			.build()
+			.post()
+			.uri("/foo")
+			.contentType(MediaType.MULTIPART_FORM_DATA)
+			.bodyValue("not multipart")
+			.exchange()
+			.expectBody()
+			.returnResult();
+		OperationRequest request = this.converter.convert(result);
+		assertThat(request.getContentAsString()).isEqualTo("not multipart");
+		assertThat(request.getParts()).isEmpty();
+	}
+
 	@Test
 	void requestWithCookies() {
 		ExchangeResult result = WebTestClient.bindToRouterFunction(RouterFunctions.route(GET("/foo"), (req) -> null))
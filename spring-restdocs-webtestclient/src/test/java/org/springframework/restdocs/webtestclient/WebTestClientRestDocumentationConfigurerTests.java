@@ -43,10 +43,13 @@ import static org.mockito.Mockito.verify;
 @ExtendWith(RestDocumentationExtension.class)
 class WebTestClientRestDocumentationConfigurerTests {
 
+	private RestDocumentationContextProvider restDocumentation;
+
 	private WebTestClientRestDocumentationConfigurer configurer;
 
 	@BeforeEach
 	void setUp(RestDocumentationContextProvider restDocumentation) {
+		this.restDocumentation = restDocumentation;
 		this.configurer = new WebTestClientRestDocumentationConfigurer(restDocumentation);
 
 	}
@@ -56,10 +59,24 @@ class WebTestClientRestDocumentationConfigurerTests {
 		ClientRequest request = ClientRequest.create(HttpMethod.GET, URI.create("/test"))
 			.header(WebTestClient.WEBTESTCLIENT_REQUEST_ID, "1")
 			.build();
-		this.configurer.filter(request, mock(ExchangeFunction.class));
-		assertThat(WebTestClientRestDocumentationConfigurer.retrieveConfiguration(request.headers())).isNotNull();
-		assertThatIllegalStateException()
-			.isThrownBy(() -> WebTestClientRestDocumentationConfigurer.retrieveConfiguration(request.headers()));
+		ClientRequest filteredRequest = filter(this.configurer, request);
+		assertThat(WebTestClientRestDocumentationConfigurer.retrieveConfiguration(filteredRequest.headers()))
+			.isNotNull();
+		assertThatIllegalStateException().isThrownBy(
+				() -> WebTestClientRestDocumentationConfigurer.retrieveConfiguration(filteredRequest.headers()));
+	}
+
+	@Test
+	void configurationsOfRequestsWithSameIdFromDifferentClientsAreKeptSeparate() {
+		ClientRequest request = ClientRequest.create(HttpMethod.GET, URI.create("/test"))
+			.header(WebTestClient.WEBTESTCLIENT_REQUEST_ID, "1")
+			.build();
+		ClientRequest first = filter(this.configurer, request);
+		ClientRequest second = filter(new WebTestClientRestDocumentationConfigurer(this.restDocumentation), request);
+		assertThat(first.headers().getFirst(WebTestClientRestDocumentationConfigurer.CONFIGURATION_ID_HEADER))
+			.isNotEqualTo(second.headers().getFirst(WebTestClientRestDocumentationConfigurer.CONFIGURATION_ID_HEADER));
+		assertThat(WebTestClientRestDocumentationConfigurer.retrieveConfiguration(first.headers())).isNotNull();
+		assertThat(WebTestClientRestDocumentationConfigurer.retrieveConfiguration(second.headers())).isNotNull();
 	}
 
 	@Test
@@ -88,4 +105,12 @@ class WebTestClientRestDocumentationConfigurerTests {
 			.isEqualTo(URI.create("https://api.example.com:4567/test?foo=bar#baz"));
 	}
 
+	private ClientRequest filter(WebTestClientRestDocumentationConfigurer configurer, ClientRequest request) {
+		ExchangeFunction exchangeFunction = mock(ExchangeFunction.class);
+		configurer.filter(request, exchangeFunction);
+		ArgumentCaptor<ClientRequest> requestCaptor = ArgumentCaptor.forClass(ClientRequest.class);
+		verify(exchangeFunction).exchange(requestCaptor.capture());
+		return requestCaptor.getValue();
+	}
+
 }